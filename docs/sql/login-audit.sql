@@ -0,0 +1,83 @@
+-- 로그인 감사 로그 테이블을 created_at 기준 월별 파티션 테이블로 만듭니다. (MySQL 8)
+-- 새 버전을 시작하기 전에 한 번 실행합니다.
+--
+-- 보존 기간이 지난 로그는 DELETE 대신 파티션을 통째로 삭제하므로(DROP PARTITION) 행 수와 관계없이 바로 끝나며,
+-- 로그인 감사 로그 INSERT를 막지 않습니다.
+-- 파티션 테이블의 기본 키에는 파티션 컬럼(created_at)이 포함되어야 하므로 기본 키는 (id, created_at)입니다.
+
+create table if not exists login_audit (
+    id             bigint      not null auto_increment,
+    created_at     datetime(6) not null,
+    user_id        bigint,
+    username       varchar(100) not null,
+    client_ip      varchar(45),
+    outcome        varchar(20) not null,
+    error_code     varchar(40),
+    latency_micros bigint      not null,
+    primary key (id, created_at),
+    key idx_login_audit_username_created_at (username, created_at)
+)
+partition by range columns (created_at) (
+    partition pmax values less than (maxvalue)
+);
+
+-- ddl-auto=update로 파티션 없는 login_audit가 먼저 만들어진 경우 (선택, 테이블을 다시 쓰므로 한가한 시간에 실행)
+-- alter table login_audit drop primary key, add primary key (id, created_at);
+-- alter table login_audit partition by range columns (created_at) (partition pmax values less than (maxvalue));
+
+-- 이번 달, 다음 달 파티션(pYYYYMM)을 만들고 retention_months개월보다 오래된 파티션을 삭제합니다.
+-- 여러 번 실행해도 결과가 같습니다.
+drop procedure if exists login_audit_rotate;
+
+delimiter //
+
+create procedure login_audit_rotate(in retention_months int)
+begin
+    declare month_start date;
+    declare i int default 0;
+    declare expired text;
+
+    -- pmax를 나누어 이번 달, 다음 달 파티션 추가
+    while i < 2 do
+        set month_start = date_format(current_date, '%Y-%m-01') + interval i month;
+        if not exists (select 1
+                       from information_schema.partitions
+                       where table_schema = database()
+                         and table_name = 'login_audit'
+                         and partition_name = concat('p', date_format(month_start, '%Y%m'))) then
+            set @rotate_sql = concat('alter table login_audit reorganize partition pmax into (',
+                                     'partition p', date_format(month_start, '%Y%m'),
+                                     ' values less than (''', month_start + interval 1 month, '''), ',
+                                     'partition pmax values less than (maxvalue))');
+            prepare rotate_stmt from @rotate_sql;
+            execute rotate_stmt;
+            deallocate prepare rotate_stmt;
+        end if;
+        set i = i + 1;
+    end while;
+
+    -- 보존 기간이 지난 파티션 삭제 (파티션 이름 pYYYYMM은 문자열 순서가 시간 순서와 같음)
+    select group_concat(partition_name)
+    into expired
+    from information_schema.partitions
+    where table_schema = database()
+      and table_name = 'login_audit'
+      and partition_name <> 'pmax'
+      and partition_name < concat('p', date_format(current_date - interval retention_months month, '%Y%m'));
+    if expired is not null then
+        set @rotate_sql = concat('alter table login_audit drop partition ', expired);
+        prepare rotate_stmt from @rotate_sql;
+        execute rotate_stmt;
+        deallocate prepare rotate_stmt;
+    end if;
+end //
+
+delimiter ;
+
+-- 보존 기간: 12개월 (이번 달 포함 13개 파티션 유지)
+call login_audit_rotate(12);
+
+-- 매일 실행 (event_scheduler=ON 필요, 사용하지 않으면 cron 등에서 call login_audit_rotate(12) 실행)
+create event if not exists login_audit_rotate_daily
+    on schedule every 1 day
+    do call login_audit_rotate(12);
@@ -0,0 +1,4 @@
+-- 회원 목록 키셋 페이지네이션용 (created_at, id) 복합 인덱스를 추가합니다. (MySQL)
+-- ddl-auto=update를 사용하지 않는 환경에서 실행합니다.
+
+create index idx_user_created_at_id on user (created_at, id);
@@ -0,0 +1,15 @@
+-- User.id를 AUTO_INCREMENT(IDENTITY)에서 user_seq 블록 할당(pooled-lo)으로 전환합니다. (MySQL)
+-- 새 버전을 시작하기 전에 한 번 실행합니다.
+-- ddl-auto=update로 user_seq가 먼저 만들어진 경우에도 다시 실행하면 올바른 값으로 맞춰집니다. (첫 회원 INSERT 전까지)
+--
+-- pooled-lo: next_val은 다음에 할당할 ID 블록의 첫 번째 값입니다.
+-- 무중단 배포로 이전 버전(AUTO_INCREMENT)과 함께 실행되는 동안에는 ID가 겹치지 않도록
+-- 배포 중 가입할 수 있는 회원 수보다 큰 여유값을 더합니다. (예: + 1000000)
+
+create table if not exists user_seq (next_val bigint);
+
+delete from user_seq;
+insert into user_seq (next_val) select coalesce(max(id), 0) + 1 from user;
+
+-- 이전 버전이 모두 종료된 뒤 (선택): 더 이상 사용하지 않는 AUTO_INCREMENT 제거
+-- alter table user modify id bigint not null;
@@ -0,0 +1,18 @@
+-- username 유니크 키 이름을 uk_user_username으로 맞춥니다. (MySQL)
+-- 회원 일괄 등록은 이 이름으로 username 중복과 다른 저장 오류(길이 초과 등)를 구분합니다.
+-- ddl-auto로 만들어진 기존 키(UK...)는 이름만 바꾸고, 키가 없으면 새로 만듭니다. 다시 실행해도 됩니다.
+
+set @old_name = (select index_name from information_schema.statistics
+                 where table_schema = database() and table_name = 'user'
+                   and column_name = 'username' and non_unique = 0
+                 limit 1);
+
+set @ddl = case
+               when @old_name is null then 'alter table user add constraint uk_user_username unique (username)'
+               when @old_name = 'uk_user_username' then 'do 0'
+               else concat('alter table user rename index `', @old_name, '` to uk_user_username')
+           end;
+
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,64 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil의 토큰 생성/검증/접두사 제거 벤치마크입니다.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    @Param({"jjwt", "compact"})
+    private String codec;
+
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtUtil = new JwtUtil(new AuthMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(jwtUtil, "codec", codec);
+        jwtUtil.init();
+
+        bearerToken = jwtUtil.createToken(1L, UserRole.ROLE_USER, "Hong", "동에 번쩍", 0);
+        token = jwtUtil.substringToken(bearerToken);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, UserRole.ROLE_USER, "Hong", "동에 번쩍", 0);
+    }
+
+    @Benchmark
+    public TokenClaims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public String substringToken() {
+        return jwtUtil.substringToken(bearerToken);
+    }
+}
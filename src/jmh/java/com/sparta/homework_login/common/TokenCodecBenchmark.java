@@ -0,0 +1,58 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.UserRole;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jjwt 코덱과 Hs256TokenCodec의 토큰 생성/검증 성능 비교 벤치마크입니다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=TokenCodecBenchmark (gc 프로파일러로 할당량도 함께 비교 권장)
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenCodecBenchmark {
+
+    @Param({"jjwt", "compact"})
+    private String codecType;
+
+    private TokenCodec codec;
+    private TokenClaims claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        codec = "compact".equals(codecType)
+                ? new Hs256TokenCodec(secret)
+                : new JjwtTokenCodec(Keys.hmacShaKeyFor(secret));
+
+        long now = System.currentTimeMillis() / 1000L;
+        claims = new TokenClaims(1L, UserRole.ROLE_USER, "Hong Gil Dong", "동에 번쩍", 0, now, now + 3600);
+        token = codec.encode(claims);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(claims);
+    }
+
+    @Benchmark
+    public TokenClaims decode() {
+        return codec.decode(token);
+    }
+}
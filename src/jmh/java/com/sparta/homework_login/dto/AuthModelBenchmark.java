@@ -0,0 +1,73 @@
+package com.sparta.homework_login.dto;
+
+import com.sparta.homework_login.common.AuthMetrics;
+import com.sparta.homework_login.common.ErrorResponseTemplates;
+import com.sparta.homework_login.common.JsonUtil;
+import com.sparta.homework_login.dto.response.ErrorResponseDto;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 과정에서 자주 생성되는 객체(권한, 역할, 오류 응답) 벤치마크입니다.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthModelBenchmark {
+
+    private UserDetailsImpl userDetails;
+    private JsonUtil jsonUtil;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        userDetails = new UserDetailsImpl(1L, "Hong", "동에 번쩍", null, UserRole.ROLE_USER, 0);
+        jsonUtil = new JsonUtil(new AuthMetrics(new SimpleMeterRegistry()));
+        request = new MockHttpServletRequest("GET", "/api/users");
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("ROLE_USER");
+    }
+
+    @Benchmark
+    public ErrorResponseDto errorResponseDto() {
+        return new ErrorResponseDto(ErrorCode.TOKEN_TIMEOUT, "http://localhost/api/users");
+    }
+
+    @Benchmark
+    public byte[] errorResponseTemplate() {
+        return ErrorResponseTemplates.render(ErrorCode.TOKEN_TIMEOUT, "http://localhost/api/users", null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse writeBody() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jsonUtil.writeBody(request, response, ErrorCode.TOKEN_TIMEOUT);
+        return response;
+    }
+}
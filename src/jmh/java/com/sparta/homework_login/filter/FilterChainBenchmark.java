@@ -0,0 +1,165 @@
+package com.sparta.homework_login.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.AuthMetrics;
+import com.sparta.homework_login.common.CalibratedBCryptPasswordEncoder;
+import com.sparta.homework_login.common.JsonUtil;
+import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.LoginAuditWriter;
+import com.sparta.homework_login.common.LoginRateLimiter;
+import com.sparta.homework_login.common.LoginRequestParser;
+import com.sparta.homework_login.common.PasswordHashExecutor;
+import com.sparta.homework_login.common.ReadYourWritesGuard;
+import com.sparta.homework_login.common.TokenDenylist;
+import com.sparta.homework_login.common.TokenVersionTable;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.common.VerifiedTokenCache;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.dto.security.UserDetailsServiceImpl;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.AuditOverflowPolicy;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.repository.InMemoryRefreshTokenRepository;
+import com.sparta.homework_login.repository.InMemoryUserRepository;
+import com.sparta.homework_login.repository.UserRepository;
+import com.sparta.homework_login.service.RefreshTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthorizationFilter / JwtAuthenticationFilter 전체 처리와 리프레시 토큰 재발급 벤치마크입니다.
+ * <p>
+ * DB 대신 InMemoryUserRepository를 사용하므로 필터, 캐시, 토큰, bcrypt 비용만 측정합니다.
+ * 로그인은 bcrypt cost 4로 측정합니다. (실제 cost의 비용은 PasswordEncoderBenchmark 참고)
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterChainBenchmark {
+    private static final String LOGIN_URI = "/api/auth/login";
+    private static final String LOGIN_BODY = "{\"username\":\"Hong\",\"password\":\"1q2w3e4r#\"}";
+
+    @Param({"database", "claims"})
+    private String authorizationMode;
+
+    private JwtAuthorizationFilter authorizationFilter;
+    private JwtAuthenticationFilter authenticationFilter;
+    private PasswordHashExecutor passwordHashExecutor;
+    private RefreshTokenService refreshTokenService;
+    private String bearerToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+        JwtUtil jwtUtil = new JwtUtil(authMetrics);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(jwtUtil, "codec", "jjwt");
+        jwtUtil.init();
+
+        PasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(4);
+        User user = User.builder()
+                .id(1L)
+                .username("Hong")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .userRole(UserRole.ROLE_USER)
+                .build();
+        UserRepository userRepository = InMemoryUserRepository.create(user);
+
+        JsonUtil jsonUtil = new JsonUtil(authMetrics);
+        UserCache userCache = new UserCache(userRepository, new ReadYourWritesGuard(5_000, 100_000), 10_000, 300);
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userCache, userRepository, event -> {
+        });
+
+        authorizationFilter = new JwtAuthorizationFilter(jsonUtil, jwtUtil, userDetailsService,
+                new VerifiedTokenCache(10_000), new TokenVersionTable(userRepository, 10_000),
+                new TokenDenylist(100_000, 0.01), "claims".equals(authorizationMode));
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setHideUserNotFoundExceptions(false);
+
+        passwordHashExecutor = new PasswordHashExecutor(1, 1, 1, 10_000);
+        refreshTokenService = new RefreshTokenService(InMemoryRefreshTokenRepository.create(), userCache, jwtUtil, 14);
+        ObjectMapper objectMapper = new ObjectMapper();
+        authenticationFilter = new JwtAuthenticationFilter(jwtUtil, jsonUtil,
+                new LoginRequestParser(objectMapper, 2048, 100, 100),
+                new LoginRateLimiter(false, 30, 60, 10, 10, 100_000, 15), // 같은 사용자로 반복 로그인하므로 제한 끔
+                objectMapper, refreshTokenService,
+                passwordHashExecutor, authMetrics,
+                new LoginAuditWriter(null, null, false, 2, 1, 0, AuditOverflowPolicy.DROP, 0, 0), // 감사 로그 끔
+                false, 0);
+        authenticationFilter.setAuthenticationManager(new ProviderManager(provider));
+
+        bearerToken = jwtUtil.createToken(1L, UserRole.ROLE_USER, "Hong", "동에 번쩍", 0);
+        refreshToken = refreshTokenService.issue((UserDetailsImpl) userDetailsService.loadUserByUsername("Hong"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authorize() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            authorizationFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse login() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN_URI);
+        request.setServletPath(LOGIN_URI);
+        request.setContentType("application/json");
+        request.setContent(LOGIN_BODY.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            authenticationFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    @Benchmark
+    public String refresh() {
+        refreshToken = refreshTokenService.refresh(refreshToken).getRefreshToken();
+        return refreshToken;
+    }
+}
@@ -0,0 +1,135 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.UserRole;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * UserCache가 캐시 미스 때 실행하는 username 조회 한 번의 시간을 조회 방식별로 비교하는 벤치마크입니다.
+ * <ul>
+ *     <li>entity: 이전 방식. findByUsername으로 User 엔티티 전체를 조회한 뒤 UserDetailsImpl로 복사</li>
+ *     <li>projection: 현재 방식. findUserDetailsByUsername으로 필요한 컬럼만 UserDetailsImpl로 바로 조회</li>
+ *     <li>jdbc: 참고용. 같은 SQL을 PreparedStatement로 직접 실행</li>
+ * </ul>
+ * Spring의 읽기 전용 트랜잭션과 같이 세션을 읽기 전용(FlushMode.MANUAL)으로 열며,
+ * H2(MySQL 모드) 메모리 DB를 사용하므로 네트워크 왕복 비용은 포함되지 않습니다. (-prof gc로 할당량도 비교)
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AuthLookupBenchmark {
+    private static final int USERS = 10_000;
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8oVZ6kVZ9pOx8zmHMaZ8Zy.";
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:auth-lookup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // Spring Boot와 같은 컬럼 이름 (user_role 등)
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(User.ID_ALLOCATION_SIZE))
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < USERS; i++) {
+                session.persist(User.builder().username("user-" + i).password(PASSWORD_HASH).nickname("닉네임").build());
+                if ((i + 1) % User.ID_ALLOCATION_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public UserDetailsImpl entity() {
+        return readOnly(session -> session
+                .createSelectionQuery("from User u where u.username = :username", User.class)
+                .setParameter("username", randomUsername())
+                .uniqueResultOptional()
+                .map(user -> new UserDetailsImpl(user.getId(), user.getUsername(), user.getNickname(),
+                        user.getPassword(), user.getUserRole(), user.getTokenVersion()))
+                .orElseThrow());
+    }
+
+    @Benchmark
+    public UserDetailsImpl projection() {
+        return readOnly(session -> session
+                .createSelectionQuery("select new com.sparta.homework_login.dto.security.UserDetailsImpl("
+                        + "u.id, u.username, u.nickname, u.password, u.userRole, u.tokenVersion) "
+                        + "from User u where u.username = :username", UserDetailsImpl.class)
+                .setParameter("username", randomUsername())
+                .uniqueResultOptional()
+                .orElseThrow());
+    }
+
+    @Benchmark
+    public UserDetailsImpl jdbc() {
+        String username = randomUsername();
+        return readOnly(session -> session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select id, username, nickname, password, user_role, token_version from user where username = ?")) {
+                statement.setString(1, username);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    return new UserDetailsImpl(rs.getLong(1), rs.getString(2), rs.getString(3),
+                            rs.getString(4), UserRole.valueOf(rs.getString(5)), rs.getInt(6));
+                }
+            }
+        }));
+    }
+
+    /**
+     * Spring의 @Transactional(readOnly = true)와 같이 읽기 전용 세션에서 실행합니다.
+     */
+    private <T> T readOnly(Function<Session, T> work) {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            return work.apply(session);
+        });
+    }
+
+    private static String randomUsername() {
+        return "user-" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+}
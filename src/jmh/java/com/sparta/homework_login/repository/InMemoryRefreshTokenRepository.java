@@ -0,0 +1,65 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.entity.RefreshToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 메모리 기반 RefreshTokenRepository 입니다.
+ * <p>
+ * findByTokenHash, save, markUsed, revokeFamily만 지원하며 그 외 메서드는 UnsupportedOperationException을 발생시킵니다.
+ *
+ * @since 2026-10-18
+ */
+public final class InMemoryRefreshTokenRepository {
+
+    private InMemoryRefreshTokenRepository() {
+    }
+
+    public static RefreshTokenRepository create() {
+        AtomicLong sequence = new AtomicLong();
+        Map<Long, RefreshToken> byId = new ConcurrentHashMap<>();
+        Map<String, RefreshToken> byTokenHash = new ConcurrentHashMap<>();
+
+        return (RefreshTokenRepository) Proxy.newProxyInstance(
+                RefreshTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RefreshTokenRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByTokenHash" -> Optional.ofNullable(byTokenHash.get((String) args[0]));
+                    case "save" -> {
+                        RefreshToken token = (RefreshToken) args[0];
+                        ReflectionTestUtils.setField(token, "id", sequence.incrementAndGet());
+                        byId.put(token.getId(), token);
+                        byTokenHash.put(token.getTokenHash(), token);
+                        yield token;
+                    }
+                    case "markUsed" -> {
+                        RefreshToken token = byId.get((Long) args[0]);
+                        if (token == null || token.isUsed()) {
+                            yield 0;
+                        }
+                        ReflectionTestUtils.setField(token, "used", true);
+                        yield 1;
+                    }
+                    case "revokeFamily" -> {
+                        int revoked = 0;
+                        for (RefreshToken token : byId.values()) {
+                            if (token.getFamilyId().equals(args[0])) {
+                                ReflectionTestUtils.setField(token, "revoked", true);
+                                revoked++;
+                            }
+                        }
+                        yield revoked;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryRefreshTokenRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.entity.User;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 메모리 기반 UserRepository 입니다.
+ * <p>
+ * findByUsername, findUserDetailsByUsername, findById, findTokenVersionById, save, existsById, count만 지원하며 그 외 메서드는 UnsupportedOperationException을 발생시킵니다.
+ *
+ * @since 2026-10-18
+ */
+public final class InMemoryUserRepository {
+
+    private InMemoryUserRepository() {
+    }
+
+    public static UserRepository create(User... users) {
+        Map<Long, User> byId = new ConcurrentHashMap<>();
+        Map<String, User> byUsername = new ConcurrentHashMap<>();
+        for (User user : users) {
+            byId.put(user.getId(), user);
+            byUsername.put(user.getUsername(), user);
+        }
+
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByUsername" -> Optional.ofNullable(byUsername.get((String) args[0]));
+                    case "findUserDetailsByUsername" -> Optional.ofNullable(byUsername.get((String) args[0]))
+                            .map(user -> new UserDetailsImpl(user.getId(), user.getUsername(), user.getNickname(),
+                                    user.getPassword(), user.getUserRole(), user.getTokenVersion()));
+                    case "findById" -> Optional.ofNullable(byId.get((Long) args[0]));
+                    case "findTokenVersionById" -> Optional.ofNullable(byId.get((Long) args[0])).map(User::getTokenVersion);
+                    case "existsById" -> byId.containsKey((Long) args[0]);
+                    case "count" -> (long) byId.size();
+                    case "save" -> {
+                        User user = (User) args[0];
+                        byId.put(user.getId(), user);
+                        byUsername.put(user.getUsername(), user);
+                        yield user;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,109 @@
+package com.sparta.homework_login.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sparta.homework_login.common.UserExportWriter;
+import com.sparta.homework_login.dto.response.UserSummaryResponseDto;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.UserFileFormat;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 회원 N명 전체를 내보내는 시간을 형식별로 측정하는 벤치마크입니다. (AdminUserService.exportUsers와 같은 쿼리, 같은 Writer)
+ * <p>
+ * 회원 수보다 훨씬 작은 힙(-Xmx256m)으로 실행하므로, 전체 목록을 메모리에 올리면 OutOfMemoryError로 실패하고
+ * 앞으로만 읽는 커서로 한 명씩 내보내면 회원 수와 관계없이 끝까지 실행됩니다.
+ * 회원 정보는 힙 밖에 두기 위해 H2(MySQL 모드) 파일 DB(build/jmh)에 저장하며, 출력은 버립니다.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserExportBenchmark {
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8oVZ6kVZ9pOx8zmHMaZ8Zy.";
+
+    @Param({"1000000", "5000000"})
+    private int users;
+
+    @Param({"NDJSON", "CSV"})
+    private UserFileFormat format;
+
+    private SessionFactory sessionFactory;
+    private UserExportWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:./build/jmh/user-export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;LAZY_QUERY_EXECUTION=1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // Spring Boot와 같은 컬럼 이름 (created_at 등)
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .buildSessionFactory();
+
+        // 엔티티를 거치지 않고 DB 안에서 바로 생성 (가입 시각은 1초 간격)
+        sessionFactory.inTransaction(session -> session
+                .createNativeMutationQuery("insert into user (id, username, password, user_role, nickname, token_version, created_at, updated_at) "
+                        + "select x, concat('user-', x), :password, 'ROLE_USER', '동에, \"번쩍\"', 0, "
+                        + "dateadd('SECOND', x, timestamp '2026-01-01 00:00:00'), null from system_range(1, :users)")
+                .setParameter("password", PASSWORD_HASH)
+                .setParameter("users", users)
+                .executeUpdate());
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules() // Spring Boot와 같이 LocalDateTime을 ISO 문자열로 출력
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = new UserExportWriter(objectMapper);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long export() {
+        return sessionFactory.fromTransaction(session -> {
+            try (Stream<UserSummaryResponseDto> stream = session
+                    .createQuery("select new com.sparta.homework_login.dto.response.UserSummaryResponseDto("
+                            + "u.id, u.username, u.nickname, u.userRole, u.createdAt) from User u order by u.id", UserSummaryResponseDto.class)
+                    .setFetchSize(1000) // UserRepository.streamSummaries와 같은 값
+                    .getResultStream()) {
+                return writer.write(stream, format, OutputStream.nullOutputStream());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.entity.Timestamped;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.UserRole;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 N명을 한 트랜잭션에서 저장하는 시간을 ID 생성 방식별로 비교하는 벤치마크입니다.
+ * <ul>
+ *     <li>IDENTITY: 이전 User.id 방식. 키를 알기 위해 INSERT를 한 건씩 바로 실행 (배치 불가)</li>
+ *     <li>POOLED: 현재 User.id 방식. user_seq에서 ID 블록을 할당받고 INSERT를 batch_size개씩 전송</li>
+ * </ul>
+ * H2(MySQL 모드) 메모리 DB를 사용하므로 네트워크 왕복 비용은 포함되지 않습니다.
+ * 실제 MySQL에서는 INSERT 한 건마다 왕복이 추가되므로 차이가 더 커집니다.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UserInsertBenchmark {
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z8oVZ6kVZ9pOx8zmHMaZ8Zy.";
+
+    @Param({"1000", "10000", "100000"})
+    private int users;
+
+    @Param({"IDENTITY", "POOLED"})
+    private String strategy;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(IdentityUser.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:user-insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // JpaBatchConfig와 같은 설정
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(User.ID_ALLOCATION_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from User").executeUpdate();
+            session.createMutationQuery("delete from IdentityUser").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        boolean identity = "IDENTITY".equals(strategy);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < users; i++) {
+                String username = "user-" + i;
+                session.persist(identity
+                        ? new IdentityUser(username, PASSWORD_HASH, "닉네임")
+                        : User.builder().username(username).password(PASSWORD_HASH).nickname("닉네임").build());
+                if ((i + 1) % User.ID_ALLOCATION_SIZE == 0) {
+                    session.flush();
+                    session.clear(); // UserImportService와 같이 저장한 엔티티를 바로 분리
+                }
+            }
+        });
+    }
+
+    /**
+     * 이전 방식(IDENTITY)의 User 엔티티입니다. (컬럼 구성은 User와 동일)
+     */
+    @Entity(name = "IdentityUser")
+    @Table(name = "identity_user")
+    public static class IdentityUser extends Timestamped {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(unique = true)
+        private String username;
+
+        @Column
+        private String password;
+
+        @Enumerated(EnumType.STRING)
+        private UserRole userRole = UserRole.ROLE_USER;
+
+        @Column
+        private String nickname;
+
+        @Column
+        private int tokenVersion;
+
+        protected IdentityUser() {
+        }
+
+        IdentityUser(String username, String password, String nickname) {
+            this.username = username;
+            this.password = password;
+            this.nickname = nickname;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.dto.response.UserSummaryResponseDto;
+import com.sparta.homework_login.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 목록 page번째 페이지 조회 시간을 OFFSET 방식과 키셋 방식으로 비교하는 벤치마크입니다.
+ * <p>
+ * 회원 200,050명(20명씩 10,000 페이지 이상)을 H2(MySQL 모드) 메모리 DB에 저장한 뒤 측정합니다.
+ * OFFSET은 앞 페이지의 행을 모두 읽고 버리므로 페이지가 깊어질수록 느려지고,
+ * 키셋(AdminUserService)은 (created_at, id) 인덱스에서 바로 시작 위치를 찾으므로 페이지 깊이와 관계없이 일정합니다.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class UserPageBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int USERS = 10_000 * PAGE_SIZE + 50;
+    private static final String SELECT = "select new com.sparta.homework_login.dto.response.UserSummaryResponseDto("
+            + "u.id, u.username, u.nickname, u.userRole, u.createdAt) from User u ";
+
+    @Param({"1", "100", "1000", "10000"})
+    private int page;
+
+    private SessionFactory sessionFactory;
+    private UserSummaryResponseDto previousLast;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:user-page;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                // Spring Boot와 같은 컬럼 이름 (created_at 등)
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(User.ID_ALLOCATION_SIZE))
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < USERS; i++) {
+                session.persist(User.builder().username("user-" + i).password("{noop}").nickname("닉네임").build());
+                if ((i + 1) % User.ID_ALLOCATION_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+        // 벤치마크에는 Spring Data 감사(auditing)가 없으므로 가입 시각을 직접 채움
+        sessionFactory.inTransaction(session -> session
+                .createNativeMutationQuery("update user set created_at = dateadd('MILLISECOND', id, timestamp '2026-01-01 00:00:00')")
+                .executeUpdate());
+
+        int offset = (page - 1) * PAGE_SIZE;
+        previousLast = offset == 0 ? null : sessionFactory.fromTransaction(session -> session
+                .createQuery(SELECT + "order by u.createdAt, u.id", UserSummaryResponseDto.class)
+                .setFirstResult(offset - 1)
+                .setMaxResults(1)
+                .getSingleResult());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<UserSummaryResponseDto> offset() {
+        return sessionFactory.fromTransaction(session -> session
+                .createQuery(SELECT + "order by u.createdAt, u.id", UserSummaryResponseDto.class)
+                .setFirstResult((page - 1) * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<UserSummaryResponseDto> keyset() {
+        if (previousLast == null) {
+            return sessionFactory.fromTransaction(session -> session
+                    .createQuery(SELECT + "order by u.createdAt, u.id", UserSummaryResponseDto.class)
+                    .setMaxResults(PAGE_SIZE + 1)
+                    .getResultList());
+        }
+        return sessionFactory.fromTransaction(session -> session
+                .createQuery(SELECT + "where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id) "
+                        + "order by u.createdAt, u.id", UserSummaryResponseDto.class)
+                .setParameter("createdAt", previousLast.getCreatedAt())
+                .setParameter("id", previousLast.getId())
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList());
+    }
+}
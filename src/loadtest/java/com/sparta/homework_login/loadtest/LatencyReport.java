@@ -0,0 +1,116 @@
+package com.sparta.homework_login.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 종류별 / 요청 종류 + 응답 코드별 지연 시간 집계 클래스입니다.
+ * <p>
+ * 응답 시간(response)은 요청이 보내졌어야 할 예정 시각부터 측정하여 coordinated omission을 보정한 값이고,
+ * 처리 시간(service)은 실제로 요청을 보낸 시각부터 측정한 값입니다. 두 값의 차이가 크면 부하 발생기가 밀린 것입니다.
+ *
+ * @since 2026-10-18
+ */
+public class LatencyReport {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> responseTimes = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> serviceTimes = new ConcurrentHashMap<>();
+    private long elapsedNanos;
+
+    /**
+     * 요청 결과를 기록합니다.
+     *
+     * @param result        요청 결과
+     * @param intendedNanos 요청 예정 시각 (System.nanoTime 기준)
+     * @param completedNanos 응답 완료 시각 (System.nanoTime 기준)
+     */
+    public void record(Workload.Result result, long intendedNanos, long completedNanos) {
+        long responseMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos);
+        long serviceMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - result.getSentAtNanos());
+        String endpoint = result.getOperation().getEndpoint();
+        String endpointAndCode = endpoint + " " + result.getStatus() + " " + result.getCode();
+
+        histogram(responseTimes, endpoint).recordValue(responseMicros);
+        histogram(responseTimes, endpointAndCode).recordValue(responseMicros);
+        histogram(serviceTimes, endpoint).recordValue(serviceMicros);
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * 집계 결과를 표 형태로 출력합니다. (단위: ms)
+     *
+     * @param out 출력 대상
+     */
+    public void print(PrintStream out) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        out.printf("%n측정 시간: %.1fs%n", seconds);
+        out.printf("%-48s %8s %9s %9s %9s %9s %9s %9s %12s%n",
+                "endpoint / status / code", "count", "rps", "p50", "p90", "p99", "p99.9", "max", "service p99");
+
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(responseTimes).entrySet()) {
+            Histogram histogram = entry.getValue();
+            Histogram service = serviceTimes.get(entry.getKey());
+            out.printf("%-48s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %12s%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    seconds > 0 ? histogram.getTotalCount() / seconds : 0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    service == null ? "" : String.format("%.2f", millis(service.getValueAtPercentile(99))));
+        }
+    }
+
+    /**
+     * 두 실행 결과의 요청 종류별 처리량과 지연 시간을 나란히 출력합니다. (단위: ms)
+     *
+     * @param out    출력 대상
+     * @param labelA 첫 번째 실행 이름
+     * @param a      첫 번째 실행 결과
+     * @param labelB 두 번째 실행 이름
+     * @param b      두 번째 실행 결과
+     */
+    public static void printComparison(PrintStream out, String labelA, LatencyReport a, String labelB, LatencyReport b) {
+        out.printf("%n%-24s %-10s %9s %9s %9s %9s %9s%n", "endpoint", "mode", "rps", "p50", "p99", "p99.9", "max");
+        for (Operation operation : Operation.values()) {
+            String endpoint = operation.getEndpoint();
+            a.printSummary(out, endpoint, labelA);
+            b.printSummary(out, endpoint, labelB);
+        }
+    }
+
+    private void printSummary(PrintStream out, String endpoint, String label) {
+        Histogram histogram = responseTimes.get(endpoint);
+        if (histogram == null) {
+            return;
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        out.printf("%-24s %-10s %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, label,
+                seconds > 0 ? histogram.getTotalCount() / seconds : 0,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static Histogram histogram(Map<String, Histogram> histograms, String key) {
+        return histograms.computeIfAbsent(key, k -> new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.sparta.homework_login.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model)로 요청을 발생시키는 부하 발생기입니다.
+ * <p>
+ * 요청 예정 시각은 응답과 상관없이 도착률(loadtest.rate)로 미리 정해지며,
+ * 동시 처리 한도(loadtest.concurrency)에 걸려 늦게 보내진 요청도 예정 시각부터 지연 시간을 측정합니다.
+ *
+ * @since 2026-10-18
+ */
+public class LoadGenerator {
+    private final LoadTestConfig config;
+    private final Workload workload;
+    private final SplittableRandom random = new SplittableRandom();
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    public LoadGenerator(LoadTestConfig config, Workload workload) {
+        this.config = config;
+        this.workload = workload;
+
+        Map<Operation, Integer> mix = config.getMix();
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 시간 동안 부하를 발생시키고 결과를 반환합니다.
+     *
+     * @return 지연 시간 집계 결과
+     */
+    public LatencyReport run() throws InterruptedException {
+        LatencyReport report = new LatencyReport();
+        Semaphore inFlight = new Semaphore(config.getConcurrency());
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        long intended = start;
+        while (intended < end) {
+            parkUntil(intended);
+            inFlight.acquire();
+
+            long intendedAt = intended;
+            boolean measured = intendedAt >= measureStart;
+            workload.execute(nextOperation()).whenComplete((result, ex) -> {
+                inFlight.release();
+                if (measured && result != null) {
+                    report.record(result, intendedAt, System.nanoTime());
+                }
+            });
+
+            intended += nextInterval(meanIntervalNanos);
+        }
+
+        inFlight.acquire(config.getConcurrency()); // 남은 요청 완료 대기
+        report.setElapsedNanos(end - measureStart);
+        return report;
+    }
+
+    private Operation nextOperation() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private long nextInterval(double meanIntervalNanos) {
+        if (!config.isPoisson()) {
+            return Math.max(1, (long) meanIntervalNanos);
+        }
+        return Math.max(1, (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos));
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
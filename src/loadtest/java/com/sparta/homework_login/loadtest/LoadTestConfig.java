@@ -0,0 +1,79 @@
+package com.sparta.homework_login.loadtest;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정 클래스입니다. (시스템 프로퍼티 loadtest.* 에서 읽음)
+ * <ul>
+ *     <li>loadtest.rate: 초당 요청 도착 수 (기본값: 50)</li>
+ *     <li>loadtest.duration / loadtest.warmup: 측정 시간 / 워밍업 시간(초) (기본값: 60 / 10)</li>
+ *     <li>loadtest.concurrency: 동시에 처리 중일 수 있는 최대 요청 수 (기본값: 256)</li>
+ *     <li>loadtest.mix: 요청 비율 (기본값: signup=10,login=50,update=30,delete=10)</li>
+ *     <li>loadtest.users: 시작 전에 가입/로그인시켜 둘 사용자 수 (기본값: 200)</li>
+ *     <li>loadtest.arrival: 도착 간격 분포 poisson / uniform (기본값: poisson)</li>
+ *     <li>loadtest.target: 대상 서버 주소, 지정하면 애플리케이션을 직접 실행하지 않음</li>
+ *     <li>loadtest.app.*: 애플리케이션 실행 인자로 전달 (예: loadtest.app.jwt.codec=compact)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+public class LoadTestConfig {
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    private final double rate;
+    private final long durationSeconds;
+    private final long warmupSeconds;
+    private final int concurrency;
+    private final Map<Operation, Integer> mix;
+    private final int users;
+    private final boolean poisson;
+    private final String target;
+    private final Map<String, String> appProperties;
+
+    private LoadTestConfig(Properties properties) {
+        this.rate = Double.parseDouble(properties.getProperty(PREFIX + "rate", "50"));
+        this.durationSeconds = Long.parseLong(properties.getProperty(PREFIX + "duration", "60"));
+        this.warmupSeconds = Long.parseLong(properties.getProperty(PREFIX + "warmup", "10"));
+        this.concurrency = Integer.parseInt(properties.getProperty(PREFIX + "concurrency", "256"));
+        this.mix = parseMix(properties.getProperty(PREFIX + "mix", "signup=10,login=50,update=30,delete=10"));
+        this.users = Integer.parseInt(properties.getProperty(PREFIX + "users", "200"));
+        this.poisson = !"uniform".equalsIgnoreCase(properties.getProperty(PREFIX + "arrival", "poisson"));
+        this.target = properties.getProperty(PREFIX + "target");
+        this.appProperties = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(APP_PREFIX)) {
+                appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+
+        if (rate <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("loadtest.rate, loadtest.concurrency는 0보다 커야 합니다.");
+        }
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(System.getProperties());
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + value);
+            }
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix 비율의 합은 0보다 커야 합니다: " + value);
+        }
+        return mix;
+    }
+}
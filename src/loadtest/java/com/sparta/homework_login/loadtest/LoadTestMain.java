@@ -0,0 +1,103 @@
+package com.sparta.homework_login.loadtest;
+
+import com.sparta.homework_login.HomeworkLoginApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 실행 클래스입니다. (./gradlew loadTest)
+ * <p>
+ * loadtest.target이 없으면 애플리케이션을 임의 포트와 H2(MySQL 모드) 메모리 DB로 실행한 뒤 부하를 발생시킵니다.
+ *
+ * @since 2026-10-18
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        run(config, Map.of()).print(System.out);
+    }
+
+    /**
+     * 애플리케이션을 실행(또는 loadtest.target에 연결)하고 부하를 발생시킨 뒤 집계 결과를 반환합니다.
+     *
+     * @param config       부하 테스트 설정
+     * @param appOverrides 이번 실행에만 적용할 애플리케이션 설정
+     * @return 지연 시간 집계 결과
+     */
+    static LatencyReport run(LoadTestConfig config, Map<String, String> appOverrides) throws Exception {
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.getTarget();
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(HomeworkLoginApplication.class).run(applicationArgs(config, appOverrides));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(config.getConcurrency(), 64), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+            Workload workload = new Workload(client, baseUrl);
+
+            System.out.printf("대상: %s, 사용자 %d명 준비 중...%n", baseUrl, config.getUsers());
+            workload.seed(config.getUsers(), Math.min(config.getConcurrency(), 32));
+
+            System.out.printf("부하 발생: %.1f req/s (%s), 워밍업 %ds, 측정 %ds, 동시 처리 한도 %d, 비율 %s%n",
+                    config.getRate(), config.isPoisson() ? "poisson" : "uniform",
+                    config.getWarmupSeconds(), config.getDurationSeconds(), config.getConcurrency(), config.getMix());
+            return new LoadGenerator(config, workload).run();
+        } finally {
+            executor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 실행 인자를 만듭니다. 명령행 인자는 application.yml 보다 우선합니다.
+     */
+    private static String[] applicationArgs(LoadTestConfig config, Map<String, String> appOverrides) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString(secret));
+        properties.put("logging.level.root", "WARN");
+        properties.put("login.throttle.enabled", "false"); // 모든 요청이 같은 IP에서 발생
+        properties.putAll(config.getAppProperties());
+        properties.putAll(appOverrides);
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return args.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.homework_login.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트에서 발생시키는 요청 종류입니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+    SIGNUP("POST /api/auth/users"),
+    LOGIN("POST /api/auth/login"),
+    UPDATE("PUT /api/users"),
+    DELETE("DELETE /api/users");
+
+    private final String endpoint;
+}
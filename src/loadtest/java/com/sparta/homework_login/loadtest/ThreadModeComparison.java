@@ -0,0 +1,31 @@
+package com.sparta.homework_login.loadtest;
+
+import java.util.Map;
+
+/**
+ * 같은 부하를 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)로 각각 실행하고
+ * 처리량과 지연 시간을 비교합니다. (./gradlew loadTestThreadModes)
+ * <p>
+ * 플랫폼 스레드 수의 한계를 확인하려면 loadtest.app.server.tomcat.threads.max로 Tomcat 스레드 수를 줄여서 실행합니다.
+ *
+ * @since 2026-10-18
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        if (config.getTarget() != null) {
+            throw new IllegalArgumentException("loadtest.target을 지정하면 스레드 모드를 바꿔 실행할 수 없습니다.");
+        }
+
+        System.out.println("=== platform threads ===");
+        LatencyReport platform = LoadTestMain.run(config, Map.of("spring.threads.virtual.enabled", "false"));
+        platform.print(System.out);
+
+        System.out.println("\n=== virtual threads ===");
+        LatencyReport virtual = LoadTestMain.run(config, Map.of("spring.threads.virtual.enabled", "true"));
+        virtual.print(System.out);
+
+        LatencyReport.printComparison(System.out, "platform", platform, "virtual", virtual);
+    }
+}
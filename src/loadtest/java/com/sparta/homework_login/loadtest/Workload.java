@@ -0,0 +1,236 @@
+package com.sparta.homework_login.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.enums.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 요청을 만들고 전송하는 클래스입니다.
+ * <p>
+ * 가입한 사용자를 로그아웃/로그인 상태 풀로 나누어 관리하며, 한 사용자는 동시에 하나의 요청에만 사용됩니다.
+ * 필요한 상태의 사용자가 없으면 요청을 바꿉니다. (수정/탈퇴 → 로그인 → 회원가입)
+ *
+ * @since 2026-10-18
+ */
+public class Workload {
+    private static final String[] PASSWORDS = {"1q2w3e4r#", "Admin123!"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<String, String> ERROR_CODES = new HashMap<>();
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ERROR_CODES.put(errorCode.getMessage(), errorCode.name());
+        }
+    }
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String runId;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong userSequence = new AtomicLong();
+    private final Queue<Account> loggedOut = new ConcurrentLinkedQueue<>();
+    private final Queue<Account> loggedIn = new ConcurrentLinkedQueue<>();
+
+    public Workload(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.runId = Long.toString(System.currentTimeMillis() % 100_000, 36);
+    }
+
+    /**
+     * 측정 전에 사용자를 가입시키고 로그인시켜 둡니다.
+     *
+     * @param users       준비할 사용자 수
+     * @param concurrency 동시에 보낼 최대 요청 수
+     */
+    public void seed(int users, int concurrency) {
+        runPhase(Operation.SIGNUP, users, concurrency);
+        runPhase(Operation.LOGIN, users, concurrency);
+    }
+
+    /**
+     * 요청을 비동기로 전송합니다. 전송 실패(연결 오류 등)도 Result로 반환합니다.
+     *
+     * @param requested 요청 종류 (필요한 사용자가 없으면 다른 요청으로 바뀜)
+     * @return 요청 결과
+     */
+    public CompletableFuture<Result> execute(Operation requested) {
+        Operation operation = requested;
+        Account account = null;
+        if (operation == Operation.UPDATE || operation == Operation.DELETE) {
+            account = loggedIn.poll();
+            if (account == null) {
+                operation = Operation.LOGIN;
+            }
+        }
+        if (operation == Operation.LOGIN) {
+            account = loggedOut.poll();
+            if (account == null) {
+                account = loggedIn.poll();
+            }
+            if (account == null) {
+                operation = Operation.SIGNUP;
+            }
+        }
+        if (operation == Operation.SIGNUP) {
+            long sequence = userSequence.incrementAndGet();
+            account = new Account("lt-" + runId + "-" + sequence, PASSWORDS[0], "부하" + sequence);
+        }
+
+        Operation op = operation;
+        Account target = account;
+        HttpRequest request = buildRequest(op, target);
+        long sentAt = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        release(op, target, 0, null);
+                        return new Result(op, 0, "IO_ERROR", sentAt);
+                    }
+                    release(op, target, response.statusCode(), response.headers().firstValue("Authorization").orElse(null));
+                    return new Result(op, response.statusCode(), resolveCode(response), sentAt);
+                });
+    }
+
+    private HttpRequest buildRequest(Operation operation, Account account) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+
+        switch (operation) {
+            case SIGNUP -> builder.uri(URI.create(baseUrl + "/api/auth/users"))
+                    .POST(body(Map.of("username", account.username, "password", account.password, "nickname", account.nickname)));
+            case LOGIN -> builder.uri(URI.create(baseUrl + "/api/auth/login"))
+                    .POST(body(Map.of("username", account.username, "password", account.password)));
+            case UPDATE -> builder.uri(URI.create(baseUrl + "/api/users"))
+                    .header("Authorization", account.token)
+                    .PUT(body(Map.of("oriPassword", account.password, "newPassword", account.nextPassword(), "nickname", account.nickname)));
+            case DELETE -> builder.uri(URI.create(baseUrl + "/api/users"))
+                    .header("Authorization", account.token)
+                    .method("DELETE", body(Map.of("password", account.password)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 응답에 따라 사용자를 알맞은 풀로 되돌립니다.
+     */
+    private void release(Operation operation, Account account, int status, String token) {
+        switch (operation) {
+            case SIGNUP -> {
+                if (status == 201) {
+                    loggedOut.add(account);
+                }
+            }
+            case LOGIN -> {
+                if (status == 200 && token != null) {
+                    account.token = token;
+                    loggedIn.add(account);
+                } else if (status != 404) {
+                    loggedOut.add(account);
+                }
+            }
+            case UPDATE -> {
+                if (status == 200) {
+                    account.password = account.nextPassword();
+                    account.token = null; // 회원 정보 수정 시 기존 토큰은 폐기됨
+                    loggedOut.add(account);
+                } else if (status == 401) {
+                    account.token = null;
+                    loggedOut.add(account);
+                } else if (status != 404) {
+                    loggedIn.add(account);
+                }
+            }
+            case DELETE -> {
+                if (status != 204 && status != 404) {
+                    loggedIn.add(account);
+                }
+            }
+        }
+    }
+
+    private String resolveCode(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 400) {
+            return "OK";
+        }
+        try {
+            JsonNode message = objectMapper.readTree(response.body()).get("message");
+            if (message != null && ERROR_CODES.containsKey(message.asText())) {
+                return ERROR_CODES.get(message.asText());
+            }
+        } catch (JsonProcessingException ignored) {
+            // JSON이 아닌 응답은 HTTP 상태 코드로 구분
+        }
+        return "HTTP_" + status;
+    }
+
+    private HttpRequest.BodyPublisher body(Map<String, String> fields) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(fields));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void runPhase(Operation operation, int count, int concurrency) {
+        Semaphore permits = new Semaphore(concurrency);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+        for (int i = 0; i < count; i++) {
+            permits.acquireUninterruptibly();
+            futures[i] = execute(operation).whenComplete((result, ex) -> permits.release());
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * 요청 결과입니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final Operation operation;
+        private final int status;
+        private final String code;
+        private final long sentAtNanos;
+    }
+
+    /**
+     * 부하 테스트용 사용자 계정입니다.
+     */
+    private static class Account {
+        private final String username;
+        private final String nickname;
+        private String password;
+        private String token;
+
+        private Account(String username, String password, String nickname) {
+            this.username = username;
+            this.password = password;
+            this.nickname = nickname;
+        }
+
+        private String nextPassword() {
+            return PASSWORDS[0].equals(password) ? PASSWORDS[1] : PASSWORDS[0];
+        }
+    }
+}
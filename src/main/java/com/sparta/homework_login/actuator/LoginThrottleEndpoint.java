@@ -0,0 +1,58 @@
+package com.sparta.homework_login.actuator;
+
+import com.sparta.homework_login.common.LoginRateLimiter;
+import com.sparta.homework_login.common.TokenBucketLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 시도 제한 상태를 보여주는 actuator 엔드포인트입니다. (GET /actuator/loginthrottle?limit=10)
+ * <p>
+ * 클라이언트 IP / username별 설정, 추적 중인 키 수, 거절 수와 거절 횟수가 많은 키 목록을 반환합니다.
+ * username과 IP가 포함되므로 관리자(ROLE_ADMIN)만 조회할 수 있습니다.
+ *
+ * @since 2026-10-18
+ */
+@Component
+@Endpoint(id = "loginthrottle")
+@RequiredArgsConstructor
+public class LoginThrottleEndpoint {
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    /**
+     * 로그인 시도 제한 상태를 반환합니다.
+     *
+     * @param limit 반환할 거절 키 수 (기본값 10, 최대 100)
+     * @return 로그인 시도 제한 상태
+     * @since 2026-10-18
+     */
+    @ReadOperation
+    public Map<String, Object> throttle(@Nullable Integer limit) {
+        int topLimit = limit == null ? DEFAULT_LIMIT : Math.max(0, Math.min(limit, MAX_LIMIT));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", loginRateLimiter.isEnabled());
+        result.put("client", describe(loginRateLimiter.getClientLimiter(), topLimit));
+        result.put("username", describe(loginRateLimiter.getUsernameLimiter(), topLimit));
+        return result;
+    }
+
+    private static Map<String, Object> describe(TokenBucketLimiter limiter, int topLimit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("capacity", limiter.getCapacity());
+        result.put("refillPerMinute", limiter.getRefillPerSecond() * 60.0);
+        result.put("trackedKeys", limiter.size());
+        result.put("throttled", limiter.getThrottledCount());
+        result.put("topThrottled", limiter.topThrottled(topLimit));
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.AuthOutcome;
+import com.sparta.homework_login.enums.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 1건의 접근 로그 정보입니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class AccessLogRecord {
+    private final long timestampMillis;
+    private final String method;
+    private final String route;
+    private final int status;
+    private final long latencyMicros;
+    private final AuthOutcome authOutcome;
+    private final ErrorCode errorCode;
+}
@@ -0,0 +1,205 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.AuthOutcome;
+import com.sparta.homework_login.enums.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청별 접근 로그를 비동기로 기록하는 클래스입니다.
+ * <p>
+ * 요청 처리 스레드는 AccessLogRecord를 락 없는 링 버퍼(BoundedRingBuffer)에 넣기만 하고,
+ * 전용 스레드 하나가 버퍼를 비우며 ACCESS_LOG 로거에 JSON 한 줄로 기록합니다.
+ * 디스크가 느려 버퍼가 가득 차면 요청 처리 스레드는 기다리지 않고 해당 로그를 버립니다. (access.log.dropped)
+ * <ul>
+ *     <li>access-log.enabled: 접근 로그 사용 여부 (기본값: true)</li>
+ *     <li>access-log.buffer-size: 링 버퍼 크기, 2의 거듭제곱으로 올림 (기본값: 8192)</li>
+ *     <li>access-log.success-sample-rate: 성공 요청 기록 비율 0.0~1.0 (기본값: 0.1), 실패 요청(4xx/5xx)은 모두 기록</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class AccessLogWriter {
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final String ERROR_CODE_ATTRIBUTE = AccessLogWriter.class.getName() + ".ERROR_CODE";
+    private static final String AUTH_OUTCOME_ATTRIBUTE = AccessLogWriter.class.getName() + ".AUTH_OUTCOME";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final boolean enabled;
+    private final double successSampleRate;
+    private final BoundedRingBuffer<AccessLogRecord> buffer;
+    private final Thread consumer;
+    private final StringBuilder line = new StringBuilder(256); // consumer 스레드 전용
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private volatile boolean running = true;
+
+    public AccessLogWriter(@Value("${access-log.enabled:true}") boolean enabled,
+                           @Value("${access-log.buffer-size:8192}") int bufferSize,
+                           @Value("${access-log.success-sample-rate:0.1}") double successSampleRate) {
+        this.enabled = enabled;
+        this.successSampleRate = successSampleRate;
+        this.buffer = new BoundedRingBuffer<>(Math.max(2, Integer.highestOneBit(Math.max(1, bufferSize - 1)) << 1));
+        this.consumer = new Thread(this::drainLoop, "access-log-writer");
+        this.consumer.setDaemon(true);
+        if (enabled) {
+            this.consumer.start();
+        }
+    }
+
+    /**
+     * 응답에 담긴 오류 코드를 접근 로그용으로 요청에 기록합니다.
+     *
+     * @param req       HTTP 요청 객체
+     * @param errorCode 응답 오류 코드
+     * @since 2026-10-18
+     */
+    public static void setErrorCode(HttpServletRequest req, ErrorCode errorCode) {
+        req.setAttribute(ERROR_CODE_ATTRIBUTE, errorCode);
+    }
+
+    /**
+     * 요청의 인증 결과를 접근 로그용으로 요청에 기록합니다.
+     *
+     * @param req     HTTP 요청 객체
+     * @param outcome 인증 결과
+     * @since 2026-10-18
+     */
+    public static void setAuthOutcome(HttpServletRequest req, AuthOutcome outcome) {
+        req.setAttribute(AUTH_OUTCOME_ATTRIBUTE, outcome);
+    }
+
+    /**
+     * 처리가 끝난 요청의 접근 로그를 버퍼에 넣습니다. 요청 처리 스레드를 막지 않습니다.
+     *
+     * @param req        HTTP 요청 객체
+     * @param res        HTTP 응답 객체
+     * @param startNanos 요청 처리 시작 시각 (System.nanoTime)
+     * @since 2026-10-18
+     */
+    public void record(HttpServletRequest req, HttpServletResponse res, long startNanos) {
+        record(req, res.getStatus(), startNanos);
+    }
+
+    /**
+     * 처리가 끝난 요청의 접근 로그를 주어진 상태 코드로 버퍼에 넣습니다.
+     * 처리 중 예외가 전파되어 응답 상태 코드를 믿을 수 없을 때 사용합니다.
+     *
+     * @param req        HTTP 요청 객체
+     * @param status     기록할 HTTP 상태 코드
+     * @param startNanos 요청 처리 시작 시각 (System.nanoTime)
+     * @since 2026-10-18
+     */
+    public void record(HttpServletRequest req, int status, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        ErrorCode errorCode = (ErrorCode) req.getAttribute(ERROR_CODE_ATTRIBUTE);
+        if (status < 400 && errorCode == null && !sampled()) {
+            return;
+        }
+
+        AuthOutcome outcome = (AuthOutcome) req.getAttribute(AUTH_OUTCOME_ATTRIBUTE);
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        AccessLogRecord record = new AccessLogRecord(
+                System.currentTimeMillis(),
+                req.getMethod(),
+                pattern != null ? pattern.toString() : req.getRequestURI(),
+                status,
+                latencyMicros,
+                outcome != null ? outcome : AuthOutcome.ANONYMOUS,
+                errorCode);
+        if (!buffer.offer(record)) {
+            droppedCount.increment();
+        }
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private boolean sampled() {
+        return successSampleRate >= 1.0
+                || (successSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successSampleRate);
+    }
+
+    /**
+     * 버퍼가 빌 때까지 기록하고, 비어 있으면 잠시 쉽니다. 종료 시 남은 로그를 모두 기록합니다.
+     */
+    private void drainLoop() {
+        while (running || buffer.size() > 0) {
+            AccessLogRecord record = buffer.poll();
+            if (record == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                write(record);
+            } catch (RuntimeException ex) {
+                // 로그 기록 실패로 consumer 스레드가 종료되지 않도록 무시
+            }
+        }
+    }
+
+    private void write(AccessLogRecord record) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(record.getTimestampMillis()))
+                .append("\",\"method\":\"").append(record.getMethod())
+                .append("\",\"route\":\"");
+        appendEscaped(record.getRoute());
+        line.append("\",\"status\":").append(record.getStatus())
+                .append(",\"latencyUs\":").append(record.getLatencyMicros())
+                .append(",\"auth\":\"").append(record.getAuthOutcome()).append('"');
+        if (record.getErrorCode() != null) {
+            line.append(",\"errorCode\":\"").append(record.getErrorCode()).append('"');
+        }
+        line.append('}');
+        ACCESS_LOG.info(line.toString());
+        writtenCount.increment();
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 인증 단계별 처리 시간(Timer)과 ErrorCode별 오류 응답 수(Counter)를 기록하는 클래스입니다.
+ * <p>
+ * 모든 Timer는 percentile histogram을 함께 내보내므로 Prometheus에서 histogram_quantile로 분위수를 계산할 수 있습니다.
+ * <ul>
+ *     <li>auth.login.parse: 로그인 요청 JSON 파싱</li>
+ *     <li>auth.password{operation=verify|encode}: bcrypt 검증 / 해시 생성 (대기 시간 제외)</li>
+ *     <li>auth.token{operation=create|verify}: JWT 생성 / 검증</li>
+ *     <li>auth.errors{code, status}: ErrorCode별 오류 응답 수</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Component
+public class AuthMetrics {
+    private final Timer loginParse;
+    private final Timer passwordVerify;
+    private final Timer passwordEncode;
+    private final Timer tokenCreate;
+    private final Timer tokenVerify;
+    private final Map<ErrorCode, Counter> errors = new EnumMap<>(ErrorCode.class);
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.loginParse = timer(registry, "auth.login.parse", "로그인 요청 JSON 파싱");
+        this.passwordVerify = timer(registry, "auth.password", "bcrypt 처리", "operation", "verify");
+        this.passwordEncode = timer(registry, "auth.password", "bcrypt 처리", "operation", "encode");
+        this.tokenCreate = timer(registry, "auth.token", "JWT 처리", "operation", "create");
+        this.tokenVerify = timer(registry, "auth.token", "JWT 처리", "operation", "verify");
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errors.put(errorCode, Counter.builder("auth.errors")
+                    .description("ErrorCode별 오류 응답 수")
+                    .tag("code", errorCode.name())
+                    .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 오류 응답 수를 1 증가시킵니다.
+     *
+     * @param errorCode 응답한 오류 코드
+     * @since 2026-10-18
+     */
+    public void countError(ErrorCode errorCode) {
+        errors.get(errorCode).increment();
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
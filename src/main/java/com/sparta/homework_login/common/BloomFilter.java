@@ -0,0 +1,68 @@
+package com.sparta.homework_login.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없는 고정 크기 Bloom filter 클래스입니다.
+ * <p>
+ * 두 개의 64비트 해시로 k개의 비트 위치를 만듭니다. (double hashing)
+ * mightContain이 false면 확실히 없는 값이고, true면 있을 수도 있는 값입니다.
+ *
+ * @since 2026-10-18
+ */
+public class BloomFilter {
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * @param expectedInsertions 예상 저장 개수
+     * @param falsePositiveRate  목표 오탐률 (0.0 ~ 1.0)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.numBits = wordCount * 64L;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param hash1 첫 번째 해시
+     * @param hash2 두 번째 해시
+     * @since 2026-10-18
+     */
+    public void put(long hash1, long hash2) {
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            long mask = 1L << (bit & 63);
+            int index = (int) (bit >>> 6);
+            if ((words.get(index) & mask) == 0) {
+                words.getAndAccumulate(index, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    /**
+     * 값이 추가되었을 가능성이 있는지 확인합니다.
+     *
+     * @param hash1 첫 번째 해시
+     * @param hash2 두 번째 해시
+     * @return 추가된 적이 없으면 false
+     * @since 2026-10-18
+     */
+    public boolean mightContain(long hash1, long hash2) {
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
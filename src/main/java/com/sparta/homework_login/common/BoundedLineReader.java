@@ -0,0 +1,74 @@
+package com.sparta.homework_login.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 입력을 한 줄씩 읽되, 한 줄의 길이를 제한하는 클래스입니다.
+ * <p>
+ * maxLineLength를 넘는 줄은 나머지를 읽고 버린 뒤 overflow로 표시하므로,
+ * 줄바꿈이 없는 큰 입력이 들어와도 한 줄 이상의 메모리를 사용하지 않습니다.
+ * 줄바꿈은 \n, \r\n을 모두 인식하며, 입력 맨 앞의 BOM은 제거합니다.
+ *
+ * @since 2026-10-18
+ */
+public class BoundedLineReader {
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final int maxLineLength;
+    private final StringBuilder buffer = new StringBuilder();
+    private long lineNumber;
+
+    public BoundedLineReader(Reader reader, int maxLineLength) {
+        if (maxLineLength <= 0) {
+            throw new IllegalArgumentException("maxLineLength > 0 이어야 합니다.");
+        }
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * 다음 줄을 읽습니다.
+     *
+     * @return 읽은 줄, 입력이 끝나면 null
+     * @throws IOException 입력을 읽지 못한 경우 발생
+     * @since 2026-10-18
+     */
+    public Line readLine() throws IOException {
+        buffer.setLength(0);
+        boolean overflow = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        if (lineNumber == 0 && c == BOM) {
+            c = reader.read();
+        }
+        lineNumber++;
+        while (c != -1 && c != '\n') {
+            if (buffer.length() < maxLineLength) {
+                buffer.append((char) c);
+            } else if (c != '\r') {
+                overflow = true;
+            }
+            c = reader.read();
+        }
+        int length = buffer.length();
+        if (length > 0 && buffer.charAt(length - 1) == '\r') {
+            buffer.setLength(length - 1);
+        }
+        return new Line(lineNumber, overflow ? null : buffer.toString(), overflow);
+    }
+
+    /**
+     * 입력의 한 줄입니다.
+     *
+     * @param number   줄 번호 (1부터 시작)
+     * @param text     줄 내용 (줄바꿈 제외), overflow인 경우 null
+     * @param overflow 최대 길이를 넘었는지 여부
+     */
+    public record Line(long number, String text, boolean overflow) {
+    }
+}
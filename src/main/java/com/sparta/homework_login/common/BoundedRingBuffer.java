@@ -0,0 +1,91 @@
+package com.sparta.homework_login.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없는 고정 크기 링 버퍼입니다. (Dmitry Vyukov의 bounded MPMC queue)
+ * <p>
+ * 각 슬롯의 시퀀스 번호로 생산자/소비자의 차례를 판단하므로 잠금 없이 CAS만 사용합니다.
+ * 버퍼가 가득 차면 offer는 기다리지 않고 false를 반환합니다.
+ *
+ * @since 2026-10-18
+ */
+public class BoundedRingBuffer<T> {
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치
+
+    public BoundedRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 요소를 넣습니다. 버퍼가 가득 차 있으면 기다리지 않고 false를 반환합니다.
+     *
+     * @param element 넣을 요소
+     * @return 성공 여부
+     * @since 2026-10-18
+     */
+    public boolean offer(T element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false; // 가득 참
+            }
+            // difference > 0: 다른 생산자가 먼저 가져간 슬롯, 다시 시도
+        }
+    }
+
+    /**
+     * 요소를 꺼냅니다.
+     *
+     * @return 꺼낸 요소, 비어 있으면 null
+     * @since 2026-10-18
+     */
+    public T poll() {
+        while (true) {
+            long position = head.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null; // 비어 있음
+            }
+        }
+    }
+
+    /**
+     * 현재 버퍼에 있는 요소 수(근사값)를 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * AsyncCache에서 값을 조회하고, 없으면 호출한 스레드에서 직접 불러오는 유틸 클래스입니다.
+ * <p>
+ * Cache.get(key, loader)는 ConcurrentHashMap.compute 안(synchronized 블록)에서 loader를 실행하므로,
+ * loader가 DB를 조회하는 동안 가상 스레드가 캐리어 스레드에 고정(pinning)됩니다.
+ * 이 클래스는 compute 안에서는 빈 CompletableFuture만 등록하고, 실제 조회는 잠금 밖에서 실행합니다.
+ * 같은 키를 동시에 조회하면 조회는 한 번만 실행되고 나머지 요청은 그 결과를 기다립니다.
+ * loader가 null을 반환하거나 예외가 발생하면 캐시에 저장되지 않습니다.
+ *
+ * @since 2026-10-18
+ */
+public final class CacheLoading {
+
+    private CacheLoading() {
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 loader로 불러와 저장합니다.
+     *
+     * @param cache  조회할 캐시
+     * @param key    조회할 키
+     * @param loader 캐시에 없을 때 호출 스레드에서 실행할 조회 함수
+     * @return 조회된 값 (없으면 null)
+     * @since 2026-10-18
+     */
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sparta.homework_login.common;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 실행 환경에 맞춰 보정된 cost(strength)를 사용하는 BCryptPasswordEncoder 클래스입니다.
+ * <p>
+ * 저장된 해시의 cost가 현재 cost보다 낮으면 upgradeEncoding이 true를 반환하여,
+ * 로그인 성공 시 DaoAuthenticationProvider가 비밀번호를 현재 cost로 다시 해시하도록 합니다.
+ * 인스턴스마다 보정된 cost가 다를 수 있으므로 더 높은 cost의 해시는 낮추지 않습니다.
+ * (cost가 다른 인스턴스를 오가며 로그인할 때마다 재해시되거나 cost가 낮아지지 않도록 함)
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "CalibratedBCryptPasswordEncoder")
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 cost보다 낮으면 true를 반환합니다.
+     *
+     * @param encodedPassword 저장된 비밀번호 해시
+     * @return 다시 해시해야 하는지 여부
+     * @since 2026-10-18
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int stored = strengthOf(encodedPassword);
+        return stored > 0 && stored < strength;
+    }
+
+    /**
+     * 비밀번호 검증 시간이 목표 시간 이내인 가장 높은 cost를 측정합니다.
+     * <p>
+     * cost가 1 오를 때마다 검증 시간이 두 배가 되므로, 다음 cost가 목표를 넘을 것으로 예상되면 측정을 멈춥니다.
+     * 최소 cost에서 이미 목표를 넘더라도 최소 cost를 사용합니다.
+     *
+     * @param targetMillis 비밀번호 검증 1회의 목표 시간(ms)
+     * @param minStrength  허용할 최소 cost
+     * @param maxStrength  허용할 최대 cost
+     * @return 보정된 cost
+     * @since 2026-10-18
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        if (minStrength < MIN_STRENGTH || maxStrength > MAX_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException("bcrypt strength 범위가 올바르지 않습니다: " + minStrength + " ~ " + maxStrength);
+        }
+
+        int strength = minStrength;
+        for (int cost = minStrength; cost <= maxStrength; cost++) {
+            long elapsedMillis = measure(cost);
+            log.info("bcrypt cost {}: {}ms", cost, elapsedMillis);
+            if (cost > minStrength && elapsedMillis > targetMillis) {
+                break;
+            }
+            strength = cost;
+            if (elapsedMillis * 2 > targetMillis) {
+                break;
+            }
+        }
+        log.info("bcrypt cost 보정 완료: {} (목표 {}ms)", strength, targetMillis);
+        return strength;
+    }
+
+    /**
+     * 해시 문자열($2a$10$...)에서 cost를 읽어옵니다.
+     *
+     * @param encodedPassword 비밀번호 해시
+     * @return cost, bcrypt 형식이 아니면 -1
+     * @since 2026-10-18
+     */
+    public static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        String encoded = encoder.encode(SAMPLE_PASSWORD); // 첫 실행은 워밍업으로 사용
+        long start = System.nanoTime();
+        encoder.matches(SAMPLE_PASSWORD, encoded);
+        return (System.nanoTime() - start) / 1_000_000L;
+    }
+}
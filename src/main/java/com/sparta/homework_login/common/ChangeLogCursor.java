@@ -0,0 +1,94 @@
+package com.sparta.homework_login.common;
+
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+/**
+ * 변경 로그를 자동 증가 아이디 순서로 읽을 때의 읽기 위치를 관리하는 클래스입니다.
+ * <p>
+ * 아이디는 INSERT 시점에 발급되고 커밋은 그 뒤에 일어나므로, 작은 아이디의 행이 큰 아이디의 행보다 늦게 보일 수 있습니다.
+ * 그래서 "이 아이디까지는 모두 처리함" 위치(position) 뒤에서 처리한 아이디를 따로 기억하고,
+ * 중간에 빠진 아이디는 gapTimeoutMillis 동안 기다린 뒤 롤백된 것으로 보고 건너뜁니다.
+ * <p>
+ * 폴링 스레드 하나에서만 사용합니다. (스레드 안전하지 않음)
+ *
+ * @since 2026-10-18
+ */
+public class ChangeLogCursor {
+    private final long gapTimeoutMillis;
+    private final LongSupplier clock;
+    private final TreeSet<Long> processed = new TreeSet<>();
+    private long position;
+    private long gapSinceMillis = -1;
+
+    /**
+     * @param position         처리를 마친 마지막 아이디
+     * @param gapTimeoutMillis 빠진 아이디를 기다리는 시간
+     */
+    public ChangeLogCursor(long position, long gapTimeoutMillis) {
+        this(position, gapTimeoutMillis, System::currentTimeMillis);
+    }
+
+    ChangeLogCursor(long position, long gapTimeoutMillis, LongSupplier clock) {
+        this.position = position;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 읽은 아이디를 처리 대상으로 등록합니다.
+     *
+     * @param id 변경 로그 아이디
+     * @return 처음 읽은 아이디면 true, 이미 처리한 아이디면 false
+     * @since 2026-10-18
+     */
+    public boolean accept(long id) {
+        return id > position && processed.add(id);
+    }
+
+    /**
+     * 연속으로 처리한 아이디까지 위치를 옮깁니다.
+     * 빠진 아이디를 gapTimeoutMillis 이상 기다렸으면 건너뜁니다.
+     *
+     * @since 2026-10-18
+     */
+    public void advance() {
+        while (!processed.isEmpty()) {
+            long first = processed.first();
+            if (first == position + 1) {
+                position = processed.pollFirst();
+                gapSinceMillis = -1;
+                continue;
+            }
+            long now = clock.getAsLong();
+            if (gapSinceMillis < 0) {
+                gapSinceMillis = now;
+            }
+            if (now - gapSinceMillis < gapTimeoutMillis) {
+                return;
+            }
+            position = first - 1; // 롤백된 아이디로 판단
+            gapSinceMillis = -1;
+        }
+    }
+
+    /**
+     * 처리를 마친 마지막 아이디를 반환합니다. 다음 조회는 이 아이디 다음부터 시작합니다.
+     *
+     * @return 처리를 마친 마지막 아이디
+     * @since 2026-10-18
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * 위치 뒤에서 이미 처리한 마지막 아이디를 반환합니다. (없으면 위치)
+     *
+     * @return 이미 읽은 마지막 아이디
+     * @since 2026-10-18
+     */
+    public long getLastAccepted() {
+        return processed.isEmpty() ? position : processed.last();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.homework_login.common;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * DataIntegrityViolationException이 어떤 제약 조건을 위반했는지 확인하는 유틸 클래스입니다.
+ * <p>
+ * 같은 예외가 유니크 키 충돌뿐 아니라 컬럼 길이 초과, NOT NULL 위반에도 발생하므로 위반한 제약 조건 이름으로 구분합니다.
+ * 제약 조건 이름은 Hibernate가 DB 오류 메시지에서 추출하며 DB마다 형식이 달라(MySQL: "user.uk_user_username",
+ * H2: "public.uk_user_username_index_2 ON ...") 이름을 포함하는지로 비교합니다.
+ * 추출하지 못한 경우 DB 오류 메시지에서 찾습니다.
+ *
+ * @since 2026-10-18
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * 예외가 constraintName 제약 조건 위반으로 발생했는지 확인합니다.
+     *
+     * @param ex             저장 중 발생한 예외
+     * @param constraintName 제약 조건 이름 (대소문자 무시)
+     * @return constraintName 위반이면 true, 다른 제약 조건 위반이나 값 오류(길이 초과 등)이면 false
+     * @since 2026-10-18
+     */
+    public static boolean isViolated(DataIntegrityViolationException ex, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected);
+            }
+        }
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(expected);
+    }
+}
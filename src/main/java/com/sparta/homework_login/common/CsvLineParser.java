@@ -0,0 +1,57 @@
+package com.sparta.homework_login.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄을 필드 목록으로 나누는 유틸 클래스입니다. (RFC 4180)
+ * <p>
+ * 큰따옴표로 감싼 필드 안의 쉼표와 이스케이프된 큰따옴표("")를 처리합니다.
+ * 줄 단위로 읽으므로 큰따옴표 안의 줄바꿈은 지원하지 않습니다.
+ *
+ * @since 2026-10-18
+ */
+public final class CsvLineParser {
+
+    private CsvLineParser() {
+    }
+
+    /**
+     * CSV 한 줄을 필드 목록으로 나눕니다.
+     *
+     * @param line CSV 한 줄 (줄바꿈 제외)
+     * @return 필드 목록
+     * @throws IllegalArgumentException 큰따옴표가 닫히지 않은 경우 발생
+     * @since 2026-10-18
+     */
+    public static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV 큰따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
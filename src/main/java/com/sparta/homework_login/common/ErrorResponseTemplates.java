@@ -0,0 +1,141 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode별 오류 응답(ErrorResponseDto JSON)을 미리 UTF-8 바이트로 만들어 두는 클래스입니다.
+ * <p>
+ * 응답 시에는 발생 시간(date)과 요청 URL만 끼워 넣으며,
+ * 결과는 ObjectMapper로 ErrorResponseDto를 직렬화한 JSON과 바이트 단위로 같습니다.
+ * <pre>
+ * {"date":"yyyy-MM-dd HH:mm:ss","state":401,"message":"...","url":"..."}
+ * </pre>
+ *
+ * @since 2026-10-18
+ */
+public final class ErrorResponseTemplates {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final byte[] DATE_PREFIX = ascii("{\"date\":\"");
+    private static final byte[] URL_PREFIX = ascii("\",\"url\":\"");
+    private static final byte[] SUFFIX = ascii("\"}");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final Map<ErrorCode, byte[]> STATE_AND_MESSAGE = new EnumMap<>(ErrorCode.class);
+
+    private static volatile RenderedDate renderedDate = new RenderedDate(-1, new byte[0]);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            String template = "\",\"state\":" + errorCode.getHttpStatus().value()
+                    + ",\"message\":\"" + escape(errorCode.getMessage());
+            STATE_AND_MESSAGE.put(errorCode, template.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private ErrorResponseTemplates() {
+    }
+
+    /**
+     * 현재 시간으로 오류 응답 JSON을 만듭니다.
+     *
+     * @param errorCode     오류 코드
+     * @param url           요청한 URL
+     * @param messageSuffix 오류 메시지 뒤에 붙일 상세 메시지 (없으면 null)
+     * @return UTF-8 JSON 바이트
+     * @since 2026-10-18
+     */
+    public static byte[] render(ErrorCode errorCode, String url, String messageSuffix) {
+        return render(errorCode, currentDate(), url, messageSuffix);
+    }
+
+    static byte[] render(ErrorCode errorCode, byte[] date, String url, String messageSuffix) {
+        byte[] stateAndMessage = STATE_AND_MESSAGE.get(errorCode);
+        byte[] suffix = messageSuffix == null || messageSuffix.isEmpty()
+                ? null : escape(messageSuffix).getBytes(StandardCharsets.UTF_8);
+        byte[] urlBytes = escape(url).getBytes(StandardCharsets.UTF_8);
+
+        int length = DATE_PREFIX.length + date.length + stateAndMessage.length
+                + (suffix == null ? 0 : suffix.length) + URL_PREFIX.length + urlBytes.length + SUFFIX.length;
+        byte[] body = new byte[length];
+        int position = 0;
+        position = append(body, position, DATE_PREFIX);
+        position = append(body, position, date);
+        position = append(body, position, stateAndMessage);
+        if (suffix != null) {
+            position = append(body, position, suffix);
+        }
+        position = append(body, position, URL_PREFIX);
+        position = append(body, position, urlBytes);
+        append(body, position, SUFFIX);
+        return body;
+    }
+
+    static byte[] formatDate(LocalDateTime dateTime) {
+        return ascii(dateTime.format(DATE_FORMAT));
+    }
+
+    /**
+     * 초 단위로 바뀌는 발생 시간 문자열은 같은 초 안에서 재사용합니다.
+     */
+    private static byte[] currentDate() {
+        long epochSecond = System.currentTimeMillis() / 1000L;
+        RenderedDate rendered = renderedDate;
+        if (rendered.epochSecond != epochSecond) {
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+            rendered = new RenderedDate(epochSecond, formatDate(now));
+            renderedDate = rendered;
+        }
+        return rendered.bytes;
+    }
+
+    private static int append(byte[] target, int position, byte[] source) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+
+    /**
+     * Jackson 기본 설정과 같은 규칙으로 JSON 문자열을 이스케이프합니다.
+     * (", \, 제어 문자만 이스케이프하고 그 외 문자는 그대로 UTF-8로 출력)
+     */
+    private static String escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\b' -> "\\b";
+                case '\t' -> "\\t";
+                case '\n' -> "\\n";
+                case '\f' -> "\\f";
+                case '\r' -> "\\r";
+                default -> c < 0x20 ? "\\u00" + HEX[c >> 4] + HEX[c & 0xF] : null;
+            };
+            if (escaped != null && sb == null) {
+                sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (escaped != null) {
+                    sb.append(escaped);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record RenderedDate(long epochSecond, byte[] bytes) {
+    }
+}
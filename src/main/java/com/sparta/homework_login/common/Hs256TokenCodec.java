@@ -0,0 +1,684 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.exception.BusinessException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * 서비스에서 발급하는 고정 클레임 전용 HS256 JWT 코덱 클래스입니다.
+ * <p>
+ * jjwt 대비 요청마다 생성되는 객체를 줄이기 위해 다음과 같이 동작합니다.
+ * <ul>
+ *     <li>헤더 세그먼트({"alg":"HS256"})는 미리 인코딩해 두고 재사용합니다.</li>
+ *     <li>Mac 인스턴스는 ObjectPool에 보관해 재사용합니다. (가상 스레드에서도 재사용되도록 ThreadLocal을 사용하지 않음)</li>
+ *     <li>페이로드 JSON과 Base64URL은 바이트 배열에 직접 쓰고 읽습니다.</li>
+ *     <li>서명은 상수 시간 비교(MessageDigest.isEqual)로 검증합니다.</li>
+ * </ul>
+ * jjwt(0.11.x)와 같은 클레임 순서로 토큰을 만들기 때문에 두 코덱이 발급한 토큰은 서로 검증할 수 있습니다.
+ *
+ * @since 2026-10-18
+ */
+public class Hs256TokenCodec implements TokenCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int MAX_DEPTH = 16;
+    private static final int MAX_IDLE_MACS = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64_URL_INDEX = new int[128];
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] HEADER_SEGMENT;
+
+    // 페이로드/헤더 필드 이름 (PAYLOAD_FIELDS의 인덱스로 구분)
+    private static final byte[][] PAYLOAD_FIELDS = names("sub", "userRole", "username", "nickname", "tokenVersion", "iat", "exp", "nbf");
+    private static final int SUB = 0;
+    private static final int USER_ROLE = 1;
+    private static final int USERNAME = 2;
+    private static final int NICKNAME = 3;
+    private static final int TOKEN_VERSION = 4;
+    private static final int IAT = 5;
+    private static final int EXP = 6;
+    private static final int NBF = 7;
+    private static final byte[][] HEADER_FIELDS = names("alg", "zip");
+    private static final int ALG = 0;
+    private static final int ZIP = 1;
+    private static final byte[][] NO_FIELDS = new byte[0][];
+
+    static {
+        Arrays.fill(BASE64_URL_INDEX, -1);
+        for (int i = 0; i < BASE64_URL.length; i++) {
+            BASE64_URL_INDEX[BASE64_URL[i]] = i;
+        }
+        byte[] header = "{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII);
+        HEADER_SEGMENT = new byte[base64Length(header.length)];
+        encodeBase64Url(header, 0, header.length, HEADER_SEGMENT, 0);
+    }
+
+    private final SecretKeySpec key;
+    private final ObjectPool<Mac> macs;
+
+    public Hs256TokenCodec(byte[] secret) {
+        if (secret.length < SIGNATURE_LENGTH) {
+            throw new IllegalArgumentException("HS256 서명 키는 256비트 이상이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.macs = new ObjectPool<>(this::createMac, MAX_IDLE_MACS);
+    }
+
+    @Override
+    public String encode(TokenClaims claims) {
+        // 1. 페이로드 JSON 작성 (이스케이프된 제어 문자가 6바이트로 가장 길게 기록됨)
+        int capacity = 192 + 6 * (length(claims.getUsername()) + length(claims.getNickname()));
+        byte[] json = new byte[capacity];
+        int pos = 0;
+        json[pos++] = '{';
+        pos = writeStringField(json, pos, PAYLOAD_FIELDS[SUB], String.valueOf(claims.getUserId()));
+        pos = writeStringField(json, pos, PAYLOAD_FIELDS[USER_ROLE], claims.getUserRole().name());
+        pos = writeStringField(json, pos, PAYLOAD_FIELDS[USERNAME], claims.getUsername());
+        pos = writeStringField(json, pos, PAYLOAD_FIELDS[NICKNAME], claims.getNickname());
+        pos = writeNumberField(json, pos, PAYLOAD_FIELDS[TOKEN_VERSION], claims.getTokenVersion());
+        pos = writeNumberField(json, pos, PAYLOAD_FIELDS[EXP], claims.getExpiration());
+        pos = writeNumberField(json, pos, PAYLOAD_FIELDS[IAT], claims.getIssuedAt());
+        json[pos++] = '}';
+
+        // 2. header.payload.signature 조립
+        int signingLength = HEADER_SEGMENT.length + 1 + base64Length(pos);
+        byte[] token = new byte[signingLength + 1 + base64Length(SIGNATURE_LENGTH)];
+        System.arraycopy(HEADER_SEGMENT, 0, token, 0, HEADER_SEGMENT.length);
+        token[HEADER_SEGMENT.length] = '.';
+        encodeBase64Url(json, 0, pos, token, HEADER_SEGMENT.length + 1);
+        token[signingLength] = '.';
+        byte[] signature = sign(token, signingLength);
+        encodeBase64Url(signature, 0, SIGNATURE_LENGTH, token, signingLength + 1);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public TokenClaims decode(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+
+        // 1. 헤더 확인 (직접 발급한 헤더와 같으면 파싱 생략)
+        if (!Arrays.equals(bytes, 0, firstDot, HEADER_SEGMENT, 0, HEADER_SEGMENT.length)) {
+            verifyHeader(decodeBase64Url(bytes, 0, firstDot));
+        }
+
+        // 2. 서명 검증
+        byte[] expected = sign(bytes, secondDot);
+        byte[] actual = decodeBase64Url(bytes, secondDot + 1, bytes.length - secondDot - 1);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new BusinessException(ErrorCode.TOKEN_UNSIGNED);
+        }
+
+        // 3. 페이로드 파싱 및 만료 확인
+        TokenClaims claims = parsePayload(decodeBase64Url(bytes, firstDot + 1, secondDot - firstDot - 1));
+        if (System.currentTimeMillis() > claims.getExpirationMillis()) {
+            throw new BusinessException(ErrorCode.TOKEN_TIMEOUT);
+        }
+        return claims;
+    }
+
+    /**
+     * 헤더의 서명 알고리즘이 HS256인지 확인합니다.
+     *
+     * @param header Base64URL 디코딩된 헤더 JSON
+     * @throws BusinessException HS256 서명이 아니거나 압축된 토큰인 경우 발생
+     * @since 2026-10-18
+     */
+    private void verifyHeader(byte[] header) {
+        JsonReader reader = new JsonReader(header);
+        String alg = null;
+        reader.beginObject();
+        for (boolean first = true; reader.hasNextField(first); first = false) {
+            int field = reader.nextField(HEADER_FIELDS);
+            if (field == ALG) {
+                alg = reader.nextString();
+            } else if (field == ZIP) {
+                throw new BusinessException(ErrorCode.TOKEN_UNSUPPORTED);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endDocument();
+        if (!"HS256".equals(alg)) {
+            throw new BusinessException(ErrorCode.TOKEN_UNSUPPORTED);
+        }
+    }
+
+    /**
+     * 페이로드 JSON에서 서비스 클레임을 추출합니다. 알 수 없는 클레임은 무시합니다.
+     *
+     * @param payload Base64URL 디코딩된 페이로드 JSON
+     * @return 토큰에 포함된 사용자 정보
+     * @since 2026-10-18
+     */
+    private TokenClaims parsePayload(byte[] payload) {
+        JsonReader reader = new JsonReader(payload);
+        String sub = null;
+        String userRole = null;
+        String username = null;
+        String nickname = null;
+        long tokenVersion = 0;
+        long issuedAt = 0;
+        Long expiration = null;
+        Long notBefore = null;
+
+        reader.beginObject();
+        for (boolean first = true; reader.hasNextField(first); first = false) {
+            switch (reader.nextField(PAYLOAD_FIELDS)) {
+                case SUB -> sub = reader.nextString();
+                case USER_ROLE -> userRole = reader.nextString();
+                case USERNAME -> username = reader.nextString();
+                case NICKNAME -> nickname = reader.nextString();
+                case TOKEN_VERSION -> tokenVersion = reader.nextLong();
+                case IAT -> issuedAt = reader.nextLong();
+                case EXP -> expiration = reader.nextLong();
+                case NBF -> notBefore = reader.nextLong();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endDocument();
+
+        if (sub == null || expiration == null) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        if (notBefore != null && System.currentTimeMillis() < notBefore * 1000L) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        try {
+            return new TokenClaims(Long.valueOf(sub), UserRole.of(userRole), username, nickname,
+                    Math.toIntExact(tokenVersion), issuedAt, expiration);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+    }
+
+    /**
+     * token[0, length) 구간의 HMAC-SHA256 서명을 계산합니다.
+     */
+    private byte[] sign(byte[] token, int length) {
+        Mac mac = macs.acquire();
+        try {
+            mac.update(token, 0, length);
+            return mac.doFinal(); // doFinal 후 Mac은 초기 상태로 돌아감
+        } finally {
+            macs.release(mac);
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static byte[][] names(String... names) {
+        byte[][] bytes = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            bytes[i] = names[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return bytes;
+    }
+
+    // ---------------------------------------------------------------- JSON 쓰기
+
+    /**
+     * "name":"value" 필드를 기록합니다. jjwt와 같이 값이 null인 클레임은 기록하지 않습니다.
+     */
+    private static int writeStringField(byte[] buf, int pos, byte[] name, String value) {
+        if (value == null) {
+            return pos;
+        }
+        pos = writeName(buf, pos, name);
+        buf[pos++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                pos = writeAscii(buf, pos, c);
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (cp >> 18));
+                buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = '?'; // 짝이 없는 서로게이트는 String.getBytes(UTF_8)와 같이 '?'로 기록
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[pos++] = '"';
+        return pos;
+    }
+
+    /**
+     * Jackson과 같은 규칙으로 ASCII 문자를 기록합니다. (", \, 제어 문자만 이스케이프)
+     */
+    private static int writeAscii(byte[] buf, int pos, char c) {
+        if (c >= 0x20 && c != '"' && c != '\\') {
+            buf[pos++] = (byte) c;
+            return pos;
+        }
+        buf[pos++] = '\\';
+        switch (c) {
+            case '"' -> buf[pos++] = '"';
+            case '\\' -> buf[pos++] = '\\';
+            case '\b' -> buf[pos++] = 'b';
+            case '\t' -> buf[pos++] = 't';
+            case '\n' -> buf[pos++] = 'n';
+            case '\f' -> buf[pos++] = 'f';
+            case '\r' -> buf[pos++] = 'r';
+            default -> {
+                buf[pos++] = 'u';
+                buf[pos++] = '0';
+                buf[pos++] = '0';
+                buf[pos++] = HEX[c >> 4];
+                buf[pos++] = HEX[c & 0xF];
+            }
+        }
+        return pos;
+    }
+
+    private static int writeNumberField(byte[] buf, int pos, byte[] name, long value) {
+        pos = writeName(buf, pos, name);
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+        int start = pos;
+        do {
+            buf[pos++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        // 역순으로 기록된 숫자 뒤집기
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            byte tmp = buf[i];
+            buf[i] = buf[j];
+            buf[j] = tmp;
+        }
+        return pos;
+    }
+
+    private static int writeName(byte[] buf, int pos, byte[] name) {
+        if (buf[pos - 1] != '{') {
+            buf[pos++] = ',';
+        }
+        buf[pos++] = '"';
+        System.arraycopy(name, 0, buf, pos, name.length);
+        pos += name.length;
+        buf[pos++] = '"';
+        buf[pos++] = ':';
+        return pos;
+    }
+
+    // ---------------------------------------------------------------- Base64URL
+
+    private static int base64Length(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    /**
+     * src[srcOff, srcOff + length)를 패딩 없는 Base64URL로 dst[dstOff]부터 기록합니다.
+     */
+    private static void encodeBase64Url(byte[] src, int srcOff, int length, byte[] dst, int dstOff) {
+        int s = srcOff;
+        int d = dstOff;
+        int end = srcOff + length - length % 3;
+        while (s < end) {
+            int bits = (src[s++] & 0xFF) << 16 | (src[s++] & 0xFF) << 8 | (src[s++] & 0xFF);
+            dst[d++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[d++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[d++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            dst[d++] = BASE64_URL[bits & 0x3F];
+        }
+        int remain = length % 3;
+        if (remain == 1) {
+            int b0 = src[s] & 0xFF;
+            dst[d++] = BASE64_URL[b0 >>> 2];
+            dst[d] = BASE64_URL[(b0 << 4) & 0x3F];
+        } else if (remain == 2) {
+            int b0 = src[s] & 0xFF;
+            int b1 = src[s + 1] & 0xFF;
+            dst[d++] = BASE64_URL[b0 >>> 2];
+            dst[d++] = BASE64_URL[((b0 << 4) | (b1 >>> 4)) & 0x3F];
+            dst[d] = BASE64_URL[(b1 << 2) & 0x3F];
+        }
+    }
+
+    /**
+     * src[off, off + length)의 패딩 없는 Base64URL 문자열을 디코딩합니다.
+     */
+    private static byte[] decodeBase64Url(byte[] src, int off, int length) {
+        if (length % 4 == 1) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        byte[] out = new byte[length * 3 / 4];
+        int s = off;
+        int d = 0;
+        int end = off + length - length % 4;
+        while (s < end) {
+            int bits = base64Value(src[s++]) << 18 | base64Value(src[s++]) << 12
+                    | base64Value(src[s++]) << 6 | base64Value(src[s++]);
+            out[d++] = (byte) (bits >> 16);
+            out[d++] = (byte) (bits >> 8);
+            out[d++] = (byte) bits;
+        }
+        int remain = length % 4;
+        if (remain == 2) {
+            int bits = base64Value(src[s]) << 18 | base64Value(src[s + 1]) << 12;
+            out[d] = (byte) (bits >> 16);
+        } else if (remain == 3) {
+            int bits = base64Value(src[s]) << 18 | base64Value(src[s + 1]) << 12 | base64Value(src[s + 2]) << 6;
+            out[d++] = (byte) (bits >> 16);
+            out[d] = (byte) (bits >> 8);
+        }
+        return out;
+    }
+
+    private static int base64Value(byte b) {
+        int value = b < 0 ? -1 : BASE64_URL_INDEX[b];
+        if (value < 0) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+        return value;
+    }
+
+    // ---------------------------------------------------------------- JSON 읽기
+
+    /**
+     * 평평한 JSON 객체만 읽는 최소한의 파서입니다. 형식 오류는 TOKEN_INVALID 예외로 처리합니다.
+     */
+    private static class JsonReader {
+        private final byte[] json;
+        private int pos;
+
+        JsonReader(byte[] json) {
+            this.json = json;
+        }
+
+        void beginObject() {
+            expect('{');
+        }
+
+        /**
+         * 다음 필드가 있으면 true, 객체가 끝났으면 '}'를 소비하고 false를 반환합니다.
+         *
+         * @param first 객체의 첫 번째 필드인지 여부 (첫 필드가 아니면 ',' 구분자를 소비)
+         */
+        boolean hasNextField(boolean first) {
+            int c = peek();
+            if (c == '}') {
+                pos++;
+                return false;
+            }
+            if (!first) {
+                if (c != ',') {
+                    throw invalid();
+                }
+                pos++;
+            }
+            return true;
+        }
+
+        /**
+         * 필드 이름을 읽어 names에서의 인덱스를 반환합니다. 목록에 없으면 -1을 반환합니다.
+         */
+        int nextField(byte[][] names) {
+            if (peek() != '"') {
+                throw invalid();
+            }
+            int start = ++pos;
+            boolean escaped = false;
+            while (true) {
+                byte b = next();
+                if (b == '"') {
+                    break;
+                }
+                if (b == '\\') {
+                    escaped = true;
+                    pos++;
+                }
+            }
+            int end = pos - 1;
+            expect(':');
+            if (escaped) {
+                pos = start - 1;
+                byte[] name = nextString().getBytes(StandardCharsets.UTF_8);
+                expect(':');
+                return indexOf(names, name, 0, name.length);
+            }
+            return indexOf(names, json, start, end);
+        }
+
+        String nextString() {
+            int c = peek();
+            if (c == 'n') {
+                expectLiteral("null");
+                return null;
+            }
+            if (c != '"') {
+                throw invalid();
+            }
+            int start = ++pos;
+            while (true) {
+                byte b = next();
+                if (b == '"') {
+                    return new String(json, start, pos - 1 - start, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') {
+                    pos = start;
+                    return nextEscapedString();
+                }
+                if (b >= 0 && b < 0x20) {
+                    throw invalid();
+                }
+            }
+        }
+
+        long nextLong() {
+            peek();
+            int start = pos;
+            boolean negative = false;
+            if (pos < json.length && json[pos] == '-') {
+                negative = true;
+                pos++;
+            }
+            long value = 0;
+            try {
+                while (pos < json.length && json[pos] >= '0' && json[pos] <= '9') {
+                    value = Math.addExact(Math.multiplyExact(value, 10), json[pos++] - '0');
+                }
+            } catch (ArithmeticException e) {
+                throw invalid();
+            }
+            if (pos == start || (negative && pos == start + 1)) {
+                throw invalid();
+            }
+            if (pos < json.length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E')) {
+                throw invalid();
+            }
+            return negative ? -value : value;
+        }
+
+        void skipValue() {
+            skipValue(0);
+        }
+
+        void endDocument() {
+            skipWhitespace();
+            if (pos != json.length) {
+                throw invalid();
+            }
+        }
+
+        private void skipValue(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw invalid();
+            }
+            int c = peek();
+            switch (c) {
+                case '"' -> nextString();
+                case '{' -> {
+                    pos++;
+                    for (boolean first = true; hasNextField(first); first = false) {
+                        nextField(NO_FIELDS);
+                        skipValue(depth + 1);
+                    }
+                }
+                case '[' -> {
+                    pos++;
+                    if (peek() == ']') {
+                        pos++;
+                        return;
+                    }
+                    while (true) {
+                        skipValue(depth + 1);
+                        int next = peek();
+                        pos++;
+                        if (next == ']') {
+                            return;
+                        }
+                        if (next != ',') {
+                            throw invalid();
+                        }
+                    }
+                }
+                case 't' -> expectLiteral("true");
+                case 'f' -> expectLiteral("false");
+                case 'n' -> expectLiteral("null");
+                default -> {
+                    if (c != '-' && (c < '0' || c > '9')) {
+                        throw invalid();
+                    }
+                    while (pos < json.length && "+-.eE0123456789".indexOf(json[pos]) >= 0) {
+                        pos++;
+                    }
+                }
+            }
+        }
+
+        private String nextEscapedString() {
+            StringBuilder sb = new StringBuilder();
+            int segment = pos;
+            while (true) {
+                byte b = next();
+                if (b == '"') {
+                    sb.append(new String(json, segment, pos - 1 - segment, StandardCharsets.UTF_8));
+                    return sb.toString();
+                }
+                if (b >= 0 && b < 0x20) {
+                    throw invalid();
+                }
+                if (b != '\\') {
+                    continue;
+                }
+                sb.append(new String(json, segment, pos - 1 - segment, StandardCharsets.UTF_8));
+                byte e = next();
+                switch (e) {
+                    case '"', '\\', '/' -> sb.append((char) e);
+                    case 'b' -> sb.append('\b');
+                    case 't' -> sb.append('\t');
+                    case 'n' -> sb.append('\n');
+                    case 'f' -> sb.append('\f');
+                    case 'r' -> sb.append('\r');
+                    case 'u' -> {
+                        if (pos + 4 > json.length) {
+                            throw invalid();
+                        }
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(json[pos++], 16);
+                            if (digit < 0) {
+                                throw invalid();
+                            }
+                            code = code << 4 | digit;
+                        }
+                        sb.append((char) code);
+                    }
+                    default -> throw invalid();
+                }
+                segment = pos;
+            }
+        }
+
+        private void expectLiteral(String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (next() != literal.charAt(i)) {
+                    throw invalid();
+                }
+            }
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw invalid();
+            }
+            pos++;
+        }
+
+        private int peek() {
+            skipWhitespace();
+            if (pos >= json.length) {
+                throw invalid();
+            }
+            return json[pos];
+        }
+
+        private byte next() {
+            if (pos >= json.length) {
+                throw invalid();
+            }
+            return json[pos++];
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length && isWhitespace(json[pos])) {
+                pos++;
+            }
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+        }
+
+        private static int indexOf(byte[][] names, byte[] src, int from, int to) {
+            for (int i = 0; i < names.length; i++) {
+                if (Arrays.equals(names[i], 0, names[i].length, src, from, to)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static BusinessException invalid() {
+            return new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+    }
+}
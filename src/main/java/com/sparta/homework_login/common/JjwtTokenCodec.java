@@ -0,0 +1,74 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * jjwt 라이브러리를 사용하는 JWT 코덱 클래스입니다.
+ *
+ * @since 2026-10-18
+ */
+public class JjwtTokenCodec implements TokenCodec {
+    private final Key key;
+    private final JwtParser parser;
+
+    public JjwtTokenCodec(Key key) {
+        this.key = key;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    @Override
+    public String encode(TokenClaims claims) {
+        return Jwts.builder()
+                .setSubject(String.valueOf(claims.getUserId()))
+                .claim("userRole", claims.getUserRole())
+                .claim("username", claims.getUsername())
+                .claim("nickname", claims.getNickname())
+                .claim("tokenVersion", claims.getTokenVersion())
+                .setExpiration(new Date(claims.getExpirationMillis()))
+                .setIssuedAt(new Date(claims.getIssuedAt() * 1000L)) // 발급일
+                .signWith(key, SignatureAlgorithm.HS256) // 암호화 알고리즘
+                .compact();
+    }
+
+    @Override
+    public TokenClaims decode(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                throw new BusinessException(ErrorCode.TOKEN_INVALID);
+            }
+            Integer tokenVersion = claims.get("tokenVersion", Integer.class);
+            return new TokenClaims(
+                    Long.valueOf(claims.getSubject()),
+                    UserRole.of(claims.get("userRole", String.class)),
+                    claims.get("username", String.class),
+                    claims.get("nickname", String.class),
+                    tokenVersion == null ? 0 : tokenVersion,
+                    claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime() / 1000L,
+                    claims.getExpiration().getTime() / 1000L);
+        } catch (ExpiredJwtException e) {
+            throw new BusinessException(ErrorCode.TOKEN_TIMEOUT);
+        } catch (SecurityException e) {
+            throw new BusinessException(ErrorCode.TOKEN_UNSIGNED);
+        } catch (UnsupportedJwtException e) {
+            throw new BusinessException(ErrorCode.TOKEN_UNSUPPORTED);
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.TOKEN_INVALID);
+        }
+    }
+}
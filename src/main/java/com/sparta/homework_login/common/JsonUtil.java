@@ -1,22 +1,28 @@
 package com.sparta.homework_login.common;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sparta.homework_login.dto.response.ErrorResponseDto;
 import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.BusinessException;
+import com.sparta.homework_login.exception.RetryLaterException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
 /**
  * Json처리 관련 유틸 클래스
+ * <p>
+ * 오류 응답은 ErrorResponseTemplates로 미리 만든 바이트에 시간과 URL만 끼워 넣어 출력 스트림에 바로 씁니다.
+ * 이미 커밋된 응답에는 오류 응답을 쓰지 않고 IllegalStateException을 던집니다.
  *
  * @since 2025-02-13
  */
 @Component
+@RequiredArgsConstructor
 public class JsonUtil {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuthMetrics authMetrics;
 
     /**
      * 오류 응답을 JSON 형식으로 작성하여 클라이언트에게 반환하는 메서드입니다.
@@ -28,13 +34,60 @@ public class JsonUtil {
      * @since 2025-02-13
      */
     public void writeBody(HttpServletRequest req, HttpServletResponse res, ErrorCode errorCode) throws IOException {
-        String url = req.getRequestURL().toString();
-        ErrorResponseDto responseDto = new ErrorResponseDto(errorCode, url);
-        String body = objectMapper.writeValueAsString(responseDto);
+        write(req, res, errorCode, null);
+    }
+
+    /**
+     * 상세 메시지를 포함한 오류 응답을 작성합니다. (메시지: "오류 메시지: 상세 메시지")
+     *
+     * @param req       HTTP 요청 객체
+     * @param res       HTTP 응답 객체
+     * @param errorCode 응답에 포함될 오류 코드
+     * @param detailMsg 상세 메시지
+     * @throws IOException 응답 본문을 작성하는 과정에서 I/O 오류 발생 가능
+     * @since 2026-10-18
+     */
+    public void writeBody(HttpServletRequest req, HttpServletResponse res, ErrorCode errorCode, String detailMsg) throws IOException {
+        write(req, res, errorCode, ": " + detailMsg);
+    }
+
+    /**
+     * 예외에 담긴 오류 코드와 메시지로 오류 응답을 작성합니다.
+     * <p>
+     * RetryLaterException인 경우 Retry-After 헤더를 함께 설정합니다.
+     *
+     * @param req HTTP 요청 객체
+     * @param res HTTP 응답 객체
+     * @param ex  발생한 예외 객체
+     * @throws IOException 응답 본문을 작성하는 과정에서 I/O 오류 발생 가능
+     * @since 2026-10-18
+     */
+    public void writeBody(HttpServletRequest req, HttpServletResponse res, BusinessException ex) throws IOException {
+        if (ex instanceof RetryLaterException retryLater) {
+            res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryLater.getRetryAfterSeconds()));
+        }
+        // 상세 메시지가 있는 예외(BusinessException(errorCode, detailMsg))는 메시지 뒷부분을 그대로 붙임
+        String message = ex.getMessage();
+        String baseMessage = ex.getErrorCode().getMessage();
+        String messageSuffix = message != null && message.startsWith(baseMessage)
+                ? message.substring(baseMessage.length()) : null;
+        write(req, res, ex.getErrorCode(), messageSuffix);
+    }
+
+    private void write(HttpServletRequest req, HttpServletResponse res, ErrorCode errorCode, String messageSuffix) throws IOException {
+        authMetrics.countError(errorCode);
+        AccessLogWriter.setErrorCode(req, errorCode);
+        if (res.isCommitted()) {
+            // 본문 일부를 이미 보낸 스트리밍 응답(회원 내보내기/일괄 등록)에 오류 JSON을 이어 쓰면 정상 데이터처럼 보이므로,
+            // 예외를 던져 서블릿 컨테이너가 연결을 끊도록 함 (클라이언트는 잘린 응답으로 확인)
+            throw new IllegalStateException("response already committed, cannot write error response: " + errorCode);
+        }
+        byte[] body = ErrorResponseTemplates.render(errorCode, req.getRequestURL().toString(), messageSuffix);
 
         res.setContentType("application/json");
         res.setCharacterEncoding("UTF-8");
         res.setStatus(errorCode.getHttpStatus().value());
-        res.getWriter().write(body);
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
     }
 }
@@ -3,41 +3,55 @@ package com.sparta.homework_login.common;
 import com.sparta.homework_login.enums.ErrorCode;
 import com.sparta.homework_login.enums.UserRole;
 import com.sparta.homework_login.exception.BusinessException;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Jwt (JSON Web Token) 유틸리티 클래스입니다.
+ * <p>
+ * jwt.codec 설정으로 토큰 코덱을 선택합니다.
+ * <ul>
+ *     <li>jjwt (기본값): jjwt 라이브러리 사용</li>
+ *     <li>compact: 고정 클레임 전용 HS256 코덱(Hs256TokenCodec) 사용</li>
+ * </ul>
+ * 두 코덱이 발급한 토큰은 서로 호환됩니다.
  *
  * @since 2025-01-17
  */
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분 (액세스 토큰 최대 유효 기간)
 
     @Value("${jwt.secret.key}")
     private String secretKey;
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+
+    @Value("${jwt.codec:jjwt}")
+    private String codec;
+
+    private final AuthMetrics authMetrics;
+    private TokenCodec tokenCodec;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        if ("compact".equalsIgnoreCase(codec)) {
+            tokenCodec = new Hs256TokenCodec(bytes);
+        } else {
+            tokenCodec = new JjwtTokenCodec(Keys.hmacShaKeyFor(bytes));
+        }
+        log.info("JWT codec: {}", tokenCodec.getClass().getSimpleName());
     }
 
     /**
@@ -47,21 +61,18 @@ public class JwtUtil {
      * @param userRole 사용자 권한
      * @param username 사용자 이름
      * @param nickname 사용자 닉네임
+     * @param tokenVersion 사용자 토큰 버전 (회원 정보 수정/탈퇴 시 증가)
      * @return 생성된 JWT 토큰 (String)
      * @since 2025-01-17
      */
-    public String createToken(Long userId, UserRole userRole, String username, String nickname) {
-        Date date = new Date();
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("userRole", userRole)
-                        .claim("username", username)
-                        .claim("nickname", nickname)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+    public String createToken(Long userId, UserRole userRole, String username, String nickname, int tokenVersion) {
+        long issuedAt = System.currentTimeMillis() / 1000L; // 발급일 (초 단위)
+        TokenClaims claims = new TokenClaims(userId, userRole, username, nickname, tokenVersion,
+                issuedAt, issuedAt + TOKEN_TIME / 1000L);
+        long start = System.nanoTime();
+        String token = tokenCodec.encode(claims);
+        authMetrics.getTokenCreate().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return BEARER_PREFIX + token;
     }
 
     /**
@@ -84,14 +95,16 @@ public class JwtUtil {
      * 유효한 토큰에서 사용자 정보를 추출합니다.
      *
      * @param token 유효한 JWT 토큰 (String)
-     * @return 토큰에 포함된 사용자 정보 (Claims 객체)
+     * @return 토큰에 포함된 사용자 정보 (TokenClaims 객체)
+     * @throws BusinessException 서명이 올바르지 않거나, 만료되었거나, 형식이 잘못된 경우 발생
      * @since 2025-01-17
      */
-    public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public TokenClaims extractClaims(String token) {
+        long start = System.nanoTime();
+        try {
+            return tokenCodec.decode(token);
+        } finally {
+            authMetrics.getTokenVerify().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -0,0 +1,23 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.AuthOutcome;
+import com.sparta.homework_login.enums.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인 시도 1건의 감사 로그 정보입니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class LoginAuditRecord {
+    private final long timestampMillis;
+    private final Long userId;         // 로그인 성공 시에만
+    private final String username;
+    private final String clientIp;
+    private final AuthOutcome outcome; // LOGIN_SUCCEEDED / LOGIN_FAILED
+    private final ErrorCode errorCode; // 로그인 실패 시에만
+    private final long latencyMicros;
+}
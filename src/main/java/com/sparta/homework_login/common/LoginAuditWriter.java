@@ -0,0 +1,240 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.entity.LoginAudit;
+import com.sparta.homework_login.enums.AuditOverflowPolicy;
+import com.sparta.homework_login.enums.AuthOutcome;
+import com.sparta.homework_login.enums.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 시도 감사 로그를 비동기 배치로 저장하는 클래스입니다.
+ * <p>
+ * 로그인 처리 스레드는 LoginAuditRecord를 락 없는 링 버퍼(BoundedRingBuffer)에 넣기만 하고,
+ * 전용 스레드 하나가 버퍼를 비우며 batch-size건이 모이거나 첫 건을 꺼낸 뒤 flush-interval-millis가 지나면
+ * login_audit 테이블에 JDBC 배치 INSERT 한 번(트랜잭션 한 번)으로 저장합니다.
+ * 버퍼가 가득 차면 overflow-policy에 따라 버리거나(DROP) 잠시 기다린 뒤 버립니다(BLOCK). (login.audit.dropped)
+ * 종료 시 버퍼에 남은 로그를 모두 저장합니다. (최대 shutdown-timeout-millis)
+ * <ul>
+ *     <li>login.audit.enabled: 사용 여부 (기본값: true)</li>
+ *     <li>login.audit.buffer-size: 링 버퍼 크기, 2의 거듭제곱으로 올림 (기본값: 8192)</li>
+ *     <li>login.audit.batch-size: 한 번에 저장하는 최대 건수 (기본값: 500)</li>
+ *     <li>login.audit.flush-interval-millis: 배치가 다 차지 않아도 저장하는 시간 (기본값: 1000)</li>
+ *     <li>login.audit.overflow-policy: 버퍼가 가득 찼을 때 DROP / BLOCK (기본값: DROP)</li>
+ *     <li>login.audit.block-timeout-millis: BLOCK일 때 최대 대기 시간 (기본값: 50)</li>
+ *     <li>login.audit.shutdown-timeout-millis: 종료 시 남은 로그를 저장하는 최대 시간 (기본값: 5000)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "LoginAuditWriter")
+@Component
+public class LoginAuditWriter {
+    private static final String INSERT_SQL = "insert into login_audit "
+            + "(created_at, user_id, username, client_ip, outcome, error_code, latency_micros) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final long shutdownTimeoutMillis;
+    private final BoundedRingBuffer<LoginAuditRecord> buffer;
+    private final Thread consumer;
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private volatile boolean running = true;
+
+    public LoginAuditWriter(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${login.audit.enabled:true}") boolean enabled,
+                            @Value("${login.audit.buffer-size:8192}") int bufferSize,
+                            @Value("${login.audit.batch-size:500}") int batchSize,
+                            @Value("${login.audit.flush-interval-millis:1000}") long flushIntervalMillis,
+                            @Value("${login.audit.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy,
+                            @Value("${login.audit.block-timeout-millis:50}") long blockTimeoutMillis,
+                            @Value("${login.audit.shutdown-timeout-millis:5000}") long shutdownTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.buffer = new BoundedRingBuffer<>(Math.max(2, Integer.highestOneBit(Math.max(1, bufferSize - 1)) << 1));
+        this.consumer = new Thread(this::drainLoop, "login-audit-writer");
+        this.consumer.setDaemon(true);
+        if (enabled) {
+            this.consumer.start();
+        }
+    }
+
+    /**
+     * 로그인 성공을 기록합니다.
+     *
+     * @param req        HTTP 요청 객체
+     * @param userId     사용자 아이디
+     * @param username   사용자 이름
+     * @param startNanos 로그인 처리 시작 시각 (System.nanoTime)
+     * @since 2026-10-18
+     */
+    public void recordSuccess(HttpServletRequest req, Long userId, String username, long startNanos) {
+        record(req, userId, username, AuthOutcome.LOGIN_SUCCEEDED, null, startNanos);
+    }
+
+    /**
+     * 로그인 실패를 기록합니다.
+     *
+     * @param req        HTTP 요청 객체
+     * @param username   로그인 요청의 사용자 이름
+     * @param errorCode  실패 원인
+     * @param startNanos 로그인 처리 시작 시각 (System.nanoTime)
+     * @since 2026-10-18
+     */
+    public void recordFailure(HttpServletRequest req, String username, ErrorCode errorCode, long startNanos) {
+        record(req, null, username, AuthOutcome.LOGIN_FAILED, errorCode, startNanos);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(shutdownTimeoutMillis);
+        if (consumer.isAlive()) {
+            log.warn("login audit: shutdown timed out, {} records not written", buffer.size());
+        }
+    }
+
+    /**
+     * 로그인 처리 스레드에서 호출합니다. DROP이면 기다리지 않고, BLOCK이면 최대 block-timeout-millis까지 기다립니다.
+     */
+    private void record(HttpServletRequest req, Long userId, String username, AuthOutcome outcome,
+                        ErrorCode errorCode, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        LoginAuditRecord record = new LoginAuditRecord(
+                System.currentTimeMillis(),
+                userId,
+                truncate(username),
+                req.getRemoteAddr(),
+                outcome,
+                errorCode,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        if (buffer.offer(record)) {
+            return;
+        }
+        if (overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (running && System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(record)) {
+                    return;
+                }
+            }
+        }
+        droppedCount.increment();
+    }
+
+    private static String truncate(String username) {
+        if (username == null) {
+            return "";
+        }
+        return username.length() <= LoginAudit.USERNAME_LENGTH ? username : username.substring(0, LoginAudit.USERNAME_LENGTH);
+    }
+
+    /**
+     * batch-size건이 모이거나 첫 건을 꺼낸 뒤 flush-interval-millis가 지나면 저장합니다.
+     * 종료 시 버퍼에 남은 로그를 모두 저장합니다.
+     */
+    private void drainLoop() {
+        List<LoginAuditRecord> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+        while (running || buffer.size() > 0) {
+            LoginAuditRecord record = buffer.poll();
+            if (record != null) {
+                if (batch.isEmpty()) {
+                    deadline = System.nanoTime() + flushIntervalNanos;
+                }
+                batch.add(record);
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                }
+                continue;
+            }
+            if (!batch.isEmpty() && System.nanoTime() - deadline >= 0) {
+                flush(batch);
+                continue;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        flush(batch);
+    }
+
+    /**
+     * 배치를 한 트랜잭션에서 저장합니다. 저장에 실패한 배치는 다시 시도하지 않고 버립니다. (login.audit.failed)
+     */
+    private void flush(List<LoginAuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+                        ps.setTimestamp(1, new Timestamp(record.getTimestampMillis()));
+                        if (record.getUserId() != null) {
+                            ps.setLong(2, record.getUserId());
+                        } else {
+                            ps.setNull(2, Types.BIGINT);
+                        }
+                        ps.setString(3, record.getUsername());
+                        ps.setString(4, record.getClientIp());
+                        ps.setString(5, record.getOutcome().name());
+                        ps.setString(6, record.getErrorCode() != null ? record.getErrorCode().name() : null);
+                        ps.setLong(7, record.getLatencyMicros());
+                    }));
+            writtenCount.add(batch.size());
+        } catch (RuntimeException ex) { // DB 장애로 consumer 스레드가 종료되지 않도록 배치만 버림
+            failedCount.add(batch.size());
+            log.warn("login audit: failed to write {} records", batch.size(), ex);
+        } finally {
+            batch.clear();
+        }
+    }
+}
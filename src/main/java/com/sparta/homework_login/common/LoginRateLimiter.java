@@ -0,0 +1,80 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.RetryLaterException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 횟수를 제한하는 클래스입니다.
+ * <p>
+ * 클라이언트 IP와 username별 토큰 버킷(TokenBucketLimiter)을 사용하며,
+ * 로그인 필터가 bcrypt 검증 전에 확인합니다.
+ * <ul>
+ *     <li>클라이언트 IP: 요청 본문을 읽기 전에 확인 (기본값: 연속 30회, 분당 60회)</li>
+ *     <li>username: 본문에서 username을 읽은 직후, 비밀번호 검증 전에 확인 (기본값: 연속 10회, 분당 10회)</li>
+ * </ul>
+ * 클라이언트 IP는 HttpServletRequest.getRemoteAddr()를 사용합니다.
+ * 프록시 뒤에서 실행하는 경우 server.forward-headers-strategy 설정으로 실제 IP를 전달해야 합니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Component
+public class LoginRateLimiter {
+    private final boolean enabled;
+    private final TokenBucketLimiter clientLimiter;
+    private final TokenBucketLimiter usernameLimiter;
+
+    public LoginRateLimiter(@Value("${login.throttle.enabled:true}") boolean enabled,
+                            @Value("${login.throttle.client.capacity:30}") long clientCapacity,
+                            @Value("${login.throttle.client.refill-per-minute:60}") double clientRefillPerMinute,
+                            @Value("${login.throttle.username.capacity:10}") long usernameCapacity,
+                            @Value("${login.throttle.username.refill-per-minute:10}") double usernameRefillPerMinute,
+                            @Value("${login.throttle.maximum-keys:100000}") long maximumKeys,
+                            @Value("${login.throttle.idle-timeout-minutes:15}") long idleTimeoutMinutes) {
+        Duration idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+        this.enabled = enabled;
+        this.clientLimiter = new TokenBucketLimiter(clientCapacity, clientRefillPerMinute / 60.0, maximumKeys, idleTimeout);
+        this.usernameLimiter = new TokenBucketLimiter(usernameCapacity, usernameRefillPerMinute / 60.0, maximumKeys, idleTimeout);
+    }
+
+    /**
+     * 클라이언트 IP 기준 로그인 시도 횟수를 확인합니다.
+     *
+     * @param req HTTP 요청 객체
+     * @throws RetryLaterException 시도 횟수를 넘은 경우 발생 (429, Retry-After)
+     * @since 2026-10-18
+     */
+    public void checkClient(HttpServletRequest req) {
+        if (enabled) {
+            check(clientLimiter, req.getRemoteAddr());
+        }
+    }
+
+    /**
+     * username 기준 로그인 시도 횟수를 확인합니다.
+     *
+     * @param username 로그인을 시도한 username
+     * @throws RetryLaterException 시도 횟수를 넘은 경우 발생 (429, Retry-After)
+     * @since 2026-10-18
+     */
+    public void checkUsername(String username) {
+        if (enabled && username != null) {
+            check(usernameLimiter, username);
+        }
+    }
+
+    private static void check(TokenBucketLimiter limiter, String key) {
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new RetryLaterException(ErrorCode.LOGIN_TOO_MANY_ATTEMPTS, retryAfterSeconds);
+        }
+    }
+}
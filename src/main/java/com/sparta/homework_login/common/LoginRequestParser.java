@@ -0,0 +1,149 @@
+package com.sparta.homework_login.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.dto.request.SignInRequestDto;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 로그인 요청 본문을 스트리밍 방식으로 파싱하는 클래스입니다.
+ * <p>
+ * 애플리케이션 공용 ObjectMapper의 JsonFactory로 토큰 단위 파싱을 하며, username/password만 꺼내고 나머지 필드는 건너뜁니다.
+ * 본문 크기와 필드 길이 제한을 넘으면 본문을 끝까지 읽지 않고 바로 JSON_INVALID로 거부합니다.
+ * <ul>
+ *     <li>login.parser.max-bytes: 로그인 요청 본문 최대 크기 (기본값: 2048)</li>
+ *     <li>login.parser.max-username-length: username 최대 길이 (기본값: 100)</li>
+ *     <li>login.parser.max-password-length: password 최대 길이 (기본값: 100)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class LoginRequestParser {
+    private static final String USERNAME = "username";
+    private static final String PASSWORD = "password";
+
+    private final JsonFactory jsonFactory;
+    private final int maxBytes;
+    private final int maxUsernameLength;
+    private final int maxPasswordLength;
+
+    public LoginRequestParser(ObjectMapper objectMapper,
+                              @Value("${login.parser.max-bytes:2048}") int maxBytes,
+                              @Value("${login.parser.max-username-length:100}") int maxUsernameLength,
+                              @Value("${login.parser.max-password-length:100}") int maxPasswordLength) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxBytes = maxBytes;
+        this.maxUsernameLength = maxUsernameLength;
+        this.maxPasswordLength = maxPasswordLength;
+    }
+
+    /**
+     * 로그인 요청 본문에서 username/password를 꺼냅니다.
+     *
+     * @param req HTTP 요청 객체
+     * @return 로그인 요청 데이터
+     * @throws BusinessException JSON 형식이 잘못되었거나 크기 제한을 넘은 경우 발생 (JSON_INVALID)
+     * @since 2026-10-18
+     */
+    public SignInRequestDto parse(HttpServletRequest req) {
+        if (req.getContentLengthLong() > maxBytes) {
+            throw new BusinessException(ErrorCode.JSON_INVALID);
+        }
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(req.getInputStream(), maxBytes))) {
+            return parse(parser);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.JSON_INVALID);
+        }
+    }
+
+    private SignInRequestDto parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new BusinessException(ErrorCode.JSON_INVALID);
+        }
+
+        String username = null;
+        String password = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (USERNAME.equals(field)) {
+                username = readText(parser, value, maxUsernameLength);
+            } else if (PASSWORD.equals(field)) {
+                password = readText(parser, value, maxPasswordLength);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new BusinessException(ErrorCode.JSON_INVALID);
+        }
+        return new SignInRequestDto(username, password);
+    }
+
+    private String readText(JsonParser parser, JsonToken value, int maxLength) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value == null || !value.isScalarValue() || parser.getTextLength() > maxLength) {
+            throw new BusinessException(ErrorCode.JSON_INVALID);
+        }
+        return parser.getText();
+    }
+
+    /**
+     * 최대 크기를 넘게 읽으면 IOException을 던지는 입력 스트림입니다.
+     * (Content-Length 없이 전송되는 chunked 본문 대비)
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                consume(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            consume(skipped);
+            return skipped;
+        }
+
+        private void consume(long n) throws IOException {
+            remaining -= n;
+            if (remaining < 0) {
+                throw new IOException("요청 본문 크기 제한 초과");
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.homework_login.common;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 생성 비용이 큰 상태 객체(Mac, MessageDigest 등)를 재사용하기 위한 락 없는 객체 풀 클래스입니다.
+ * <p>
+ * 스레드별 캐시(ThreadLocal)는 요청마다 새 스레드가 생성되는 가상 스레드 환경에서 재사용되지 않으므로,
+ * 스레드와 무관하게 공유되는 풀을 사용합니다. 풀이 비어 있으면 새로 만들고, 가득 차 있으면 반납된 객체를 버립니다.
+ *
+ * @since 2026-10-18
+ */
+public class ObjectPool<T> {
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final Supplier<T> factory;
+    private final int maxIdle;
+
+    public ObjectPool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * 풀에서 객체를 꺼냅니다. 사용 후 반드시 release로 반납합니다.
+     *
+     * @return 재사용 객체 (풀이 비어 있으면 새로 생성)
+     * @since 2026-10-18
+     */
+    public T acquire() {
+        T instance = idle.poll();
+        if (instance == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return instance;
+    }
+
+    /**
+     * 객체를 풀에 반납합니다.
+     *
+     * @param instance 반납할 객체 (상태가 초기화된 상태여야 함)
+     * @since 2026-10-18
+     */
+    public void release(T instance) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.BusinessException;
+import com.sparta.homework_login.exception.RetryLaterException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 생성/검증(bcrypt) 전용 스레드 풀 클래스입니다.
+ * <p>
+ * bcrypt 연산이 요청 처리 스레드를 점유하지 않도록 별도 크기의 스레드 풀에서 실행합니다.
+ * 대기 큐가 가득 차면 작업을 대기시키지 않고 즉시 RetryLaterException(503)을 발생시킵니다.
+ * 결과를 기다리는 호출(call)은 call-timeout-millis가 지나면 작업을 취소하고 같은 예외를 발생시킵니다.
+ * <ul>
+ *     <li>password.executor.pool-size: 스레드 수 (기본값: CPU 코어 수)</li>
+ *     <li>password.executor.queue-capacity: 대기 큐 크기 (기본값: 64)</li>
+ *     <li>password.executor.retry-after-seconds: 거절 시 Retry-After 값 (기본값: 1)</li>
+ *     <li>password.executor.call-timeout-millis: 결과 대기 제한 시간 (기본값: 10000)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "PasswordHashExecutor")
+@Component
+public class PasswordHashExecutor {
+    private static final String THREAD_NAME_PREFIX = "password-hash-";
+    private static final ThreadLocal<Boolean> HASH_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final long callTimeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder startedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public PasswordHashExecutor(@Value("${password.executor.pool-size:0}") int poolSize,
+                                @Value("${password.executor.queue-capacity:64}") int queueCapacity,
+                                @Value("${password.executor.retry-after-seconds:1}") long retryAfterSeconds,
+                                @Value("${password.executor.call-timeout-millis:10000}") long callTimeoutMillis) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(() -> {
+                        HASH_THREAD.set(true);
+                        runnable.run();
+                    }, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.callTimeoutMillis = callTimeoutMillis;
+        log.info("password hash pool: threads={}, queueCapacity={}", threads, queueCapacity);
+    }
+
+    /**
+     * 작업을 스레드 풀에 제출합니다. 결과를 기다리지 않습니다.
+     *
+     * @param task 실행할 작업
+     * @throws RetryLaterException 대기 큐가 가득 찬 경우 발생
+     * @since 2026-10-18
+     */
+    public void execute(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                recordWait(enqueuedAt);
+                task.run();
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCount.increment();
+            throw new RetryLaterException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 작업을 스레드 풀에서 실행하고 결과를 기다립니다.
+     * <p>
+     * 이미 풀 스레드에서 호출된 경우(비동기 로그인 처리 등) 다시 제출하지 않고 바로 실행합니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws RetryLaterException 대기 큐가 가득 찬 경우, 제한 시간 안에 끝나지 않은 경우 발생
+     * @since 2026-10-18
+     */
+    public <T> T call(Supplier<T> task) {
+        if (HASH_THREAD.get()) {
+            return task.get();
+        }
+
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                recordWait(enqueuedAt);
+                return task.get();
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCount.increment();
+            throw new RetryLaterException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(callTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            log.warn("password hash timed out after {}ms", callTimeoutMillis);
+            throw new RetryLaterException(ErrorCode.SERVICE_BUSY, retryAfterSeconds);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.UNKNOWN_ERROR);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 거절 시 응답할 Retry-After 값(초)을 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * 현재 대기 큐에 쌓인 작업 수를 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 현재 실행 중인 작업 수를 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 대기 큐가 가득 차 거절된 작업 수를 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 실행을 시작한 작업 수를 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public long getStartedCount() {
+        return startedCount.sum();
+    }
+
+    /**
+     * 작업들이 큐에서 대기한 시간의 합(나노초)을 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * 가장 오래 대기한 작업의 대기 시간(나노초)을 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void recordWait(long enqueuedAt) {
+        long waitNanos = System.nanoTime() - enqueuedAt;
+        startedCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.homework_login.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 생성/검증을 PasswordHashExecutor에서 실행하는 PasswordEncoder 클래스입니다.
+ * 처리 시간(대기 시간 제외)은 auth.password Timer로 기록합니다.
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class PooledPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashExecutor executor;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.call(() -> {
+            long start = System.nanoTime();
+            String encoded = delegate.encode(rawPassword);
+            authMetrics.getPasswordEncode().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return encoded;
+        });
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.call(() -> {
+            long start = System.nanoTime();
+            boolean matches = delegate.matches(rawPassword, encodedPassword);
+            authMetrics.getPasswordVerify().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return matches;
+        });
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 스레드 풀을 거치지 않는 원래 PasswordEncoder를 반환합니다.
+     * 호출하는 쪽이 별도의 스레드 풀에서 해시를 실행하는 경우(회원 일괄 등록) 사용합니다.
+     *
+     * @return 원래 PasswordEncoder
+     * @since 2026-10-18
+     */
+    public PasswordEncoder getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.homework_login.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 자신의 변경 직후 읽기를 primary DB로 보내는 클래스입니다. (read-your-writes)
+ * <p>
+ * 읽기 전용 트랜잭션은 replica로 라우팅되므로(ReplicationRoutingDataSource), 복제 지연 동안에는 방금 수정한 정보가 보이지 않을 수 있습니다.
+ * 회원가입/회원 정보 수정/탈퇴한 username을 datasource.read-your-writes-millis(기본값: 5000) 동안 기억하고,
+ * 그 사이 해당 username의 조회는 primary에서 실행합니다.
+ * replica를 설정하지 않은 경우에는 아무 영향이 없습니다.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class ReadYourWritesGuard {
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(@Value("${datasource.read-your-writes-millis:5000}") long windowMillis,
+                               @Value("${datasource.read-your-writes-maximum-size:100000}") long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    /**
+     * 사용자의 변경을 기록합니다.
+     *
+     * @param username 변경된 사용자 이름
+     * @since 2026-10-18
+     */
+    public void recordWrite(String username) {
+        recentWriters.put(username, Boolean.TRUE);
+    }
+
+    /**
+     * 사용자 정보를 조회합니다. 최근에 변경된 사용자이면 primary에서 조회합니다.
+     *
+     * @param username 조회할 사용자 이름
+     * @param reader   조회 함수
+     * @return 조회 결과
+     * @since 2026-10-18
+     */
+    public <T> T read(String username, Supplier<T> reader) {
+        if (recentWriters.getIfPresent(username) == null || isPrimaryForced()) {
+            return reader.get();
+        }
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드의 조회를 primary로 보내야 하는지 확인합니다.
+     *
+     * @return primary로 보내야 하면 true
+     * @since 2026-10-18
+     */
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    /**
+     * 회원 정보 수정/탈퇴를 커밋 직전에 기록합니다.
+     * 커밋 후 캐시가 비워진 다음의 재조회가 replica의 이전 정보를 읽지 않도록 캐시 무효화보다 먼저 기록합니다.
+     *
+     * @param event 회원 정보 변경 이벤트
+     * @since 2026-10-18
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        recordWrite(event.getUsername());
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparta.homework_login.common;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource입니다.
+ * <p>
+ * 트랜잭션의 readOnly 여부는 커넥션을 얻은 뒤에 설정되므로, LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL을 실행할 때 커넥션을 고르도록 해야 합니다. (DataSourceConfig 참고)
+ * ReadYourWritesGuard가 primary를 요구하는 조회는 읽기 전용이어도 primary로 보냅니다.
+ *
+ * @since 2026-10-18
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWritesGuard.isPrimaryForced()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
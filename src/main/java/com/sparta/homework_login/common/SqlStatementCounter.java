@@ -0,0 +1,74 @@
+package com.sparta.homework_login.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문장 수를 스레드별 범위(Scope) 단위로 세는 StatementInspector입니다.
+ * <p>
+ * 범위는 중첩할 수 있으며, 안쪽 범위가 닫히면 그 범위에서 센 문장 수가 바깥 범위에 더해집니다.
+ * 열린 범위가 없으면 아무것도 세지 않습니다. SQL 문장은 변경하지 않습니다.
+ *
+ * @since 2026-10-18
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 새 집계 범위를 엽니다. try-with-resources로 사용합니다.
+     *
+     * @return 열린 범위
+     * @since 2026-10-18
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * SQL 문장 집계 범위입니다.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * 이 범위(중첩 범위 포함)에서 실행된 SQL 문장 수를 반환합니다.
+         *
+         * @since 2026-10-18
+         */
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                parent.count += count;
+            }
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
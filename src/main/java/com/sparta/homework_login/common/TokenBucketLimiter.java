@@ -0,0 +1,170 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(username, IP 등)별 토큰 버킷 요청 제한 클래스입니다.
+ * <p>
+ * 버킷 상태는 시각 값 하나(GCRA의 theoretical arrival time)로 표현하므로
+ * 토큰 소비는 AtomicLong 한 번의 CAS로 끝나며 락을 사용하지 않습니다.
+ * 용량 capacity, 초당 refillPerSecond개씩 채워지는 토큰 버킷과 같은 결과를 냅니다.
+ * <p>
+ * 키 공간은 Caffeine(W-TinyLFU)으로 maximumKeys개로 제한하고, idleTimeout 동안 요청이 없는 키는 제거합니다.
+ * 제거된 키는 다음 요청에서 가득 찬 버킷으로 다시 시작합니다.
+ *
+ * @since 2026-10-18
+ */
+public class TokenBucketLimiter {
+    private final long capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier ticker;
+    private final Cache<String, Bucket> buckets;
+    private final LongAdder throttledCount = new LongAdder();
+
+    /**
+     * @param capacity        버킷 용량 (연속으로 허용하는 요청 수)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     * @param maximumKeys     추적하는 최대 키 수
+     * @param idleTimeout     요청이 없으면 키를 제거할 시간
+     */
+    public TokenBucketLimiter(long capacity, double refillPerSecond, long maximumKeys, Duration idleTimeout) {
+        this(capacity, refillPerSecond, maximumKeys, idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketLimiter(long capacity, double refillPerSecond, long maximumKeys, Duration idleTimeout, LongSupplier ticker) {
+        if (capacity <= 0 || refillPerSecond <= 0.0) {
+            throw new IllegalArgumentException("capacity > 0, refillPerSecond > 0 이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 소비합니다.
+     *
+     * @param key 제한 기준 키
+     * @return 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(나노초)
+     * @since 2026-10-18
+     */
+    public long tryAcquire(String key) {
+        Bucket bucket = buckets.get(key, k -> new Bucket(ticker.getAsLong() - burstNanos));
+        while (true) {
+            long now = ticker.getAsLong();
+            long arrival = bucket.arrival.get();
+            long next = Math.max(arrival, now - burstNanos) + intervalNanos;
+            if (next > now) {
+                bucket.throttled.incrementAndGet();
+                throttledCount.increment();
+                return next - now;
+            }
+            if (bucket.arrival.compareAndSet(arrival, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 거절 횟수가 많은 키를 최대 limit개 반환합니다. (거절된 적이 없는 키 제외)
+     *
+     * @param limit 반환할 최대 키 수
+     * @return 거절 횟수 내림차순 키 목록
+     * @since 2026-10-18
+     */
+    public List<ThrottledKey> topThrottled(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ThrottledKey> top = new PriorityQueue<>(Comparator.comparingLong(ThrottledKey::throttled));
+        for (Map.Entry<String, Bucket> entry : buckets.asMap().entrySet()) {
+            long throttled = entry.getValue().throttled.get();
+            if (throttled == 0) {
+                continue;
+            }
+            if (top.size() < limit) {
+                top.add(new ThrottledKey(entry.getKey(), throttled));
+            } else if (top.peek().throttled() < throttled) {
+                top.poll();
+                top.add(new ThrottledKey(entry.getKey(), throttled));
+            }
+        }
+        List<ThrottledKey> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(ThrottledKey::throttled).reversed());
+        return result;
+    }
+
+    /**
+     * 현재 추적 중인 키 수(근사값)를 반환합니다.
+     *
+     * @return 키 수
+     * @since 2026-10-18
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 지금까지 거절한 요청 수를 반환합니다.
+     *
+     * @return 거절 수
+     * @since 2026-10-18
+     */
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    /**
+     * 버킷 용량을 반환합니다.
+     *
+     * @return 버킷 용량
+     * @since 2026-10-18
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 초당 채워지는 토큰 수를 반환합니다.
+     *
+     * @return 초당 토큰 수
+     * @since 2026-10-18
+     */
+    public double getRefillPerSecond() {
+        return 1_000_000_000d / intervalNanos;
+    }
+
+    /**
+     * 키별 거절 횟수입니다.
+     *
+     * @param key       제한 기준 키
+     * @param throttled 거절 횟수
+     */
+    public record ThrottledKey(String key, long throttled) {
+    }
+
+    private static class Bucket {
+        private final AtomicLong arrival;
+        private final AtomicLong throttled = new AtomicLong();
+
+        private Bucket(long arrival) {
+            this.arrival = new AtomicLong(arrival);
+        }
+    }
+}
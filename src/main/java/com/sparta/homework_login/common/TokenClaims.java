@@ -0,0 +1,35 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT 토큰에 담기는 사용자 정보 클래스입니다.
+ * <p>
+ * 서비스에서 발급하는 고정된 클레임(sub, userRole, username, nickname, tokenVersion, iat, exp)만 가지며,
+ * 발급/만료 시간은 JWT 표준과 같이 epoch 초 단위로 보관합니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final Long userId;
+    private final UserRole userRole;
+    private final String username;
+    private final String nickname;
+    private final int tokenVersion;
+    private final long issuedAt;
+    private final long expiration;
+
+    /**
+     * 만료 시간을 epoch 밀리초 단위로 반환합니다.
+     *
+     * @return 만료 시간 (epoch millis)
+     * @since 2026-10-18
+     */
+    public long getExpirationMillis() {
+        return expiration * 1000L;
+    }
+}
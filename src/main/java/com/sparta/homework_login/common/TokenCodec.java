@@ -0,0 +1,30 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.exception.BusinessException;
+
+/**
+ * JWT 토큰을 생성하고 검증하는 코덱 인터페이스입니다.
+ *
+ * @since 2026-10-18
+ */
+public interface TokenCodec {
+
+    /**
+     * 사용자 정보로 서명된 JWT 토큰을 생성합니다.
+     *
+     * @param claims 토큰에 담을 사용자 정보
+     * @return 생성된 JWT 토큰 (Bearer 접두사 제외)
+     * @since 2026-10-18
+     */
+    String encode(TokenClaims claims);
+
+    /**
+     * JWT 토큰의 서명과 만료 시간을 검증하고 사용자 정보를 추출합니다.
+     *
+     * @param token JWT 토큰 (Bearer 접두사 제외)
+     * @return 토큰에 포함된 사용자 정보
+     * @throws BusinessException 서명이 올바르지 않거나, 만료되었거나, 형식이 잘못된 경우 발생
+     * @since 2026-10-18
+     */
+    TokenClaims decode(String token);
+}
@@ -0,0 +1,172 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 폐기(로그아웃)된 JWT 토큰 목록을 메모리에 보관하는 클래스입니다.
+ * <p>
+ * 토큰 다이제스트를 키로 사용하며, 조회는 Bloom filter를 먼저 확인하고 있을 수도 있는 경우에만 정확한 목록(Caffeine)을 확인합니다.
+ * 정확한 목록의 항목은 토큰의 만료 시간(exp)에 제거됩니다. 크기 제한으로 제거하면 폐기가 풀리므로 크기 제한은 두지 않습니다.
+ * Bloom filter는 값을 지울 수 없으므로 액세스 토큰 최대 유효 기간(JwtUtil.TOKEN_TIME) 단위로 새로 만들고 직전 구간 것까지만 확인합니다.
+ * <ul>
+ *     <li>jwt.revocation.expected-insertions: 구간당 예상 폐기 토큰 수 (기본값: 100000)</li>
+ *     <li>jwt.revocation.false-positive-rate: Bloom filter 목표 오탐률 (기본값: 0.01)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class TokenDenylist {
+    private static final long WINDOW_MILLIS = JwtUtil.TOKEN_TIME;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Cache<String, Long> revoked;
+    private final AtomicReference<Generations> generations;
+
+    public TokenDenylist(@Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                         @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new ExpirationExpiry())
+                .build();
+        long window = System.currentTimeMillis() / WINDOW_MILLIS;
+        this.generations = new AtomicReference<>(new Generations(window, newFilter(), newFilter()));
+    }
+
+    /**
+     * 토큰을 폐기 목록에 추가합니다. 이미 만료된 토큰은 추가하지 않습니다.
+     *
+     * @param digest           토큰 다이제스트 (TokenDigest)
+     * @param expirationMillis 토큰 만료 시간 (epoch millis)
+     * @since 2026-10-18
+     */
+    public void add(String digest, long expirationMillis) {
+        if (expirationMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revoked.put(digest, expirationMillis);
+        currentGenerations().current.put(hash1(digest), hash2(digest));
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다.
+     *
+     * @param digest 토큰 다이제스트 (TokenDigest)
+     * @return 폐기된 토큰이면 true
+     * @since 2026-10-18
+     */
+    public boolean isRevoked(String digest) {
+        if (!mightBeRevoked(digest)) {
+            return false;
+        }
+        return revoked.getIfPresent(digest) != null;
+    }
+
+    /**
+     * Bloom filter(현재/직전 구간)만으로 폐기되었을 수도 있는 토큰인지 확인합니다. false이면 폐기되지 않은 토큰입니다.
+     *
+     * @param digest 토큰 다이제스트 (TokenDigest)
+     * @return 폐기되었을 수도 있으면 true
+     * @since 2026-10-18
+     */
+    boolean mightBeRevoked(String digest) {
+        Generations current = currentGenerations();
+        long hash1 = hash1(digest);
+        long hash2 = hash2(digest);
+        return current.current.mightContain(hash1, hash2) || current.previous.mightContain(hash1, hash2);
+    }
+
+    /**
+     * 현재 폐기 목록에 있는 토큰 수(근사값)를 반환합니다.
+     *
+     * @return 폐기 토큰 수
+     * @since 2026-10-18
+     */
+    public long size() {
+        return revoked.estimatedSize();
+    }
+
+    /**
+     * 구간이 바뀌었으면 Bloom filter를 교체합니다. 여러 스레드가 동시에 교체해도 한 번만 반영됩니다.
+     */
+    private Generations currentGenerations() {
+        long window = System.currentTimeMillis() / WINDOW_MILLIS;
+        Generations current = generations.get();
+        while (current.window < window) {
+            BloomFilter previous = current.window == window - 1 ? current.current : newFilter();
+            Generations next = new Generations(window, newFilter(), previous);
+            if (generations.compareAndSet(current, next)) {
+                return next;
+            }
+            current = generations.get();
+        }
+        return current;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 다이제스트(Base64URL SHA-256)의 문자를 그대로 6비트씩 이어 붙여 해시로 사용합니다.
+     */
+    private static long hash1(String digest) {
+        return decode(digest, 0);
+    }
+
+    private static long hash2(String digest) {
+        return decode(digest, 10) | 1L; // 홀수로 만들어 모든 비트 위치를 거치도록 함
+    }
+
+    private static long decode(String digest, int from) {
+        long hash = 0;
+        for (int i = from; i < from + 10 && i < digest.length(); i++) {
+            hash = (hash << 6) | base64Value(digest.charAt(i));
+        }
+        return hash;
+    }
+
+    private static int base64Value(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        } else if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 26;
+        } else if (c >= '0' && c <= '9') {
+            return c - '0' + 52;
+        }
+        return c == '-' ? 62 : 63;
+    }
+
+    private record Generations(long window, BloomFilter current, BloomFilter previous) {
+    }
+
+    /**
+     * 토큰의 만료 시간까지만 항목을 유지하는 만료 정책입니다.
+     */
+    private static class ExpirationExpiry implements Expiry<String, Long> {
+        @Override
+        public long expireAfterCreate(String key, Long expirationMillis, long currentTime) {
+            long remainMillis = expirationMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expirationMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expirationMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expirationMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparta.homework_login.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 보관할 SHA-256 다이제스트를 만드는 유틸 클래스입니다.
+ *
+ * @since 2026-10-18
+ */
+public final class TokenDigest {
+    private static final ObjectPool<MessageDigest> SHA_256 = new ObjectPool<>(TokenDigest::createDigest,
+            Runtime.getRuntime().availableProcessors() * 2);
+
+    private TokenDigest() {
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 Base64URL 문자열로 반환합니다.
+     *
+     * @param token JWT 토큰 (Bearer 접두사 제외)
+     * @return 다이제스트 문자열
+     * @since 2026-10-18
+     */
+    public static String of(String token) {
+        MessageDigest sha256 = SHA_256.acquire();
+        byte[] digest;
+        try {
+            digest = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            SHA_256.release(sha256);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.homework_login.event.UserChangedEvent;
+import com.sparta.homework_login.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 현재 토큰 버전을 메모리에 보관하는 클래스입니다.
+ * <p>
+ * 토큰의 tokenVersion 클레임이 현재 버전과 다르면 회원 정보 수정/탈퇴 전에 발급된 토큰으로 판단합니다.
+ * 테이블에 없는 사용자는 최초 1회만 DB에서 조회합니다. (캐시 잠금 밖에서 조회, CacheLoading 참고)
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class TokenVersionTable {
+    private static final int DELETED = -1;
+
+    private final UserRepository userRepository;
+    private final AsyncCache<Long, Integer> versions;
+
+    public TokenVersionTable(UserRepository userRepository,
+                             @Value("${jwt.token-version.maximum-size:100000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .buildAsync();
+    }
+
+    /**
+     * 토큰 버전이 사용자의 현재 토큰 버전과 일치하는지 확인합니다.
+     *
+     * @param userId       사용자 아이디
+     * @param tokenVersion 토큰에 담긴 토큰 버전
+     * @return 현재 버전과 일치하면 true, 수정/탈퇴 전에 발급된 토큰이면 false
+     * @since 2026-10-18
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = CacheLoading.getOrLoad(versions, userId, this::loadTokenVersion);
+        return current != null && current == tokenVersion;
+    }
+
+    /**
+     * 회원 정보 수정/탈퇴가 커밋된 뒤 토큰 버전을 갱신합니다.
+     *
+     * @param event 회원 정보 변경 이벤트
+     * @since 2026-10-18
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        versions.synchronous().put(event.getUserId(), event.isDeleted() ? DELETED : event.getTokenVersion());
+    }
+
+    /**
+     * 사용자의 토큰 버전을 테이블에서 제거합니다. 다음 확인 시 DB에서 다시 조회합니다.
+     * (다른 인스턴스에서 변경된 사용자, UserChangeLogService 참고)
+     *
+     * @param userId 사용자 아이디
+     * @since 2026-10-18
+     */
+    public void invalidate(Long userId) {
+        versions.synchronous().invalidate(userId);
+    }
+
+    /**
+     * 토큰 버전 테이블에 없는 사용자의 토큰 버전을 primary DB에서 조회합니다. (replica의 이전 버전을 읽지 않음)
+     *
+     * @param userId 사용자 아이디
+     * @return 사용자의 토큰 버전, 존재하지 않는 사용자는 DELETED
+     * @since 2026-10-18
+     */
+    private Integer loadTokenVersion(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(DELETED);
+    }
+}
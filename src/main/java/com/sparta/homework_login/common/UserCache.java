@@ -0,0 +1,103 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.event.UserChangedEvent;
+import com.sparta.homework_login.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * username 기준 사용자 조회 결과를 보관하는 캐시 클래스입니다.
+ * <p>
+ * 관리 상태의 User 엔티티 대신 조회 전용 스냅샷(UserDetailsImpl)을 보관하며, 스냅샷은 필요한 컬럼만 조회하여 바로 만듭니다. (엔티티를 만들지 않음)
+ * W-TinyLFU 정책(Caffeine)으로 크기를 제한하고 TTL이 지나면 다시 조회합니다.
+ * 같은 username을 동시에 조회하면 DB 조회는 한 번만 실행되고 나머지 요청은 그 결과를 기다립니다.
+ * DB 조회는 캐시 잠금 밖에서 실행합니다. (CacheLoading 참고)
+ * 회원 정보 수정/탈퇴가 커밋되면 해당 항목을 즉시 제거합니다.
+ * DB 조회는 읽기 전용 트랜잭션(replica)에서 실행하며, 최근에 변경된 사용자는 primary에서 조회합니다. (ReadYourWritesGuard)
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final AsyncCache<String, UserDetailsImpl> cache;
+
+    public UserCache(UserRepository userRepository,
+                     ReadYourWritesGuard readYourWritesGuard,
+                     @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * username으로 사용자를 조회합니다. 캐시에 없으면 DB에서 조회한 뒤 저장합니다.
+     * 존재하지 않는 사용자는 캐시에 저장하지 않습니다.
+     *
+     * @param username 사용자 이름
+     * @return 사용자 정보 스냅샷
+     * @since 2026-10-18
+     */
+    public Optional<UserDetailsImpl> find(String username) {
+        return Optional.ofNullable(CacheLoading.getOrLoad(cache, username, this::load));
+    }
+
+    /**
+     * 캐시에서 사용자를 제거합니다.
+     *
+     * @param username 사용자 이름
+     * @since 2026-10-18
+     */
+    public void invalidate(String username) {
+        cache.synchronous().invalidate(username);
+    }
+
+    /**
+     * 캐시의 모든 사용자를 제거합니다.
+     *
+     * @since 2026-10-18
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 회원 정보 수정/탈퇴가 커밋된 뒤 캐시에서 해당 사용자를 제거합니다.
+     *
+     * @param event 회원 정보 변경 이벤트
+     * @since 2026-10-18
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+    /**
+     * 캐시 적중/실패/제거 횟수를 반환합니다.
+     *
+     * @return 캐시 통계
+     * @since 2026-10-18
+     */
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private UserDetailsImpl load(String username) {
+        return readYourWritesGuard.read(username, () -> userRepository.findUserDetailsByUsername(username))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.sparta.homework_login.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.dto.response.UserSummaryResponseDto;
+import com.sparta.homework_login.enums.UserFileFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 회원 목록을 NDJSON 또는 CSV로 출력 스트림에 쓰는 클래스입니다. (회원 내보내기)
+ * <p>
+ * 한 명씩 꺼내 고정 크기 버퍼에 쓰고 버퍼가 차면 출력 스트림으로 보내므로, 회원 수와 관계없이 메모리 사용량이 일정합니다.
+ * 출력 스트림이 응답이면 클라이언트가 받는 속도보다 빠르게 읽지 않습니다. (쓰기가 막히는 동안 다음 행을 읽지 않음)
+ * <p>
+ * 모든 회원을 쓴 뒤 마지막 줄에 완료 표시를 씁니다. 이 줄이 없으면 중간에 중단된 파일입니다.
+ * <ul>
+ *     <li>NDJSON: {"complete":true,"count":회원 수}</li>
+ *     <li>CSV: #complete,회원 수</li>
+ * </ul>
+ * CSV의 문자열 필드가 =, +, -, @, 탭, CR로 시작하면 스프레드시트에서 수식으로 실행되지 않도록 앞에 '를 붙입니다.
+ *
+ * @since 2026-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class UserExportWriter {
+    private static final String CSV_HEADER = "id,username,nickname,userRole,createdAt\n";
+    private static final String CSV_COMPLETE_PREFIX = "#complete,";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 회원 목록을 지정한 형식으로 씁니다. 출력 스트림은 닫지 않습니다.
+     *
+     * @param users  회원 목록
+     * @param format 출력 형식
+     * @param out    출력 스트림
+     * @return 쓴 회원 수
+     * @throws IOException 출력 스트림에 쓰지 못한 경우 발생
+     * @since 2026-10-18
+     */
+    public long write(Stream<UserSummaryResponseDto> users, UserFileFormat format, OutputStream out) throws IOException {
+        Iterator<UserSummaryResponseDto> iterator = users.iterator();
+        return format == UserFileFormat.CSV ? writeCsv(iterator, out) : writeNdjson(iterator, out);
+    }
+
+    private long writeNdjson(Iterator<UserSummaryResponseDto> users, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long count = 0;
+        while (users.hasNext()) {
+            generator.writeObject(users.next());
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.writeStartObject();
+        generator.writeBooleanField("complete", true);
+        generator.writeNumberField("count", count);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<UserSummaryResponseDto> users, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+
+        long count = 0;
+        while (users.hasNext()) {
+            UserSummaryResponseDto user = users.next();
+            writer.write(String.valueOf(user.getId()));
+            writer.write(',');
+            writeCsvField(writer, user.getUsername());
+            writer.write(',');
+            writeCsvField(writer, user.getNickname());
+            writer.write(',');
+            writer.write(user.getUserRole().name());
+            writer.write(',');
+            writer.write(user.getCreatedAt() != null ? user.getCreatedAt().toString() : "");
+            writer.write('\n');
+            count++;
+        }
+        writer.write(CSV_COMPLETE_PREFIX);
+        writer.write(String.valueOf(count));
+        writer.write('\n');
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 있는 필드는 큰따옴표로 감쌉니다. (RFC 4180)
+     * 수식으로 해석될 수 있는 문자로 시작하면 앞에 '를 붙입니다. (CSV injection)
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (isFormulaPrefix(value)) {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaPrefix(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 회원 목록 키셋 페이지네이션의 커서입니다.
+ * <p>
+ * 이전 페이지 마지막 회원의 (createdAt, id)를 담으며, 클라이언트에는 Base64(URL-safe) 문자열로 전달합니다.
+ * 다음 페이지는 OFFSET 없이 (createdAt, id) 인덱스에서 이 위치 다음부터 읽으므로 페이지 깊이와 관계없이 조회 비용이 같습니다.
+ *
+ * @param createdAt 마지막 회원의 가입 시각
+ * @param id        마지막 회원의 아이디
+ * @since 2026-10-18
+ */
+public record UserPageCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * 커서를 문자열로 변환합니다.
+     *
+     * @return 커서 문자열
+     * @since 2026-10-18
+     */
+    public String encode() {
+        String value = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 커서 문자열
+     * @return 커서
+     * @throws BusinessException 형식이 올바르지 않은 경우 발생
+     * @since 2026-10-18
+     */
+    public static UserPageCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(',');
+            return new UserPageCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new BusinessException(ErrorCode.BAD_INPUT, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -8,13 +8,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
+/**
+ * 사용자 유효성 검사 클래스
+ * <p>
+ * 중복 확인은 UserCache를 사용하고, 수정/삭제할 User 엔티티 조회(findUser)는 항상 DB에서 조회합니다.
+ * 비밀번호 확인은 이미 조회한 User 엔티티로 비교합니다.
+ *
+ * @since 2025-02-13
+ */
 @Service
 @RequiredArgsConstructor
 public class UserValidationCheck {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     public User findUser(String username) {
         return userRepository.findByUsername(username).orElseThrow(
@@ -23,14 +30,19 @@ public class UserValidationCheck {
     }
 
     public void duplicationUser(String username) {
-        Optional<User> user = userRepository.findByUsername(username);
-        if(user.isPresent()) {
+        if(userCache.find(username).isPresent()) {
             throw new BusinessException(ErrorCode.USER_DUPLICATED);
         }
     }
 
-    public void comparePassword(String username, String password) {
-        User user = findUser(username);
+    /**
+     * 이미 조회한 User 엔티티의 비밀번호와 비교합니다. (추가 조회 없음)
+     *
+     * @param user     비교할 User 엔티티
+     * @param password 확인용 비밀번호
+     * @since 2026-10-18
+     */
+    public void comparePassword(User user, String password) {
         if(!passwordEncoder.matches(password, user.getPassword())) {
             throw new BusinessException(ErrorCode.USER_PASSWORD_NOT_MATCH);
         }
@@ -0,0 +1,100 @@
+package com.sparta.homework_login.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 사용자 정보(TokenClaims)를 보관하는 캐시 클래스입니다.
+ * <p>
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며,
+ * 각 항목은 늦어도 토큰의 만료 시간(exp)에 캐시에서 제거됩니다.
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, TokenClaims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 검증된 TokenClaims가 있으면 반환하고, 없으면 verifier로 검증한 뒤 캐시에 저장합니다.
+     * <p>
+     * 검증 중 발생한 예외는 그대로 전달되며, 실패한 토큰은 캐시에 저장되지 않습니다.
+     *
+     * @param token    JWT 토큰 (Bearer 접두사 제외)
+     * @param verifier 캐시에 없을 때 사용할 토큰 검증 함수
+     * @return 토큰에 포함된 사용자 정보 (TokenClaims 객체)
+     * @since 2026-10-18
+     */
+    public TokenClaims get(String token, Function<String, TokenClaims> verifier) {
+        return get(TokenDigest.of(token), token, verifier);
+    }
+
+    /**
+     * 이미 계산한 토큰 다이제스트로 조회합니다. (다이제스트를 다른 곳에서도 사용하는 경우)
+     *
+     * @param digest   토큰 다이제스트 (TokenDigest)
+     * @param token    JWT 토큰 (Bearer 접두사 제외)
+     * @param verifier 캐시에 없을 때 사용할 토큰 검증 함수
+     * @return 토큰에 포함된 사용자 정보 (TokenClaims 객체)
+     * @since 2026-10-18
+     */
+    public TokenClaims get(String digest, String token, Function<String, TokenClaims> verifier) {
+        return cache.get(digest, key -> verifier.apply(token));
+    }
+
+    /**
+     * 캐시 적중/실패/제거 횟수를 반환합니다.
+     *
+     * @return 캐시 통계
+     * @since 2026-10-18
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시에 저장된 토큰 수(근사값)를 반환합니다.
+     *
+     * @return 캐시 항목 수
+     * @since 2026-10-18
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 토큰의 만료 시간까지만 항목을 유지하는 만료 정책입니다.
+     */
+    private static class TokenExpiry implements Expiry<String, TokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            long remainMillis = claims.getExpirationMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
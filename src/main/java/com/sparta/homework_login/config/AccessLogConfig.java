@@ -0,0 +1,26 @@
+package com.sparta.homework_login.config;
+
+import com.sparta.homework_login.common.AccessLogWriter;
+import com.sparta.homework_login.filter.AccessLogFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 접근 로그 필터 설정 클래스입니다.
+ * <p>
+ * SqlBudgetFilter 바로 다음, 보안 필터보다 앞에서 AccessLogFilter를 실행합니다.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class AccessLogConfig {
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration(AccessLogWriter accessLogWriter) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter(accessLogWriter));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.homework_login.config;
+
+import com.sparta.homework_login.common.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * primary / replica DataSource 설정 클래스입니다.
+ * <p>
+ * spring.datasource.replica.url이 설정된 경우에만 적용되며, 설정하지 않으면 기존과 같이 spring.datasource 하나만 사용합니다.
+ * <ul>
+ *     <li>spring.datasource.*, spring.datasource.hikari.*: primary (쓰기, 읽기-쓰기 트랜잭션)</li>
+ *     <li>spring.datasource.replica.*, spring.datasource.replica.hikari.*: replica (@Transactional(readOnly = true))</li>
+ * </ul>
+ * 두 커넥션 풀은 각각 "primary", "replica" 이름으로 HikariCP 메트릭에 표시됩니다.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceConfig {
+    private static final String REPLICA_PREFIX = "spring.datasource.replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(Environment environment) {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties properties = binder.bind(REPLICA_PREFIX, DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException(REPLICA_PREFIX + " 설정이 없습니다."));
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        binder.bind(REPLICA_PREFIX + ".hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+}
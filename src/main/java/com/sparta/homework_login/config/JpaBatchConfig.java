@@ -0,0 +1,34 @@
+package com.sparta.homework_login.config;
+
+import com.sparta.homework_login.entity.User;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정 클래스입니다.
+ * <p>
+ * spring.jpa.properties로 같은 항목을 설정하면 그 값을 사용합니다.
+ * <ul>
+ *     <li>hibernate.jdbc.batch_size: 한 번에 전송하는 문장 수 (기본값: User.ID_ALLOCATION_SIZE)</li>
+ *     <li>hibernate.order_inserts / order_updates: 같은 테이블의 문장을 모아 배치로 실행 (기본값: true)</li>
+ *     <li>hibernate.id.optimizer.pooled.preferred: ID 블록 할당 방식 (기본값: pooled-lo, 블록마다 DB 호출 1회)</li>
+ * </ul>
+ * MySQL은 spring.datasource.url에 rewriteBatchedStatements=true를 추가해야 배치가 여러 행 INSERT 한 번으로 전송됩니다.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, User.ID_ALLOCATION_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+}
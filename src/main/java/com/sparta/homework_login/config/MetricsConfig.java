@@ -0,0 +1,161 @@
+package com.sparta.homework_login.config;
+
+import com.sparta.homework_login.common.AccessLogWriter;
+import com.sparta.homework_login.common.LoginAuditWriter;
+import com.sparta.homework_login.common.LoginRateLimiter;
+import com.sparta.homework_login.common.PasswordHashExecutor;
+import com.sparta.homework_login.common.TokenBucketLimiter;
+import com.sparta.homework_login.filter.SqlBudgetFilter;
+import com.sparta.homework_login.service.UserChangeLogService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer / Prometheus 설정 클래스입니다.
+ * <p>
+ * 기본 설정(metrics.properties)은 application.yml에서 덮어쓸 수 있으며,
+ * /actuator/prometheus 에서 인증 단계별 Timer, HikariCP 커넥션 대기 시간, Repository 호출 시간 등을 수집합니다.
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    /**
+     * 비밀번호 해시 스레드 풀의 대기 큐 길이, 실행 중인 작업 수, 거절 수, 대기 시간을 등록합니다.
+     *
+     * @param executor 비밀번호 해시 스레드 풀
+     * @return MeterBinder
+     * @since 2026-10-18
+     */
+    @Bean
+    public MeterBinder passwordHashExecutorMetrics(PasswordHashExecutor executor) {
+        return registry -> {
+            Gauge.builder("password.executor.queue.depth", executor, PasswordHashExecutor::getQueueDepth)
+                    .description("비밀번호 해시 대기 큐 길이")
+                    .register(registry);
+            Gauge.builder("password.executor.active", executor, PasswordHashExecutor::getActiveCount)
+                    .description("실행 중인 비밀번호 해시 작업 수")
+                    .register(registry);
+            FunctionCounter.builder("password.executor.rejected", executor, PasswordHashExecutor::getRejectedCount)
+                    .description("대기 큐가 가득 차 거절된 작업 수")
+                    .register(registry);
+            FunctionTimer.builder("password.executor.queue.wait", executor,
+                            PasswordHashExecutor::getStartedCount,
+                            PasswordHashExecutor::getTotalWaitNanos,
+                            TimeUnit.NANOSECONDS)
+                    .description("비밀번호 해시 작업의 대기 큐 대기 시간")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * SQL 문장 수 예산을 넘은 요청 수를 등록합니다.
+     *
+     * @param sqlBudgetFilter 요청별 SQL 예산 필터
+     * @return MeterBinder
+     * @since 2026-10-18
+     */
+    @Bean
+    public MeterBinder sqlBudgetMetrics(SqlBudgetFilter sqlBudgetFilter) {
+        return registry -> FunctionCounter.builder("sql.budget.exceeded", sqlBudgetFilter, SqlBudgetFilter::getExceededCount)
+                .description("SQL 문장 수 예산을 넘은 요청 수")
+                .register(registry);
+    }
+
+    /**
+     * 접근 로그의 버퍼 대기 수, 기록 수, 버퍼가 가득 차 버린 수를 등록합니다.
+     *
+     * @param accessLogWriter 접근 로그 기록기
+     * @return MeterBinder
+     * @since 2026-10-18
+     */
+    @Bean
+    public MeterBinder accessLogMetrics(AccessLogWriter accessLogWriter) {
+        return registry -> {
+            Gauge.builder("access.log.buffered", accessLogWriter, AccessLogWriter::getBufferedCount)
+                    .description("기록을 기다리는 접근 로그 수")
+                    .register(registry);
+            FunctionCounter.builder("access.log.written", accessLogWriter, AccessLogWriter::getWrittenCount)
+                    .description("기록된 접근 로그 수")
+                    .register(registry);
+            FunctionCounter.builder("access.log.dropped", accessLogWriter, AccessLogWriter::getDroppedCount)
+                    .description("버퍼가 가득 차 버린 접근 로그 수")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 다른 인스턴스의 변경 로그를 읽어 반영한 수를 등록합니다.
+     *
+     * @param userChangeLogService 변경 로그 서비스
+     * @return MeterBinder
+     * @since 2026-10-18
+     */
+    @Bean
+    public MeterBinder userChangeLogMetrics(UserChangeLogService userChangeLogService) {
+        return registry -> FunctionCounter.builder("user.change.log.applied", userChangeLogService, UserChangeLogService::getAppliedCount)
+                .description("다른 인스턴스의 변경 로그를 읽어 반영한 수")
+                .register(registry);
+    }
+
+    /**
+     * 로그인 시도 제한의 추적 중인 키 수와 거절 수를 기준(scope=client|username)별로 등록합니다.
+     *
+     * @param loginRateLimiter 로그인 시도 제한
+     * @return MeterBinder
+     * @since 2026-10-18
+     */
+    @Bean
+    public MeterBinder loginThrottleMetrics(LoginRateLimiter loginRateLimiter) {
+        return registry -> {
+            Map<String, TokenBucketLimiter> limiters = Map.of(
+                    "client", loginRateLimiter.getClientLimiter(),
+                    "username", loginRateLimiter.getUsernameLimiter());
+            limiters.forEach((scope, limiter) -> {
+                Gauge.builder("login.throttle.keys", limiter, TokenBucketLimiter::size)
+                        .description("로그인 시도 제한이 추적 중인 키 수")
+                        .tag("scope", scope)
+                        .register(registry);
+                FunctionCounter.builder("login.throttle.rejected", limiter, TokenBucketLimiter::getThrottledCount)
+                        .description("시도 횟수를 넘어 거절한 로그인 요청 수")
+                        .tag("scope", scope)
+                        .register(registry);
+            });
+        };
+    }
+
+    /**
+     * 로그인 감사 로그의 버퍼 대기 수, 저장 수, 버퍼가 가득 차 버린 수, 저장에 실패한 수를 등록합니다.
+     *
+     * @param loginAuditWriter 로그인 감사 로그 기록기
+     * @return MeterBinder
+     * @since 2026-10-18
+     */
+    @Bean
+    public MeterBinder loginAuditMetrics(LoginAuditWriter loginAuditWriter) {
+        return registry -> {
+            Gauge.builder("login.audit.buffered", loginAuditWriter, LoginAuditWriter::getBufferedCount)
+                    .description("저장을 기다리는 로그인 감사 로그 수")
+                    .register(registry);
+            FunctionCounter.builder("login.audit.written", loginAuditWriter, LoginAuditWriter::getWrittenCount)
+                    .description("저장된 로그인 감사 로그 수")
+                    .register(registry);
+            FunctionCounter.builder("login.audit.dropped", loginAuditWriter, LoginAuditWriter::getDroppedCount)
+                    .description("버퍼가 가득 차 버린 로그인 감사 로그 수")
+                    .register(registry);
+            FunctionCounter.builder("login.audit.failed", loginAuditWriter, LoginAuditWriter::getFailedCount)
+                    .description("DB 저장에 실패하여 버린 로그인 감사 로그 수")
+                    .register(registry);
+        };
+    }
+}
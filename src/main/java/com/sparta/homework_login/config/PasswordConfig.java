@@ -1,19 +1,39 @@
 package com.sparta.homework_login.config;
 
+import com.sparta.homework_login.common.AuthMetrics;
+import com.sparta.homework_login.common.CalibratedBCryptPasswordEncoder;
+import com.sparta.homework_login.common.PasswordHashExecutor;
+import com.sparta.homework_login.common.PooledPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Spring Security 에서 사용되는 비밀번호 암호화 설정을 담당하는 클래스입니다.
+ * <p>
+ * bcrypt 연산은 요청 처리 스레드가 아닌 전용 스레드 풀(PasswordHashExecutor)에서 실행됩니다.
+ * bcrypt cost는 시작 시 검증 목표 시간에 맞춰 보정합니다.
+ * <ul>
+ *     <li>password.bcrypt.strength: 고정 cost (기본값 0 = 보정 사용)</li>
+ *     <li>password.bcrypt.target-millis: 검증 1회 목표 시간 (기본값: 250ms)</li>
+ *     <li>password.bcrypt.min-strength / max-strength: 보정 cost 범위 (기본값: 10 ~ 14)</li>
+ * </ul>
  *
  * @since 2025-01-17
  */
 @Configuration
 public class PasswordConfig {
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashExecutor passwordHashExecutor,
+                                           AuthMetrics authMetrics,
+                                           @Value("${password.bcrypt.strength:0}") int strength,
+                                           @Value("${password.bcrypt.target-millis:250}") long targetMillis,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:14}") int maxStrength) {
+        int cost = strength > 0
+                ? strength
+                : CalibratedBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
+        return new PooledPasswordEncoder(new CalibratedBCryptPasswordEncoder(cost), passwordHashExecutor, authMetrics);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.sparta.homework_login.config;
+
+import com.sparta.homework_login.common.SqlStatementCounter;
+import com.sparta.homework_login.filter.SqlBudgetFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청별 SQL 문장 수 집계 설정 클래스입니다.
+ * <p>
+ * SqlStatementCounter를 Hibernate StatementInspector로 등록하고,
+ * 보안 필터보다 앞에서 SqlBudgetFilter를 실행하여 로그인/인가 과정의 조회도 함께 셉니다.
+ * <ul>
+ *     <li>sql.budget.max-statements: 요청당 허용 문장 수 (기본값: 10)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Configuration
+public class SqlBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    public SqlBudgetFilter sqlBudgetFilter(@Value("${sql.budget.max-statements:10}") int maxStatements) {
+        return new SqlBudgetFilter(maxStatements);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilterRegistration(SqlBudgetFilter sqlBudgetFilter) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(sqlBudgetFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,11 +1,24 @@
 package com.sparta.homework_login.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.AuthMetrics;
 import com.sparta.homework_login.common.JsonUtil;
 import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.LoginAuditWriter;
+import com.sparta.homework_login.common.LoginRateLimiter;
+import com.sparta.homework_login.common.LoginRequestParser;
+import com.sparta.homework_login.common.PasswordHashExecutor;
+import com.sparta.homework_login.common.TokenDenylist;
+import com.sparta.homework_login.common.TokenVersionTable;
+import com.sparta.homework_login.common.VerifiedTokenCache;
 import com.sparta.homework_login.dto.security.UserDetailsServiceImpl;
+import com.sparta.homework_login.enums.UserRole;
 import com.sparta.homework_login.filter.JwtAuthenticationFilter;
 import com.sparta.homework_login.filter.JwtAuthorizationFilter;
+import com.sparta.homework_login.service.RefreshTokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +38,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * Spring Security 설정 클래스입니다.
  * <p>
  * JWT 기반의 인증 및 인가를 처리하기 위한 보안 설정을 정의합니다.
+ * <p>
+ * /actuator/prometheus는 인증 오류 수, 로그인 처리 시간 등 내부 메트릭을 포함하므로 관리자(ROLE_ADMIN)만 조회할 수 있습니다.
+ * management.server.port로 별도의 관리 포트를 지정하면, 그 포트로 들어온 Prometheus 수집 요청은 인증 없이 허용합니다.
+ * (관리 포트는 외부에 공개하지 않는 내부 네트워크용)
  *
  * @since 2025-01-17
  */
@@ -35,10 +52,35 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class WebSecurityConfig {
     private final JwtUtil jwtUtil;
     private final JsonUtil jsonUtil;
+    private final LoginRequestParser loginRequestParser;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVersionTable tokenVersionTable;
+    private final TokenDenylist tokenDenylist;
     private final UserDetailsServiceImpl userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final AuthMetrics authMetrics;
+    private final LoginAuditWriter loginAuditWriter;
     private final AuthenticationConfiguration authenticationConfiguration;
 
+    @Value("${jwt.claims-authentication.enabled:false}")
+    private boolean claimsAuthentication;
+
+    @Value("${login.async.enabled:false}")
+    private boolean loginAsyncEnabled;
+
+    @Value("${login.async.timeout-millis:10000}")
+    private long loginAsyncTimeoutMillis;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * AuthenticationManager를 Bean으로 등록합니다.
      * <p>
@@ -58,6 +100,7 @@ public class WebSecurityConfig {
      * JWT 인증 필터를 생성하여 Bean으로 등록합니다.
      * <p>
      * 사용자가 로그인할 때 인증을 수행하며, 성공 시 JWT 토큰을 생성합니다.
+     * login.async.enabled 설정 시 인증을 비밀번호 해시 전용 스레드 풀에서 비동기로 처리합니다.
      *
      * @return JwtAuthenticationFilter JWT 인증 필터
      * @throws Exception 예외 발생 시 처리
@@ -65,7 +108,8 @@ public class WebSecurityConfig {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, jsonUtil);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, jsonUtil, loginRequestParser, loginRateLimiter, objectMapper,
+                refreshTokenService, passwordHashExecutor, authMetrics, loginAuditWriter, loginAsyncEnabled, loginAsyncTimeoutMillis);
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         return filter;
     }
@@ -73,13 +117,15 @@ public class WebSecurityConfig {
     /**
      * JWT 인가 필터를 생성하여 Bean으로 등록합니다.
      * <p>
+     * jwt.claims-authentication.enabled 설정 시 DB 조회 없이 토큰의 Claims로 인증합니다.
      *
      * @return JwtAuthorizationFilter JWT 인가 필터
      * @since 2025-01-17
      */
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jsonUtil, jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jsonUtil, jwtUtil, userDetailsService,
+                tokenCache, tokenVersionTable, tokenDenylist, claimsAuthentication);
     }
 
     /**
@@ -105,6 +151,11 @@ public class WebSecurityConfig {
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // resources 접근 허용 설정
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // '/auth/'로 시작하는 요청 모두 접근 허가
+                        .requestMatchers("/actuator/health").permitAll() // 헬스 체크
+                        .requestMatchers(this::isManagementPortScrape).permitAll() // 별도 관리 포트의 Prometheus 수집
+                        .requestMatchers("/actuator/prometheus").hasAuthority(UserRole.ROLE_ADMIN.name()) // 인증 오류 수, 로그인 처리 시간 등 내부 메트릭
+                        .requestMatchers("/actuator/loginthrottle").hasAuthority(UserRole.ROLE_ADMIN.name()) // 로그인 시도 제한 상태 (username, IP 포함)
+                        .requestMatchers("/api/admin/**").hasAuthority(UserRole.ROLE_ADMIN.name()) // 관리자 API (회원 일괄 등록)
                         .anyRequest().authenticated() // 그 외 모든 요청 인증처리
         );
 
@@ -119,8 +170,23 @@ public class WebSecurityConfig {
         return http.build();
     }
 
+    /**
+     * 별도의 관리 포트(management.server.port)로 들어온 Prometheus 수집 요청인지 확인합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @return 관리 포트의 /actuator/prometheus 요청이면 true
+     * @since 2026-10-18
+     */
+    private boolean isManagementPortScrape(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
     /**
      * DaoAuthenticationProvider를 설정하여 Bean으로 등록합니다.
+     * <p>
+     * 저장된 비밀번호의 bcrypt cost가 현재 설정보다 낮으면 로그인 성공 시 다시 해시하여 저장합니다.
      *
      * @return DaoAuthenticationProvider 인증 제공자
      * @since 2025-01-17
@@ -131,6 +197,7 @@ public class WebSecurityConfig {
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
         provider.setHideUserNotFoundExceptions(false); // UsernameNotFoundException을 유지하도록 설정
+        provider.setUserDetailsPasswordService(userDetailsService); // 로그인 성공 시 bcrypt cost가 낮으면 재해시
         return provider;
     }
 }
@@ -0,0 +1,73 @@
+package com.sparta.homework_login.controller;
+
+import com.sparta.homework_login.dto.request.RefreshTokenRequestDto;
+import com.sparta.homework_login.dto.response.ErrorResponseDto;
+import com.sparta.homework_login.dto.response.SignInResponseDto;
+import com.sparta.homework_login.service.RefreshTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 토큰 관리 컨트롤러 클래스입니다.
+ * (로그인은 JwtAuthenticationFilter에서 처리합니다.)
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@Tag(name = "토큰 관리 API", description = "토큰 재발급 API")
+public class AuthController {
+
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * 토큰 재발급 API
+     *
+     * @param requestDto 리프레시 토큰 (JSON 형태)
+     * @return 새 액세스 토큰과 리프레시 토큰
+     * @since 2026-10-18
+     */
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 다시 사용할 수 없습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "토큰 재발급 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 데이터",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "유효하지 않거나, 만료되었거나, 폐기된 리프레시 토큰",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping("/auth/refresh")
+    public ResponseEntity<SignInResponseDto> refresh(
+            @RequestBody @Valid RefreshTokenRequestDto requestDto
+    ) {
+        SignInResponseDto responseDto = refreshTokenService.refresh(requestDto.getRefreshToken());
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header("Authorization", responseDto.getBearerToken())
+                .body(responseDto);
+    }
+}
@@ -1,12 +1,20 @@
 package com.sparta.homework_login.controller;
 
 import com.sparta.homework_login.dto.request.PasswordCheckRequestDto;
+import com.sparta.homework_login.dto.request.RefreshTokenRequestDto;
 import com.sparta.homework_login.dto.request.SignUpRequestDto;
 import com.sparta.homework_login.dto.request.UpdateUserRequestDto;
 import com.sparta.homework_login.dto.response.ErrorResponseDto;
 import com.sparta.homework_login.dto.response.SignUpResponseDto;
 import com.sparta.homework_login.dto.response.UpdateUserResponseDto;
+import com.sparta.homework_login.dto.response.UserImportResultDto;
+import com.sparta.homework_login.dto.response.UserPageResponseDto;
+import com.sparta.homework_login.dto.response.UserSummaryResponseDto;
 import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.enums.UserFileFormat;
+import com.sparta.homework_login.service.AdminUserService;
+import com.sparta.homework_login.service.TokenRevocationService;
+import com.sparta.homework_login.service.UserImportService;
 import com.sparta.homework_login.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,13 +22,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * 회원 관리 컨트롤러 클래스입니다.
  *
@@ -33,6 +51,9 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserImportService userImportService;
+    private final AdminUserService adminUserService;
 
     /**
      * 회원가입 API
@@ -152,4 +173,180 @@ public class UserController {
         return ResponseEntity
                 .status(HttpStatus.NO_CONTENT).build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃 API
+     * <p>
+     * 요청에 사용한 액세스 토큰을 폐기합니다. 리프레시 토큰을 함께 보내면 해당 리프레시 토큰도 폐기합니다.
+     *
+     * @param bearerToken Authorization 헤더 값
+     * @param requestDto  리프레시 토큰 (선택, JSON 형태)
+     * @since 2026-10-18
+     */
+    @Operation(summary = "로그아웃", description = "사용 중인 액세스 토큰(과 리프레시 토큰)을 폐기합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "로그아웃 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "유효하지 않거나 이미 폐기된 토큰",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping("/users/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String bearerToken,
+            @RequestBody(required = false) RefreshTokenRequestDto requestDto
+    ) {
+        tokenRevocationService.logout(bearerToken, requestDto != null ? requestDto.getRefreshToken() : null);
+        return ResponseEntity
+                .status(HttpStatus.NO_CONTENT).build();
+    }
+
+    /**
+     * 회원 일괄 등록 API (관리자 전용)
+     * <p>
+     * 요청 본문을 끝까지 읽기 전에 처리한 줄의 결과부터 응답합니다.
+     * 마지막 줄은 전체 처리 결과(UserImportSummaryDto)이며, 이 줄이 없으면 처리가 중간에 중단된 것입니다.
+     *
+     * @param request  NDJSON(application/x-ndjson) 또는 CSV(text/csv) 형식의 회원 목록
+     * @param response 줄별 처리 결과 (NDJSON)
+     * @since 2026-10-18
+     */
+    @Operation(summary = "회원 일괄 등록", description = "NDJSON(한 줄에 회원가입 정보 하나) 또는 CSV(첫 줄 헤더: username,password,nickname) "
+            + "형식의 회원 목록을 등록하고, 줄마다 처리 결과를 NDJSON으로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "줄별 처리 결과",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = UserImportResultDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "CSV 헤더가 없거나 필요한 컬럼이 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 권한 없음"
+            )
+    })
+    @PostMapping(value = "/admin/users/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UserFileFormat format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? UserFileFormat.NDJSON
+                : UserFileFormat.CSV;
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userImportService.importUsers(request.getInputStream(), format, response.getOutputStream());
+    }
+
+    /**
+     * 회원 목록 조회 API (관리자 전용)
+     * <p>
+     * 가입 순서로 정렬하며, 응답의 nextCursor를 다음 요청의 cursor로 보내면 다음 페이지를 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 생략)
+     * @param size   페이지 크기 (1 ~ 100, 기본값: 20)
+     * @return 회원 목록과 다음 페이지 커서
+     * @since 2026-10-18
+     */
+    @Operation(summary = "회원 목록 조회", description = "가입 순서로 회원 목록을 조회합니다. (키셋 페이지네이션)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "회원 목록 조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 커서 또는 페이지 크기",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 권한 없음"
+            )
+    })
+    @GetMapping("/admin/users")
+    public ResponseEntity<UserPageResponseDto> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(adminUserService.getUsers(cursor, size));
+    }
+
+    /**
+     * 회원 내보내기 API (관리자 전용)
+     * <p>
+     * 모든 회원 정보(비밀번호 해시 제외)를 아이디 순서로 읽으면서 바로 응답하므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+     * 마지막 줄에 완료 표시를 쓰며, 응답을 보내기 시작한 뒤 실패하면 연결을 끊습니다. (UserExportWriter, JsonUtil 참고)
+     *
+     * @param format   출력 형식 (ndjson 또는 csv, 기본값: ndjson)
+     * @param gzip     gzip 압축 여부 (기본값: false)
+     * @param response 회원 목록 파일
+     * @since 2026-10-18
+     */
+    @Operation(summary = "회원 내보내기", description = "모든 회원 정보를 NDJSON 또는 CSV 파일로 내보냅니다. (gzip 압축 선택)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "회원 목록 파일 (users.ndjson, users.csv 또는 .gz)",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = UserSummaryResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "지원하지 않는 형식",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "관리자 권한 없음"
+            )
+    })
+    @GetMapping("/admin/users/export")
+    public void exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        UserFileFormat fileFormat = UserFileFormat.of(format);
+        String filename = "users." + fileFormat.name().toLowerCase(Locale.ROOT);
+        if (!gzip) {
+            response.setContentType(fileFormat == UserFileFormat.CSV ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+            adminUserService.exportUsers(fileFormat, response.getOutputStream());
+            return;
+        }
+
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename + ".gz").build().toString());
+        GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192);
+        adminUserService.exportUsers(fileFormat, out);
+        // 성공한 경우에만 gzip 트레일러를 씀 (중간에 실패한 파일은 압축 해제 시 오류가 나도록)
+        out.close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.homework_login.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 재발급 요청 DTO 클래스
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequestDto {
+
+    @Schema(example = "Qm9vayBvZiBIb25nIEdpbCBEb25n...", description = "로그인 시 발급된 리프레시 토큰")
+    @NotBlank(message = "리프레시 토큰을 입력해주세요")
+    private String refreshToken;
+}
@@ -4,6 +4,7 @@ import com.sparta.homework_login.entity.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +23,7 @@ public class SignUpRequestDto {
 
     @Schema(example = "Hong Gil Dong", description = "사용자 이름")
     @NotBlank(message = "이름을 입력해주세요")
+    @Size(max = User.USERNAME_MAX_LENGTH, message = "이름은 {max}자 이내로 입력해주세요")
     private String username;
 
     @Schema(example = "1q2w3e4r#", description = "비밀번호")
@@ -31,6 +33,7 @@ public class SignUpRequestDto {
 
     @Schema(example = "동에 번쩍", description = "닉네임")
     @NotBlank(message = "닉네임을 입력해주세요")
+    @Size(max = User.NICKNAME_MAX_LENGTH, message = "닉네임은 {max}자 이내로 입력해주세요")
     private String nickname;
 
     public User convertDtoToEntity(String password) {
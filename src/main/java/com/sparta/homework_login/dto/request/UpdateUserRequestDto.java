@@ -1,8 +1,10 @@
 package com.sparta.homework_login.dto.request;
 
+import com.sparta.homework_login.entity.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,5 +32,6 @@ public class UpdateUserRequestDto {
 
     @Schema(example = "서에 번쩍", description = "수정할 닉네임")
     @NotBlank(message = "닉네임을 입력해주세요")
+    @Size(max = User.NICKNAME_MAX_LENGTH, message = "닉네임은 {max}자 이내로 입력해주세요")
     private String nickname;
 }
@@ -15,6 +15,8 @@ import java.time.format.DateTimeFormatter;
  */
 @Data
 public class ErrorResponseDto {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     @Schema(example = "2025-01-18 19:53:48", description = "에러 발생 시간 (yyyy-MM-dd HH:mm:ss)")
     private String date;
 
@@ -28,21 +30,21 @@ public class ErrorResponseDto {
     private String url;
 
     public ErrorResponseDto(BusinessException ex, String requestUrl) {
-        date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        date = LocalDateTime.now().format(DATE_FORMAT);
         state = ex.getErrorCode().getHttpStatus().value();
         message = ex.getMessage();
         url = requestUrl;
     }
 
     public ErrorResponseDto(ErrorCode errorCode, String requestUrl) {
-        date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        date = LocalDateTime.now().format(DATE_FORMAT);
         state = errorCode.getHttpStatus().value();
         message = errorCode.getMessage();
         url = requestUrl;
     }
 
     public ErrorResponseDto(ErrorCode errorCode, String requestUrl, String detailMsg) {
-        date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        date = LocalDateTime.now().format(DATE_FORMAT);
         state = errorCode.getHttpStatus().value();
         message = errorCode.getMessage() + ": " + detailMsg;
         url = requestUrl;
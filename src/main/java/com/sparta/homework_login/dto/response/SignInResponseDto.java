@@ -6,7 +6,7 @@ import lombok.Getter;
 
 /**
  * 토큰을 담는 응답 DTO 클래스입니다.
- * 로그인 성공 시 토큰을 담아 반환합니다.
+ * 로그인 및 토큰 재발급 성공 시 토큰을 담아 반환합니다.
  *
  * @since 2025-01-17
  */
@@ -16,4 +16,7 @@ public class SignInResponseDto {
 
     @Schema(example = "Bearer ...", description = "발급된 토큰")
     private final String bearerToken;
+
+    @Schema(example = "Qm9vayBvZiBIb25nIEdpbCBEb25n...", description = "토큰 재발급용 리프레시 토큰 (사용할 때마다 새로 발급)")
+    private final String refreshToken;
 }
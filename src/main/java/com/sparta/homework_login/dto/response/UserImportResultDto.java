@@ -0,0 +1,32 @@
+package com.sparta.homework_login.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.homework_login.enums.UserImportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 일괄 등록의 줄별 처리 결과 DTO 클래스입니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResultDto {
+
+    @Schema(example = "2", description = "입력 파일의 줄 번호")
+    private long line;
+
+    @Schema(example = "Hong Gil Dong", description = "사용자 이름")
+    private String username;
+
+    @Schema(example = "CREATED", description = "처리 결과")
+    private UserImportStatus result;
+
+    @Schema(example = "이름이 중복됩니다.", description = "실패 사유")
+    private String message;
+}
@@ -0,0 +1,30 @@
+package com.sparta.homework_login.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 일괄 등록의 전체 처리 결과 DTO 클래스입니다.
+ * 응답의 마지막 줄로 전송되며, 이 줄이 없으면 처리가 중간에 중단된 것입니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportSummaryDto {
+
+    @Schema(example = "3", description = "처리한 줄 수")
+    private long total;
+
+    @Schema(example = "1", description = "등록된 회원 수")
+    private long created;
+
+    @Schema(example = "1", description = "중복으로 건너뛴 줄 수")
+    private long duplicated;
+
+    @Schema(example = "1", description = "입력 오류로 건너뛴 줄 수")
+    private long invalid;
+}
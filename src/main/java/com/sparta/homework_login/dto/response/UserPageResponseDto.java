@@ -0,0 +1,25 @@
+package com.sparta.homework_login.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 목록 페이지 응답 DTO 클래스입니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPageResponseDto {
+
+    @Schema(description = "가입 순서로 정렬된 회원 목록")
+    private List<UserSummaryResponseDto> users;
+
+    @Schema(example = "MjAyNi0xMC0xOFQxMjowMDoxNSwxMDI", description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+}
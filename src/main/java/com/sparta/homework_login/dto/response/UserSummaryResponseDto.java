@@ -0,0 +1,36 @@
+package com.sparta.homework_login.dto.response;
+
+import com.sparta.homework_login.enums.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록의 회원 정보 DTO 클래스입니다.
+ * 비밀번호 해시를 읽지 않도록 필요한 컬럼만 조회(JPQL 생성자 표현식)하여 만듭니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummaryResponseDto {
+
+    @Schema(example = "1", description = "회원 아이디")
+    private Long id;
+
+    @Schema(example = "Hong Gil Dong", description = "회원 이름")
+    private String username;
+
+    @Schema(example = "동에 번쩍", description = "닉네임")
+    private String nickname;
+
+    @Schema(example = "ROLE_USER", description = "권한")
+    private UserRole userRole;
+
+    @Schema(example = "2026-10-18T12:00:00", description = "가입 시각")
+    private LocalDateTime createdAt;
+}
@@ -24,6 +24,7 @@ public class UserDetailsImpl implements UserDetails {
     private String nickname;
     private String password;
     private UserRole userRole;
+    private int tokenVersion;
 
     @Override
     public String getPassword() {
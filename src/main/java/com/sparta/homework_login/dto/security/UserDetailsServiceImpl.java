@@ -1,14 +1,19 @@
 package com.sparta.homework_login.dto.security;
 
+import com.sparta.homework_login.common.UserCache;
 import com.sparta.homework_login.entity.User;
 import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.event.UserChangedEvent;
 import com.sparta.homework_login.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 사용자 UserDetails 인터페이스
@@ -18,12 +23,15 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 @Slf4j(topic = "UserDetailsServiceImpl")
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserCache userCache;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 로그인 시 사용되는 메서드입니다.
+     * 사용자 정보는 UserCache를 통해 조회합니다.
      *
      * @param username 로그인에 사용할 사용자 이름
      * @return UserDetails 구현체(UserDetailsImpl)
@@ -32,14 +40,28 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) {
-        log.info("loadUserByUsername " + username);
-        User user = userRepository.findByUsername(username)
+        return userCache.find(username)
                 .orElseThrow(() -> new UsernameNotFoundException(ErrorCode.USER_NOT_FOUND.toString()));
-        return new UserDetailsImpl(
-                user.getId(),
-                user.getUsername(),
-                user.getNickname(),
-                user.getPassword(),
-                user.getUserRole());
+    }
+
+    /**
+     * 로그인 성공 후 저장된 비밀번호의 bcrypt cost가 현재 설정보다 낮을 때 호출됩니다.
+     * 다시 해시한 비밀번호를 저장하고, 커밋 후 UserCache에서 해당 사용자를 제거합니다.
+     *
+     * @param userDetails 로그인한 사용자 정보
+     * @param newPassword 현재 cost로 다시 해시한 비밀번호
+     * @return 비밀번호가 교체된 사용자 정보
+     * @since 2026-10-18
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(ErrorCode.USER_NOT_FOUND.toString()));
+        user.updatePasswordHash(newPassword);
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+
+        return new UserDetailsImpl(user.getId(), user.getUsername(), user.getNickname(),
+                newPassword, user.getUserRole(), user.getTokenVersion());
     }
 }
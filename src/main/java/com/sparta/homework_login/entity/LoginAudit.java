@@ -0,0 +1,52 @@
+package com.sparta.homework_login.entity;
+
+import com.sparta.homework_login.enums.AuthOutcome;
+import com.sparta.homework_login.enums.ErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 시도 감사 로그 Entity 클래스
+ * <p>
+ * LoginAuditWriter가 JDBC 배치 INSERT로 저장하며, 이 클래스는 테이블 구조와 조회에 사용합니다.
+ * MySQL에서는 created_at 기준 월별 파티션 테이블로 만들고, 보존 기간이 지난 파티션을 통째로 삭제합니다.
+ * (docs/sql/login-audit.sql)
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@Table(name = "login_audit", indexes = @Index(name = "idx_login_audit_username_created_at", columnList = "username, createdAt"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoginAudit {
+    public static final int USERNAME_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private Long userId;
+
+    @Column(nullable = false, length = USERNAME_LENGTH)
+    private String username;
+
+    @Column(length = 45)
+    private String clientIp;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AuthOutcome outcome;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 40)
+    private ErrorCode errorCode;
+
+    private long latencyMicros;
+}
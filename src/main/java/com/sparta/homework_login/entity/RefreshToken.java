@@ -0,0 +1,77 @@
+package com.sparta.homework_login.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 정보를 담는 Entity 클래스
+ * <p>
+ * 토큰 원문은 저장하지 않고 SHA-256 다이제스트(tokenHash)만 저장하며, tokenHash의 유니크 인덱스로 조회합니다.
+ * 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 같은 familyId를 가집니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_user_id", columnList = "userId")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column
+    private int tokenVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column
+    private boolean used;
+
+    @Column
+    private boolean revoked;
+
+    @Builder
+    public RefreshToken(String tokenHash, String familyId, Long userId, String username, int tokenVersion,
+                        LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.username = username;
+        this.tokenVersion = tokenVersion;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 만료 여부를 확인합니다.
+     *
+     * @param now 현재 시간
+     * @return 만료되었으면 true
+     * @since 2026-10-18
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
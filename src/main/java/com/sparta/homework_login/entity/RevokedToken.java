@@ -0,0 +1,38 @@
+package com.sparta.homework_login.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기(로그아웃)된 JWT 토큰 정보를 담는 Entity 클래스
+ * <p>
+ * 토큰 원문 대신 SHA-256 다이제스트(tokenHash)를 저장하며, 토큰 만료 시간(expiresAt)이 지나면 삭제됩니다.
+ * 애플리케이션 시작 시 만료되지 않은 항목을 TokenDenylist에 다시 불러옵니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public RevokedToken(String tokenHash, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
+}
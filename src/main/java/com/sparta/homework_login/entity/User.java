@@ -9,21 +9,33 @@ import lombok.NoArgsConstructor;
 
 /**
  * 회원 정보를 담는 Entity 클래스
+ * <p>
+ * id는 user_seq에서 ID_ALLOCATION_SIZE개씩 블록으로 할당받으므로(pooled-lo) 여러 회원을 저장할 때 INSERT를 배치로 실행할 수 있습니다.
+ * (IDENTITY는 키를 알기 위해 INSERT를 한 건씩 바로 실행하므로 배치를 사용할 수 없음)
+ * MySQL처럼 시퀀스가 없는 DB에서는 user_seq 테이블로 시퀀스를 대신합니다.
+ * username 유니크 키는 이름(USERNAME_UNIQUE_CONSTRAINT)을 지정하여 저장 오류 중 username 중복만 구분할 수 있도록 합니다.
  *
  * @since 2025-01-17
  */
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_user_created_at_id", columnList = "createdAt, id"), // 회원 목록 키셋 페이지네이션
+        uniqueConstraints = @UniqueConstraint(name = User.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User extends Timestamped {
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_user_username";
+    public static final int USERNAME_MAX_LENGTH = 255;
+    public static final int NICKNAME_MAX_LENGTH = 255;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(unique = true)
+    @Column(length = USERNAME_MAX_LENGTH)
     private String username;
 
     @Column
@@ -33,11 +45,34 @@ public class User extends Timestamped {
     @Enumerated(EnumType.STRING)
     private UserRole userRole = UserRole.ROLE_USER;
 
-    @Column
+    @Column(length = NICKNAME_MAX_LENGTH)
     private String nickname;
 
+    @Column
+    private int tokenVersion;
+
+    /**
+     * 회원 정보를 수정합니다.
+     * 기존에 발급된 토큰이 더 이상 사용되지 않도록 토큰 버전을 함께 올립니다.
+     *
+     * @param nickname 수정할 닉네임
+     * @param password 암호화된 새 비밀번호
+     * @since 2025-02-13
+     */
     public void update(String nickname, String password) {
         this.nickname = nickname;
         this.password = password;
+        this.tokenVersion++;
+    }
+
+    /**
+     * 비밀번호 해시만 교체합니다. (bcrypt cost 변경에 따른 재해시)
+     * 비밀번호 자체는 바뀌지 않으므로 토큰 버전은 유지합니다.
+     *
+     * @param password 다시 해시한 비밀번호
+     * @since 2026-10-18
+     */
+    public void updatePasswordHash(String password) {
+        this.password = password;
     }
 }
@@ -0,0 +1,58 @@
+package com.sparta.homework_login.entity;
+
+import com.sparta.homework_login.enums.UserChangeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인스턴스 간 캐시 무효화를 위한 변경 로그 Entity 클래스
+ * <p>
+ * 회원 정보 수정/탈퇴, 토큰 폐기와 같은 트랜잭션에서 저장되며,
+ * 각 인스턴스가 아이디 순서로 읽어 자신의 캐시(UserCache, TokenVersionTable, TokenDenylist)에 반영합니다.
+ * 보존 기간(user.change-log.retention-minutes)이 지나면 삭제됩니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_user_change_log_created_at", columnList = "createdAt"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserChangeLog extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UserChangeType changeType;
+
+    private Long userId;
+
+    @Column(length = 100)
+    private String username;
+
+    @Column(length = 64)
+    private String tokenHash;
+
+    private LocalDateTime tokenExpiresAt;
+
+    @Column(nullable = false, length = 36)
+    private String sourceId; // 변경을 저장한 인스턴스 (자신이 저장한 변경은 읽지 않음)
+
+    @Builder
+    public UserChangeLog(UserChangeType changeType, Long userId, String username,
+                         String tokenHash, LocalDateTime tokenExpiresAt, String sourceId) {
+        this.changeType = changeType;
+        this.userId = userId;
+        this.username = username;
+        this.tokenHash = tokenHash;
+        this.tokenExpiresAt = tokenExpiresAt;
+        this.sourceId = sourceId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.homework_login.enums;
+
+/**
+ * 로그인 감사 로그 버퍼가 가득 찼을 때의 처리 방식입니다.
+ *
+ * @since 2026-10-18
+ */
+public enum AuditOverflowPolicy {
+    DROP,  // 기다리지 않고 버림 (로그인 응답 시간 우선)
+    BLOCK  // 최대 block-timeout-millis 동안 자리가 나기를 기다린 뒤 버림 (감사 로그 보존 우선)
+}
@@ -0,0 +1,14 @@
+package com.sparta.homework_login.enums;
+
+/**
+ * 접근 로그에 기록하는 요청의 인증 결과입니다.
+ *
+ * @since 2026-10-18
+ */
+public enum AuthOutcome {
+    ANONYMOUS,          // 토큰 없이 요청
+    AUTHENTICATED,      // 토큰 인증 성공
+    TOKEN_REJECTED,     // 토큰 인증 실패
+    LOGIN_SUCCEEDED,    // 로그인 성공
+    LOGIN_FAILED        // 로그인 실패
+}
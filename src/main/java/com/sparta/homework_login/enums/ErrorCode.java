@@ -23,7 +23,11 @@ public enum ErrorCode {
     // 401
     TOKEN_TIMEOUT(HttpStatus.UNAUTHORIZED, "만료된 JWT token 입니다."),
     TOKEN_UNSUPPORTED(HttpStatus.UNAUTHORIZED, "지원되지 않는 JWT 토큰 입니다."),
+    TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "더 이상 사용할 수 없는 JWT 토큰 입니다."),
     USER_PASSWORD_NOT_MATCH(HttpStatus.UNAUTHORIZED, "비밀번호가 올바르지 않습니다."),
+    REFRESH_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰 입니다."),
+    REFRESH_TOKEN_TIMEOUT(HttpStatus.UNAUTHORIZED, "만료된 리프레시 토큰 입니다."),
+    REFRESH_TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "더 이상 사용할 수 없는 리프레시 토큰 입니다. 다시 로그인해주세요."),
 
     // 403
     INVALID_PERMISSION(HttpStatus.FORBIDDEN, "권한이 없습니다"),
@@ -36,8 +40,14 @@ public enum ErrorCode {
     // 409
     USER_DUPLICATED(HttpStatus.CONFLICT, "이름이 중복됩니다."),
 
+    // 429
+    LOGIN_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     // 500
-    UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류");
+    UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류"),
+
+    // 503
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,12 @@
+package com.sparta.homework_login.enums;
+
+/**
+ * 다른 인스턴스에 전달하는 변경 종류입니다. (user_change_log)
+ *
+ * @since 2026-10-18
+ */
+public enum UserChangeType {
+    USER_UPDATED,   // 회원 정보 수정 (비밀번호 재해시 포함)
+    USER_DELETED,   // 회원 탈퇴
+    TOKEN_REVOKED   // 액세스 토큰 폐기 (로그아웃)
+}
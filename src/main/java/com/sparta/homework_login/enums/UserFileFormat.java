@@ -0,0 +1,22 @@
+package com.sparta.homework_login.enums;
+
+import com.sparta.homework_login.exception.BusinessException;
+
+import java.util.Arrays;
+
+/**
+ * 회원 일괄 등록 / 내보내기의 파일 형식입니다.
+ *
+ * @since 2026-10-18
+ */
+public enum UserFileFormat {
+    NDJSON, // 한 줄에 JSON 객체 하나
+    CSV;    // 첫 줄 헤더 (RFC 4180)
+
+    public static UserFileFormat of(String format) {
+        return Arrays.stream(UserFileFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.BAD_INPUT, "format은 ndjson 또는 csv여야 합니다."));
+    }
+}
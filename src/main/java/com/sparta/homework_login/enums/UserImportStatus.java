@@ -0,0 +1,12 @@
+package com.sparta.homework_login.enums;
+
+/**
+ * 회원 일괄 등록의 줄별 처리 결과입니다.
+ *
+ * @since 2026-10-18
+ */
+public enum UserImportStatus {
+    CREATED,     // 등록 성공
+    DUPLICATED,  // 이미 존재하거나 파일 안에서 중복된 username
+    INVALID      // 형식 오류 또는 입력값 검증 실패
+}
@@ -0,0 +1,43 @@
+package com.sparta.homework_login.event;
+
+import com.sparta.homework_login.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 정보가 수정되거나 탈퇴했을 때 발행되는 이벤트 클래스입니다.
+ * <p>
+ * 토큰 버전 테이블 등 회원 정보를 메모리에 보관하는 컴포넌트가 이 이벤트를 받아 갱신합니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+    private final String username;
+    private final int tokenVersion;
+    private final boolean deleted;
+
+    /**
+     * 회원 정보 수정 이벤트를 생성합니다.
+     *
+     * @param user 수정된 User 엔티티
+     * @return 생성된 UserChangedEvent 객체
+     * @since 2026-10-18
+     */
+    public static UserChangedEvent updated(User user) {
+        return new UserChangedEvent(user.getId(), user.getUsername(), user.getTokenVersion(), false);
+    }
+
+    /**
+     * 회원 탈퇴 이벤트를 생성합니다.
+     *
+     * @param user 탈퇴한 User 엔티티
+     * @return 생성된 UserChangedEvent 객체
+     * @since 2026-10-18
+     */
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(user.getId(), user.getUsername(), user.getTokenVersion(), true);
+    }
+}
@@ -1,39 +1,46 @@
 package com.sparta.homework_login.exception;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.sparta.homework_login.dto.response.ErrorResponseDto;
+import com.sparta.homework_login.common.JsonUtil;
 import com.sparta.homework_login.enums.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 
 /**
  * 예외 처리 클래스.
+ * <p>
+ * 오류 응답은 JsonUtil을 통해 미리 만든 JSON 바이트로 응답 스트림에 바로 작성합니다.
  *
  * @since 2025-01-17
  */
 @Slf4j(topic = "exception:")
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final JsonUtil jsonUtil;
+
     /**
      * 입력 관련 예외 처리
      *
      * @since 2025-01-17
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponseDto> BaseException(MethodArgumentNotValidException ex, HttpServletRequest req) {
+    public void BaseException(MethodArgumentNotValidException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
         // 에러 메시지 추출
         String errorMsg = ex.getBindingResult().
                 getAllErrors()
                 .get(0)
                 .getDefaultMessage();
 
-        return validException(req, errorMsg);
+        validException(req, res, errorMsg);
     }
 
     /**
@@ -42,8 +49,18 @@ public class GlobalExceptionHandler {
      * @since 2025-01-17
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ErrorResponseDto> BaseException(BusinessException ex, HttpServletRequest req) {
-        return baseException(req, ex);
+    public void BaseException(BusinessException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        baseException(req, res, ex);
+    }
+
+    /**
+     * 재시도 요청 예외 처리 (Retry-After 헤더 포함)
+     *
+     * @since 2026-10-18
+     */
+    @ExceptionHandler(RetryLaterException.class)
+    public void BaseException(RetryLaterException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        baseException(req, res, ex);
     }
 
     /**
@@ -52,9 +69,9 @@ public class GlobalExceptionHandler {
      * @since 2025-01-17
      */
     @ExceptionHandler(JsonProcessingException.class)
-    public ResponseEntity<ErrorResponseDto> BaseException(JsonProcessingException ex, HttpServletRequest req) {
+    public void BaseException(JsonProcessingException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
         printError(ex);
-        return baseException(req, ErrorCode.JSON_INVALID);
+        baseException(req, res, ErrorCode.JSON_INVALID);
     }
 
     /**
@@ -63,9 +80,9 @@ public class GlobalExceptionHandler {
      * @since 2025-01-17
      */
     @ExceptionHandler(UnsupportedEncodingException.class)
-    public ResponseEntity<ErrorResponseDto> BaseException(UnsupportedEncodingException ex, HttpServletRequest req) {
+    public void BaseException(UnsupportedEncodingException ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
         printError(ex);
-        return baseException(req, ErrorCode.TOKEN_FAIL_ENCODING);
+        baseException(req, res, ErrorCode.TOKEN_FAIL_ENCODING);
     }
 
     /**
@@ -74,54 +91,45 @@ public class GlobalExceptionHandler {
      * @since 2025-01-17
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponseDto> BaseException(Exception ex, HttpServletRequest req) {
+    public void BaseException(Exception ex, HttpServletRequest req, HttpServletResponse res) throws IOException {
         printError(ex);
-        return baseException(req, ErrorCode.UNKNOWN_ERROR);
+        baseException(req, res, ErrorCode.UNKNOWN_ERROR);
     }
 
     /**
      * 기본적인 예외 처리를 위한 메서드입니다.
      *
      * @param req HTTP 요청 객체
+     * @param res HTTP 응답 객체
      * @param ex  발생한 예외 객체
-     * @return HTTP 응답 객체
      * @since 2025-01-17
      */
-    private ResponseEntity<ErrorResponseDto> baseException(HttpServletRequest req, BusinessException ex) {
-        String url = req.getRequestURL().toString();
-        return ResponseEntity
-                .status(ex.getErrorCode().getHttpStatus())
-                .body(new ErrorResponseDto(ex, url));
+    private void baseException(HttpServletRequest req, HttpServletResponse res, BusinessException ex) throws IOException {
+        jsonUtil.writeBody(req, res, ex);
     }
 
     /**
      * 기본적인 예외 처리를 위한 메서드입니다.
      *
      * @param req       HTTP 요청 객체
+     * @param res       HTTP 응답 객체
      * @param errorCode 응답 코드
-     * @return ResponseEntity 객체
      * @since 2025-01-17
      */
-    private ResponseEntity<ErrorResponseDto> baseException(HttpServletRequest req, ErrorCode errorCode) {
-        String url = req.getRequestURL().toString();
-        return ResponseEntity
-                .status(errorCode.getHttpStatus())
-                .body(new ErrorResponseDto(errorCode, url));
+    private void baseException(HttpServletRequest req, HttpServletResponse res, ErrorCode errorCode) throws IOException {
+        jsonUtil.writeBody(req, res, errorCode);
     }
 
     /**
      * 유효성 검사 실패 시 발생하는 예외 처리를 위한 메서드입니다.
      *
      * @param req      HTTP 요청 객체
+     * @param res      HTTP 응답 객체
      * @param errorMsg 에러 메시지
-     * @return ResponseEntity 객체
      * @since 2025-01-17
      */
-    private ResponseEntity<ErrorResponseDto> validException(HttpServletRequest req, String errorMsg) {
-        String url = req.getRequestURL().toString();
-        return ResponseEntity
-                .status(ErrorCode.BAD_INPUT.getHttpStatus())
-                .body(new ErrorResponseDto(ErrorCode.BAD_INPUT, url, errorMsg));
+    private void validException(HttpServletRequest req, HttpServletResponse res, String errorMsg) throws IOException {
+        jsonUtil.writeBody(req, res, ErrorCode.BAD_INPUT, errorMsg);
     }
 
     /**
@@ -134,4 +142,4 @@ public class GlobalExceptionHandler {
         StackTraceElement[] stackTraceElements = ex.getStackTrace();
         log.error(ex.getMessage(), stackTraceElements[0].toString());
     }
-}
\ No newline at end of file
+}
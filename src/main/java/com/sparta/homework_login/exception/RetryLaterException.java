@@ -0,0 +1,28 @@
+package com.sparta.homework_login.exception;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 잠시 후 다시 요청해야 하는 경우(과부하, 요청 제한 등) 발생하는 예외 클래스
+ * <p>
+ * 응답에 Retry-After 헤더로 재시도까지 기다릴 시간(초)을 함께 전달합니다.
+ *
+ * @since 2026-10-18
+ */
+@Getter
+public class RetryLaterException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    /**
+     * RetryLaterException 클래스의 생성자
+     *
+     * @param errorCode         응답 코드 정보를 담은 객체
+     * @param retryAfterSeconds 재시도까지 기다릴 시간(초)
+     * @since 2026-10-18
+     */
+    public RetryLaterException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
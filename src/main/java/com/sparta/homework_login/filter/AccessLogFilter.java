@@ -0,0 +1,80 @@
+package com.sparta.homework_login.filter;
+
+import com.sparta.homework_login.common.AccessLogWriter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 접근 로그 1건을 남기는 필터 클래스입니다.
+ * <p>
+ * 보안 필터보다 앞에서 실행되어 로그인/인가 실패 응답까지 함께 기록합니다.
+ * 비동기로 처리되는 요청(비동기 로그인)은 처리가 끝난 시점(onComplete)에 기록합니다.
+ * 필터 체인에서 예외가 전파된 요청은 500으로 기록합니다.
+ *
+ * @since 2026-10-18
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+    private final AccessLogWriter accessLogWriter;
+
+    public AccessLogFilter(AccessLogWriter accessLogWriter) {
+        this.accessLogWriter = accessLogWriter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(req, res);
+            completed = true;
+        } finally {
+            if (!completed) {
+                // 예외가 전파되면 응답 상태 코드는 아직 200일 수 있으므로, 컨테이너가 보낼 500으로 기록
+                accessLogWriter.record(req, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start);
+            } else if (req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new CompletionListener(req, res, start));
+            } else {
+                accessLogWriter.record(req, res, start);
+            }
+        }
+    }
+
+    /**
+     * 비동기 요청이 끝나면 접근 로그를 기록하는 리스너입니다.
+     */
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest req;
+        private final HttpServletResponse res;
+        private final long start;
+
+        private CompletionListener(HttpServletRequest req, HttpServletResponse res, long start) {
+            this.req = req;
+            this.res = res;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            accessLogWriter.record(req, res, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.sparta.homework_login.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.AccessLogWriter;
+import com.sparta.homework_login.common.AuthMetrics;
 import com.sparta.homework_login.common.JsonUtil;
 import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.LoginAuditWriter;
+import com.sparta.homework_login.common.LoginRateLimiter;
+import com.sparta.homework_login.common.LoginRequestParser;
+import com.sparta.homework_login.common.PasswordHashExecutor;
 import com.sparta.homework_login.dto.request.SignInRequestDto;
 import com.sparta.homework_login.dto.response.SignInResponseDto;
 import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.enums.AuthOutcome;
 import com.sparta.homework_login.enums.ErrorCode;
 import com.sparta.homework_login.enums.UserRole;
 import com.sparta.homework_login.exception.BusinessException;
+import com.sparta.homework_login.exception.RetryLaterException;
+import com.sparta.homework_login.service.RefreshTokenService;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -21,32 +37,184 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * JWT 인증 필터 클래스입니다.
  * <p>
  * 사용자 로그인 시도를 처리하고, 성공 시에는 JWT 토큰을 생성하여 응답 헤더에 포함합니다.
  * 실패 시에는 오류 코드를 설정하여 클라이언트에게 알려줍니다.
+ * <p>
+ * login.async.enabled 설정 시 로그인 요청을 서블릿 비동기로 처리합니다.
+ * 인증(bcrypt 검증)은 PasswordHashExecutor 스레드에서 실행되고, 결과는 ASYNC 디스패치로 돌아와
+ * 요청 처리 스레드에서 응답을 작성합니다. 대기 큐가 가득 차면 즉시 503 + Retry-After를 응답합니다.
+ * <p>
+ * 비밀번호 검증 전에 LoginRateLimiter로 클라이언트 IP / username별 시도 횟수를 확인하고,
+ * 초과하면 429 + Retry-After를 응답합니다.
+ * <p>
+ * 인증 성공/실패는 LoginAuditWriter로 감사 로그에 기록합니다. (버퍼에 넣기만 하며 DB 저장은 별도 스레드에서 배치로 실행)
+ * 로그인 요청의 오류 응답(JSON 오류, 시도 횟수 초과, 과부하, 응답 시간 초과 등)은 모두 writeFailure를 거쳐 실패로 기록하고,
+ * 성공은 토큰을 모두 발급한 뒤에 기록합니다.
  *
  * @since 2025-01-17
  */
 @Slf4j(topic = "JwtAuthenticationFilter: 로그인 및 JWT 생성")
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String RESULT_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".RESULT";
+    private static final String STARTED_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".STARTED";
+    private static final String USERNAME_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".USERNAME";
+
     private final JwtUtil jwtUtil;
     private final JsonUtil jsonUtil;
+    private final LoginRequestParser loginRequestParser;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final AuthMetrics authMetrics;
+    private final LoginAuditWriter loginAuditWriter;
+    private final boolean asyncEnabled;
+    private final long asyncTimeoutMillis;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, JsonUtil jsonUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, JsonUtil jsonUtil, LoginRequestParser loginRequestParser,
+                                   LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper, RefreshTokenService refreshTokenService,
+                                   PasswordHashExecutor passwordHashExecutor, AuthMetrics authMetrics,
+                                   LoginAuditWriter loginAuditWriter, boolean asyncEnabled, long asyncTimeoutMillis) {
         this.jwtUtil = jwtUtil;
         this.jsonUtil = jsonUtil;
+        this.loginRequestParser = loginRequestParser;
+        this.loginRateLimiter = loginRateLimiter;
+        this.objectMapper = objectMapper;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.authMetrics = authMetrics;
+        this.loginAuditWriter = loginAuditWriter;
+        this.asyncEnabled = asyncEnabled;
+        this.asyncTimeoutMillis = asyncTimeoutMillis;
         setFilterProcessesUrl("/api/auth/login");
     }
 
+    /**
+     * 로그인 요청을 처리합니다.
+     * <p>
+     * 비동기 처리가 꺼져 있으면 기존과 같이 요청 처리 스레드에서 인증합니다.
+     * 인증 중 발생한 BusinessException(JSON 오류, 과부하 등)은 오류 응답으로 작성합니다.
+     *
+     * @param request  HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param chain    필터 체인
+     * @since 2026-10-18
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse res = (HttpServletResponse) response;
+
+        if (req.getDispatcherType() == DispatcherType.ASYNC && requiresAuthentication(req, res)) {
+            Object result = req.getAttribute(RESULT_ATTRIBUTE);
+            req.removeAttribute(RESULT_ATTRIBUTE);
+            completeAuthentication(req, res, chain, result);
+            return;
+        }
+
+        if (!asyncEnabled || !req.isAsyncSupported() || !requiresAuthentication(req, res)) {
+            try {
+                super.doFilter(req, res, chain);
+            } catch (BusinessException ex) {
+                if (requiresAuthentication(req, res)) {
+                    writeFailure(req, res, ex);
+                } else {
+                    jsonUtil.writeBody(req, res, ex);
+                }
+            }
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authRequest;
+        try {
+            authRequest = parseRequest(req);
+        } catch (BusinessException ex) {
+            writeFailure(req, res, ex);
+            return;
+        }
+        startAsyncAuthentication(req, res, authRequest);
+    }
+
+    /**
+     * 인증을 PasswordHashExecutor에 제출하고 요청 처리 스레드를 반환합니다.
+     * 요청 본문은 호출 전에 요청 처리 스레드에서 읽어 두므로, 느린 본문 전송이 해시 스레드를 붙잡지 않습니다.
+     * 대기 큐가 가득 찬 경우 즉시 오류 응답을 작성합니다.
+     * <p>
+     * 응답은 해시 스레드와 TimeoutListener 중 done을 먼저 차지한 쪽만 작성합니다.
+     * 제한 시간이 지난 뒤에는 큐에 남은 인증을 건너뛰고, 늦게 끝난 인증 결과는 끝난 요청에 담지 않고 버립니다.
+     */
+    private void startAsyncAuthentication(HttpServletRequest req, HttpServletResponse res,
+                                          UsernamePasswordAuthenticationToken authRequest) throws IOException {
+        AsyncContext asyncContext = req.startAsync();
+        asyncContext.setTimeout(asyncTimeoutMillis);
+        AtomicBoolean done = new AtomicBoolean();
+        asyncContext.addListener(new TimeoutListener(req, res, done));
+
+        try {
+            passwordHashExecutor.execute(() -> {
+                if (done.get()) {
+                    return; // 대기 중 제한 시간이 지나 이미 503을 응답한 요청
+                }
+
+                Object result;
+                try {
+                    result = getAuthenticationManager().authenticate(authRequest);
+                    if (result == null) {
+                        result = new BusinessException(ErrorCode.UNKNOWN_ERROR);
+                    }
+                } catch (AuthenticationException | BusinessException ex) {
+                    result = ex;
+                } catch (RuntimeException ex) {
+                    log.error(ex.getMessage(), ex);
+                    result = new BusinessException(ErrorCode.UNKNOWN_ERROR);
+                }
+
+                if (!done.compareAndSet(false, true)) {
+                    log.warn("로그인 응답 시간 초과 후 인증 완료: 결과를 버립니다.");
+                    return;
+                }
+                try {
+                    req.setAttribute(RESULT_ATTRIBUTE, result);
+                    asyncContext.dispatch();
+                } catch (IllegalStateException ex) {
+                    log.warn("로그인 결과 디스패치 실패: {}", ex.getMessage()); // 컨테이너가 이미 끝낸 요청
+                }
+            });
+        } catch (BusinessException ex) {
+            done.set(true);
+            writeFailure(req, res, ex);
+            asyncContext.complete();
+        }
+    }
+
+    /**
+     * 비동기 인증 결과로 응답을 작성합니다.
+     */
+    private void completeAuthentication(HttpServletRequest req, HttpServletResponse res, FilterChain chain, Object result) throws IOException {
+        if (result instanceof Authentication authResult) {
+            successfulAuthentication(req, res, chain, authResult);
+        } else if (result instanceof AuthenticationException ex) {
+            unsuccessfulAuthentication(req, res, ex);
+        } else if (result instanceof BusinessException ex) {
+            writeFailure(req, res, ex);
+        } else {
+            log.error("unexpected login result: {}", result);
+            writeFailure(req, res, ErrorCode.UNKNOWN_ERROR);
+        }
+    }
+
     /**
      * 로그인 시도를 수행하는 메서드입니다.
      * <p>
      * 요청 본문(body)에서 로그인 정보(SignInRequestDto)를 파싱하고,
      * UsernamePasswordAuthenticationToken 객체를 생성하여 스프링 시큐리티 인증 매니저에게 전달합니다.
+     * 본문 파싱은 LoginRequestParser가 크기 제한을 두고 스트리밍 방식으로 처리합니다.
      *
      * @param req HTTP 요청 객체
      * @param res HTTP 응답 객체
@@ -56,20 +224,32 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest req, HttpServletResponse res) throws AuthenticationException {
-        log.info("로그인 시도");
-        try {
-            SignInRequestDto requestDto = objectMapper.readValue(req.getInputStream(), SignInRequestDto.class);
-            return getAuthenticationManager().authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            requestDto.getUsername(),
-                            requestDto.getPassword(),
-                            null
-                    )
-            );
-        } catch (IOException e) {
-            log.error(e.getMessage());
-            throw new BusinessException(ErrorCode.JSON_INVALID);
-        }
+        return getAuthenticationManager().authenticate(parseRequest(req));
+    }
+
+    /**
+     * 요청 본문에서 로그인 정보를 읽어 인증 요청 객체를 만듭니다.
+     * <p>
+     * 클라이언트 IP 기준 시도 횟수는 본문을 읽기 전에, username 기준 시도 횟수는 본문을 읽은 직후 확인합니다.
+     *
+     * @param req HTTP 요청 객체
+     * @return 인증 요청 객체
+     * @throws BusinessException JSON 형식이 잘못되었거나 크기 제한을 넘은 경우, 로그인 시도 횟수를 넘은 경우 발생
+     * @since 2026-10-18
+     */
+    private UsernamePasswordAuthenticationToken parseRequest(HttpServletRequest req) {
+        req.setAttribute(STARTED_ATTRIBUTE, System.nanoTime()); // 감사 로그의 로그인 처리 시간 기준
+        loginRateLimiter.checkClient(req);
+        long start = System.nanoTime();
+        SignInRequestDto requestDto = loginRequestParser.parse(req);
+        authMetrics.getLoginParse().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        req.setAttribute(USERNAME_ATTRIBUTE, requestDto.getUsername());
+        loginRateLimiter.checkUsername(requestDto.getUsername());
+        return new UsernamePasswordAuthenticationToken(
+                requestDto.getUsername(),
+                requestDto.getPassword(),
+                null
+        );
     }
 
     /**
@@ -77,6 +257,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * <p>
      * 인증된 사용자 정보(UserDetailsImpl)를 기반으로 JWT 토큰을 생성하고,
      * 응답 헤더와 body부분에 토큰을 담아 반환합니다.
+     * body에는 토큰 재발급(/api/auth/refresh)에 사용할 리프레시 토큰도 함께 담습니다.
+     * 감사 로그의 성공은 두 토큰을 모두 발급한 뒤에 기록하며, 발급에 실패하면 실패로 기록합니다.
      *
      * @param req        HTTP 요청 객체
      * @param res        HTTP 응답 객체
@@ -86,15 +268,29 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      */
     @Override
     protected void successfulAuthentication(HttpServletRequest req, HttpServletResponse res, FilterChain chain, Authentication authResult) throws IOException {
-        log.info("로그인 성공 및 JWT 생성");
-
         Long id = ((UserDetailsImpl) authResult.getPrincipal()).getId();
         UserRole role = ((UserDetailsImpl) authResult.getPrincipal()).getUserRole();
         String username = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
         String nickname = ((UserDetailsImpl) authResult.getPrincipal()).getNickname();
+        int tokenVersion = ((UserDetailsImpl) authResult.getPrincipal()).getTokenVersion();
 
-        String token = jwtUtil.createToken(id, role, username, nickname);
-        String json = objectMapper.writeValueAsString(new SignInResponseDto(token));
+        String token;
+        String refreshToken;
+        try {
+            token = jwtUtil.createToken(id, role, username, nickname, tokenVersion);
+            refreshToken = refreshTokenService.issue((UserDetailsImpl) authResult.getPrincipal());
+        } catch (BusinessException ex) {
+            writeFailure(req, res, ex);
+            return;
+        } catch (RuntimeException ex) {
+            log.error("login token issue failed", ex);
+            writeFailure(req, res, ErrorCode.UNKNOWN_ERROR);
+            return;
+        }
+        AccessLogWriter.setAuthOutcome(req, AuthOutcome.LOGIN_SUCCEEDED);
+        loginAuditWriter.recordSuccess(req, id, username, startedNanos(req));
+
+        String json = objectMapper.writeValueAsString(new SignInResponseDto(token, refreshToken));
 
         res.setHeader("Authorization", token);
         res.setContentType("application/json");
@@ -112,7 +308,6 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      */
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest req, HttpServletResponse res, AuthenticationException ex) {
-        log.info("로그인 실패");
         try {
             ErrorCode errorCode = ErrorCode.UNKNOWN_ERROR;
             if (ex instanceof UsernameNotFoundException) {
@@ -120,10 +315,73 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             } else if (ex instanceof BadCredentialsException) {
                 errorCode = ErrorCode.USER_PASSWORD_NOT_MATCH;
             }
-            jsonUtil.writeBody(req, res, errorCode);
+            writeFailure(req, res, errorCode);
         } catch (IOException e) {
             log.error(e.getMessage());
             throw new BusinessException(ErrorCode.JSON_INVALID);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 실패를 감사 로그에 기록하고 오류 응답을 작성합니다. 로그인 요청의 모든 오류 응답은 이 메서드를 거칩니다.
+     */
+    private void writeFailure(HttpServletRequest req, HttpServletResponse res, ErrorCode errorCode) throws IOException {
+        recordFailure(req, errorCode);
+        jsonUtil.writeBody(req, res, errorCode);
+    }
+
+    /**
+     * 예외에 담긴 오류 코드로 로그인 실패를 기록하고 오류 응답을 작성합니다. (RetryLaterException이면 Retry-After 포함)
+     */
+    private void writeFailure(HttpServletRequest req, HttpServletResponse res, BusinessException ex) throws IOException {
+        recordFailure(req, ex.getErrorCode());
+        jsonUtil.writeBody(req, res, ex);
+    }
+
+    private void recordFailure(HttpServletRequest req, ErrorCode errorCode) {
+        AccessLogWriter.setAuthOutcome(req, AuthOutcome.LOGIN_FAILED);
+        loginAuditWriter.recordFailure(req, (String) req.getAttribute(USERNAME_ATTRIBUTE), errorCode, startedNanos(req));
+    }
+
+    private static long startedNanos(HttpServletRequest req) {
+        Object started = req.getAttribute(STARTED_ATTRIBUTE);
+        return started instanceof Long nanos ? nanos : System.nanoTime();
+    }
+
+    /**
+     * 비동기 로그인 처리가 제한 시간을 넘기면 503 + Retry-After 응답을 작성하는 리스너입니다.
+     * 해시 스레드가 먼저 결과를 디스패치했다면(done을 먼저 차지한 경우) 아무것도 하지 않습니다.
+     */
+    private class TimeoutListener implements AsyncListener {
+        private final HttpServletRequest req;
+        private final HttpServletResponse res;
+        private final AtomicBoolean done;
+
+        private TimeoutListener(HttpServletRequest req, HttpServletResponse res, AtomicBoolean done) {
+            this.req = req;
+            this.res = res;
+            this.done = done;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            writeFailure(req, res, new RetryLaterException(ErrorCode.SERVICE_BUSY, passwordHashExecutor.getRetryAfterSeconds()));
+            event.getAsyncContext().complete();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
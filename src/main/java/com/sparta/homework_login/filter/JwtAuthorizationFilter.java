@@ -1,11 +1,18 @@
 package com.sparta.homework_login.filter;
 
+import com.sparta.homework_login.common.AccessLogWriter;
 import com.sparta.homework_login.common.JsonUtil;
 import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.TokenClaims;
+import com.sparta.homework_login.common.TokenDenylist;
+import com.sparta.homework_login.common.TokenDigest;
+import com.sparta.homework_login.common.TokenVersionTable;
+import com.sparta.homework_login.common.VerifiedTokenCache;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
 import com.sparta.homework_login.dto.security.UserDetailsServiceImpl;
+import com.sparta.homework_login.enums.AuthOutcome;
 import com.sparta.homework_login.enums.ErrorCode;
 import com.sparta.homework_login.exception.BusinessException;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,7 +22,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -27,6 +33,11 @@ import java.io.IOException;
  * <p>
  * 요청 헤더에 포함된 JWT 토큰을 검증하고, 유효한 토큰이であれば 사용자 인증 정보를 설정합니다.
  * 이후 필터 체인을 통해 다음 필터로 요청을 전달합니다.
+ * <p>
+ * claimsAuthentication 모드에서는 DB 조회 없이 검증된 Claims만으로 사용자 정보를 구성하고,
+ * 토큰 버전 테이블로 회원 정보 수정/탈퇴 이전에 발급된 토큰을 거부합니다.
+ * <p>
+ * 로그아웃으로 폐기된 토큰은 TokenDenylist로 거부합니다.
  *
  * @since 2025-01-17
  */
@@ -35,11 +46,21 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JsonUtil jsonUtil;
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVersionTable tokenVersionTable;
+    private final TokenDenylist tokenDenylist;
+    private final boolean claimsAuthentication;
 
-    public JwtAuthorizationFilter(JsonUtil jsonUtil, JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JsonUtil jsonUtil, JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService,
+                                  VerifiedTokenCache tokenCache, TokenVersionTable tokenVersionTable,
+                                  TokenDenylist tokenDenylist, boolean claimsAuthentication) {
         this.jsonUtil = jsonUtil;
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenCache = tokenCache;
+        this.tokenVersionTable = tokenVersionTable;
+        this.tokenDenylist = tokenDenylist;
+        this.claimsAuthentication = claimsAuthentication;
     }
 
     /**
@@ -56,31 +77,35 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
      */
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
-        log.info("doFilterInternal " + req.getRequestURI());
         String tokenValue = req.getHeader("Authorization");
         if (StringUtils.hasText(tokenValue)) {
-            // JWT 토큰 substring
-            tokenValue = jwtUtil.substringToken(tokenValue);
+            try {
+                // JWT 토큰 substring
+                tokenValue = jwtUtil.substringToken(tokenValue);
 
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(tokenValue);
-            if (claims == null) {
-                res.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
-                return;
-            }
+                // 로그아웃으로 폐기된 토큰 거부
+                String digest = TokenDigest.of(tokenValue);
+                if (tokenDenylist.isRevoked(digest)) {
+                    throw new BusinessException(ErrorCode.TOKEN_REVOKED);
+                }
 
-            try {
-                setAuthentication(claims.get("username", String.class));
+                // JWT 유효성 검사와 claims 추출 (이미 검증된 토큰은 캐시에서 조회)
+                TokenClaims claims = tokenCache.get(digest, tokenValue, jwtUtil::extractClaims);
+                setAuthentication(claims);
+                AccessLogWriter.setAuthOutcome(req, AuthOutcome.AUTHENTICATED);
             } catch (BusinessException ex) {
+                AccessLogWriter.setAuthOutcome(req, AuthOutcome.TOKEN_REJECTED);
                 jsonUtil.writeBody(req, res, ex.getErrorCode());
                 return;
             }
             catch (UsernameNotFoundException ex) {
+                AccessLogWriter.setAuthOutcome(req, AuthOutcome.TOKEN_REJECTED);
                 jsonUtil.writeBody(req, res, ErrorCode.USER_NOT_FOUND);
                 return;
             }
             catch (Exception ex) {
                 log.error(ex.getMessage());
+                AccessLogWriter.setAuthOutcome(req, AuthOutcome.TOKEN_REJECTED);
                 jsonUtil.writeBody(req, res, ErrorCode.UNKNOWN_ERROR);
                 return;
             }
@@ -92,12 +117,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     /**
      * 인증 정보를 SecurityContextHolder에 설정하는 메소드입니다.
      *
-     * @param username JWT 토큰에서 추출한 사용자 이름
+     * @param claims JWT 토큰에서 추출한 사용자 정보
      * @since 2025-01-17
      */
-    public void setAuthentication(String username) {
+    public void setAuthentication(TokenClaims claims) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(claims);
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
     }
@@ -105,12 +130,43 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     /**
      * Authentication 객체를 생성하는 메소드입니다.
      *
-     * @param username JWT 토큰에서 추출한 사용자 이름
+     * @param claims JWT 토큰에서 추출한 사용자 정보
      * @return 생성된 Authentication 객체
+     * @throws BusinessException 회원 정보 수정/탈퇴 이전에 발급된 토큰인 경우 발생
      * @since 2025-01-17
      */
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private Authentication createAuthentication(TokenClaims claims) {
+        int tokenVersion = claims.getTokenVersion();
+        UserDetailsImpl userDetails;
+        if (claimsAuthentication) {
+            userDetails = createUserDetails(claims);
+            if (!tokenVersionTable.isCurrent(userDetails.getId(), tokenVersion)) {
+                throw new BusinessException(ErrorCode.TOKEN_REVOKED);
+            }
+        } else {
+            userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getUsername());
+            if (userDetails.getTokenVersion() != tokenVersion) {
+                throw new BusinessException(ErrorCode.TOKEN_REVOKED);
+            }
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
+
+    /**
+     * DB 조회 없이 검증된 Claims로 UserDetailsImpl 객체를 생성합니다.
+     * 비밀번호는 토큰에 담기지 않으므로 null로 설정합니다.
+     *
+     * @param claims JWT 토큰에서 추출한 사용자 정보
+     * @return 생성된 UserDetailsImpl 객체
+     * @since 2026-10-18
+     */
+    private UserDetailsImpl createUserDetails(TokenClaims claims) {
+        return new UserDetailsImpl(
+                claims.getUserId(),
+                claims.getUsername(),
+                claims.getNickname(),
+                null,
+                claims.getUserRole(),
+                claims.getTokenVersion());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.sparta.homework_login.filter;
+
+import com.sparta.homework_login.common.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP 요청마다 실행된 SQL 문장 수를 세고, 설정한 예산을 넘은 요청을 기록하는 필터 클래스입니다.
+ * <p>
+ * 요청 처리 스레드에서 실행된 문장만 셉니다. (비동기 로그인의 bcrypt 스레드에서 실행된 문장은 제외)
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "SqlBudgetFilter")
+public class SqlBudgetFilter extends OncePerRequestFilter {
+    private final int maxStatements;
+    private final LongAdder exceededCount = new LongAdder();
+
+    public SqlBudgetFilter(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            filterChain.doFilter(request, response);
+            if (scope.getCount() > maxStatements) {
+                exceededCount.increment();
+                log.warn("SQL 예산 초과: {} {} statements={} budget={}",
+                        request.getMethod(), request.getRequestURI(), scope.getCount(), maxStatements);
+            }
+        }
+    }
+
+    /**
+     * 예산을 넘은 요청 수를 반환합니다.
+     *
+     * @since 2026-10-18
+     */
+    public long getExceededCount() {
+        return exceededCount.sum();
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 엔티티를 위한 JPA 레포지토리입니다.
+ *
+ * @since 2026-10-18
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰을 사용됨으로 표시합니다.
+     * 동시에 같은 토큰으로 갱신을 요청하면 한 요청만 1을 반환합니다.
+     *
+     * @param id 리프레시 토큰 아이디
+     * @return 변경된 행 수 (0이면 이미 사용된 토큰)
+     * @since 2026-10-18
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update RefreshToken r set r.used = true where r.id = :id and r.used = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 만료된 리프레시 토큰을 삭제합니다. 사용됨/폐기됨 여부와 관계없이 만료 시간이 지나면 재사용 감지에도 필요하지 않습니다.
+     *
+     * @param now 현재 시간
+     * @return 삭제된 행 수
+     * @since 2026-10-18
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
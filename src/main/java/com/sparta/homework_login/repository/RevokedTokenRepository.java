@@ -0,0 +1,28 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 토큰 엔티티를 위한 JPA 레포지토리입니다.
+ *
+ * @since 2026-10-18
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    List<RevokedToken> findAllByExpiresAtAfter(LocalDateTime now);
+
+    boolean existsByTokenHash(String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.sparta.homework_login.repository;
+
+import com.sparta.homework_login.entity.UserChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 변경 로그 엔티티를 위한 JPA 레포지토리입니다.
+ *
+ * @since 2026-10-18
+ */
+public interface UserChangeLogRepository extends JpaRepository<UserChangeLog, Long> {
+
+    List<UserChangeLog> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * 지정한 시각 이전에 저장된 변경 로그의 최대 아이디를 조회합니다. (없으면 0)
+     *
+     * @param before 기준 시각
+     * @return 최대 아이디
+     * @since 2026-10-18
+     */
+    @Query("select coalesce(max(c.id), 0) from UserChangeLog c where c.createdAt < :before")
+    long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserChangeLog c where c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
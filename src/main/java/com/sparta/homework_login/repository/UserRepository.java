@@ -1,9 +1,22 @@
 package com.sparta.homework_login.repository;
 
+import com.sparta.homework_login.dto.response.UserSummaryResponseDto;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
 import com.sparta.homework_login.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 유저 엔티티를 위한 JPA 레포지토리입니다.
@@ -12,5 +25,96 @@ import java.util.Optional;
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * username으로 사용자를 조회합니다.
+     * 트랜잭션 밖에서 호출하면 읽기 전용 트랜잭션(replica)에서, 읽기-쓰기 트랜잭션 안에서 호출하면 primary에서 실행됩니다.
+     *
+     * @param username 사용자 이름
+     * @return 사용자
+     * @since 2025-01-17
+     */
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
+
+    /**
+     * 인증에 필요한 컬럼(id, username, nickname, password, user_role, token_version)만 username으로 조회합니다.
+     * 엔티티를 만들지 않으므로 영속성 컨텍스트 등록, 감사(auditing) 필드 매핑 없이 UserDetailsImpl을 바로 만듭니다.
+     * UserCache(로그인의 loadUserByUsername, 토큰 재발급, 가입 중복 확인)에서만 사용합니다.
+     * 회원 정보 수정/탈퇴의 비밀번호 확인은 변경할 User 엔티티가 필요하므로 findByUsername으로 조회한 엔티티와 비교합니다.
+     * 트랜잭션 밖에서 호출하면 읽기 전용 트랜잭션(replica)에서, 읽기-쓰기 트랜잭션 안에서 호출하면 primary에서 실행됩니다.
+     *
+     * @param username 사용자 이름
+     * @return 사용자 인증 정보
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    @Query("select new com.sparta.homework_login.dto.security.UserDetailsImpl(u.id, u.username, u.nickname, u.password, u.userRole, u.tokenVersion) "
+            + "from User u where u.username = :username")
+    Optional<UserDetailsImpl> findUserDetailsByUsername(@Param("username") String username);
+
+    /**
+     * 사용자의 현재 토큰 버전만 아이디로 조회합니다. (TokenVersionTable에서 사용)
+     * 복제 지연으로 수정/탈퇴 전 버전을 읽어 폐기된 토큰을 허용하지 않도록 읽기-쓰기 트랜잭션(primary)에서 실행합니다.
+     *
+     * @param id 사용자 아이디
+     * @return 토큰 버전
+     * @since 2026-10-18
+     */
+    @Transactional
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * usernames 중 이미 존재하는 username을 한 번에 조회합니다. (회원 일괄 등록의 중복 검사)
+     * 복제 지연으로 방금 가입한 사용자를 놓치지 않도록 읽기-쓰기 트랜잭션 안에서 호출합니다.
+     *
+     * @param usernames 검사할 사용자 이름 목록
+     * @return 이미 존재하는 사용자 이름 목록
+     * @since 2026-10-18
+     */
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 가입 순서(createdAt, id)로 첫 페이지의 회원 정보를 조회합니다. (비밀번호 해시 제외)
+     *
+     * @param limit 조회할 최대 회원 수
+     * @return 회원 정보 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sparta.homework_login.dto.response.UserSummaryResponseDto(u.id, u.username, u.nickname, u.userRole, u.createdAt) "
+            + "from User u order by u.createdAt, u.id")
+    List<UserSummaryResponseDto> findSummaries(Limit limit);
+
+    /**
+     * 가입 순서(createdAt, id)로 지정한 회원 다음부터 회원 정보를 조회합니다. (키셋 페이지네이션, 비밀번호 해시 제외)
+     * OFFSET을 사용하지 않고 idx_user_created_at_id 인덱스에서 바로 시작 위치를 찾습니다.
+     *
+     * @param createdAt 이전 페이지 마지막 회원의 가입 시각
+     * @param id        이전 페이지 마지막 회원의 아이디
+     * @param limit     조회할 최대 회원 수
+     * @return 회원 정보 목록
+     * @since 2026-10-18
+     */
+    @Query("select new com.sparta.homework_login.dto.response.UserSummaryResponseDto(u.id, u.username, u.nickname, u.userRole, u.createdAt) "
+            + "from User u where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id) "
+            + "order by u.createdAt, u.id")
+    List<UserSummaryResponseDto> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") long id,
+                                                    Limit limit);
+
+    /**
+     * 아이디 순서로 모든 회원 정보를 앞으로만 읽는 커서로 조회합니다. (회원 내보내기, 비밀번호 해시 제외)
+     * <p>
+     * 1000행씩 나누어 가져오며 엔티티를 만들지 않으므로 영속성 컨텍스트에 쌓이지 않습니다.
+     * 트랜잭션 안에서 호출하고, 다 읽은 뒤 Stream을 닫아야 합니다.
+     * MySQL은 spring.datasource.url에 useCursorFetch=true를 추가해야 fetch size만큼 나누어 가져옵니다. (없으면 전체 결과를 메모리에 읽음)
+     *
+     * @return 회원 정보 Stream
+     * @since 2026-10-18
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.sparta.homework_login.dto.response.UserSummaryResponseDto(u.id, u.username, u.nickname, u.userRole, u.createdAt) "
+            + "from User u order by u.id")
+    Stream<UserSummaryResponseDto> streamSummaries();
 }
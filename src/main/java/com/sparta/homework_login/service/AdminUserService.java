@@ -0,0 +1,92 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.common.UserExportWriter;
+import com.sparta.homework_login.common.UserPageCursor;
+import com.sparta.homework_login.dto.response.UserPageResponseDto;
+import com.sparta.homework_login.dto.response.UserSummaryResponseDto;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserFileFormat;
+import com.sparta.homework_login.exception.BusinessException;
+import com.sparta.homework_login.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 회원 조회 / 내보내기 서비스 클래스
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "AdminUserService")
+@Service
+@RequiredArgsConstructor
+public class AdminUserService {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UserExportWriter userExportWriter;
+
+    /**
+     * 가입 순서로 회원 목록을 한 페이지 조회합니다.
+     * <p>
+     * size + 1명을 조회하여 다음 페이지가 있는지 확인하며, 다음 페이지가 있으면 이 페이지 마지막 회원의 커서를 함께 반환합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 회원 목록과 다음 페이지 커서
+     * @throws BusinessException 페이지 크기나 커서가 올바르지 않은 경우 발생
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public UserPageResponseDto getUsers(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.BAD_INPUT, "size는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        Limit limit = Limit.of(size + 1);
+        List<UserSummaryResponseDto> users;
+        if (StringUtils.hasText(cursor)) {
+            UserPageCursor after = UserPageCursor.decode(cursor);
+            users = userRepository.findSummariesAfter(after.createdAt(), after.id(), limit);
+        } else {
+            users = userRepository.findSummaries(limit);
+        }
+
+        if (users.size() <= size) {
+            return new UserPageResponseDto(users, null);
+        }
+        List<UserSummaryResponseDto> page = users.subList(0, size);
+        UserSummaryResponseDto last = page.get(size - 1);
+        return new UserPageResponseDto(page, new UserPageCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    /**
+     * 모든 회원 정보를 아이디 순서로 출력 스트림에 씁니다. (비밀번호 해시 제외)
+     * <p>
+     * 앞으로만 읽는 커서로 한 명씩 읽어 바로 쓰므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+     * 읽기 전용 트랜잭션이므로 replica가 설정되어 있으면 replica에서 읽습니다.
+     *
+     * @param format 출력 형식
+     * @param out    출력 스트림 (닫지 않음)
+     * @return 내보낸 회원 수
+     * @throws IOException 출력 스트림에 쓰지 못한 경우 발생 (클라이언트 연결 끊김 등)
+     * @since 2026-10-18
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(UserFileFormat format, OutputStream out) throws IOException {
+        long count;
+        try (Stream<UserSummaryResponseDto> users = userRepository.streamSummaries()) {
+            count = userExportWriter.write(users, format, out);
+        }
+        log.info("user export: format={}, count={}", format, count);
+        return count;
+    }
+}
@@ -0,0 +1,152 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.TokenDigest;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.dto.response.SignInResponseDto;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.entity.RefreshToken;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.event.UserChangedEvent;
+import com.sparta.homework_login.exception.BusinessException;
+import com.sparta.homework_login.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/재발급 서비스 클래스
+ * <p>
+ * 리프레시 토큰은 로그인 시 발급되며, 재발급(/api/auth/refresh)할 때마다 새 토큰으로 교체(rotation)됩니다.
+ * 재발급은 토큰 다이제스트로 한 번 조회하고, 사용자 정보는 UserCache에서 가져오므로 비밀번호 해시 연산이 없습니다.
+ * 이미 사용된 토큰이 다시 제출되면 탈취로 판단하여 같은 로그인에서 이어진 토큰(family)을 모두 폐기합니다.
+ * <ul>
+ *     <li>jwt.refresh.ttl-days: 리프레시 토큰 유효 기간 (기본값: 14일)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCache userCache;
+    private final JwtUtil jwtUtil;
+    private final Duration ttl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserCache userCache, JwtUtil jwtUtil,
+                               @Value("${jwt.refresh.ttl-days:14}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userCache = userCache;
+        this.jwtUtil = jwtUtil;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    /**
+     * 로그인한 사용자에게 새 토큰 family의 리프레시 토큰을 발급합니다.
+     *
+     * @param userDetails 로그인한 사용자 정보
+     * @return 리프레시 토큰 원문
+     * @since 2026-10-18
+     */
+    @Transactional
+    public String issue(UserDetailsImpl userDetails) {
+        return issue(userDetails, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰과 새 리프레시 토큰을 발급합니다.
+     * <p>
+     * 폐기 처리는 예외가 발생해도 롤백되지 않습니다.
+     *
+     * @param refreshToken 리프레시 토큰 원문
+     * @return 새 액세스 토큰과 리프레시 토큰
+     * @throws BusinessException 토큰이 없거나, 만료되었거나, 폐기된 경우 발생
+     * @since 2026-10-18
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public SignInResponseDto refresh(String refreshToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(TokenDigest.of(refreshToken))
+                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID));
+        if (token.isRevoked()) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_REVOKED);
+        }
+        if (token.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_TIMEOUT);
+        }
+        if (refreshTokenRepository.markUsed(token.getId()) == 0) {
+            // 이미 교체된 토큰의 재사용: 탈취 가능성이 있으므로 family 전체 폐기
+            throw revokeFamily(token);
+        }
+
+        UserDetailsImpl userDetails = userCache.find(token.getUsername())
+                .filter(user -> user.getId().equals(token.getUserId()))
+                .orElse(null);
+        if (userDetails == null || userDetails.getTokenVersion() != token.getTokenVersion()) {
+            // 탈퇴했거나 회원 정보 수정(토큰 버전 증가) 이전에 발급된 토큰
+            throw revokeFamily(token);
+        }
+
+        String accessToken = jwtUtil.createToken(userDetails.getId(), userDetails.getUserRole(),
+                userDetails.getUsername(), userDetails.getNickname(), userDetails.getTokenVersion());
+        return new SignInResponseDto(accessToken, issue(userDetails, token.getFamilyId()));
+    }
+
+    /**
+     * 리프레시 토큰이 속한 토큰 family를 모두 폐기합니다. (로그아웃)
+     * 존재하지 않는 토큰은 무시합니다.
+     *
+     * @param refreshToken 리프레시 토큰 원문
+     * @since 2026-10-18
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigest.of(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * 회원 탈퇴가 커밋된 뒤 해당 사용자의 리프레시 토큰을 삭제합니다.
+     *
+     * @param event 회원 정보 변경 이벤트
+     * @since 2026-10-18
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isDeleted()) {
+            refreshTokenRepository.deleteByUserId(event.getUserId());
+        }
+    }
+
+    private String issue(UserDetailsImpl userDetails, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigest.of(token))
+                .familyId(familyId)
+                .userId(userDetails.getId())
+                .username(userDetails.getUsername())
+                .tokenVersion(userDetails.getTokenVersion())
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+        return token;
+    }
+
+    private BusinessException revokeFamily(RefreshToken token) {
+        refreshTokenRepository.revokeFamily(token.getFamilyId());
+        return new BusinessException(ErrorCode.REFRESH_TOKEN_REVOKED);
+    }
+}
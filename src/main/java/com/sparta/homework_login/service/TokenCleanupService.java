@@ -0,0 +1,86 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.repository.RefreshTokenRepository;
+import com.sparta.homework_login.repository.RevokedTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 토큰 행을 주기적으로 삭제하는 서비스 클래스
+ * <p>
+ * 리프레시 토큰(로그인/재발급)과 폐기 토큰(로그아웃)은 요청마다 한 행씩 쌓이므로, 전용 스레드에서 interval-minutes마다 만료된 행을 삭제합니다.
+ * 요청 처리 트랜잭션에서는 삭제하지 않습니다. (로그아웃 응답 시간과 SQL 수에 영향 없음)
+ * <ul>
+ *     <li>token.cleanup.interval-minutes: 삭제 주기, 0 이하이면 사용 안 함 (기본값: 10)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "TokenCleanupService")
+@Service
+public class TokenCleanupService {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long intervalMinutes;
+    private final ScheduledExecutorService scheduler;
+
+    public TokenCleanupService(RefreshTokenRepository refreshTokenRepository,
+                               RevokedTokenRepository revokedTokenRepository,
+                               @Value("${token.cleanup.interval-minutes:10}") long intervalMinutes) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.intervalMinutes = intervalMinutes;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 애플리케이션이 시작되면 만료 토큰 삭제를 시작합니다.
+     *
+     * @since 2026-10-18
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (intervalMinutes <= 0) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::cleanUpSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 지정한 시각까지 만료된 토큰을 삭제합니다.
+     *
+     * @param now 현재 시간
+     * @since 2026-10-18
+     */
+    public void cleanUp(LocalDateTime now) {
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedTokenRepository.deleteExpired(now);
+        log.debug("expired tokens deleted: refreshTokens={}, revokedTokens={}", refreshTokens, revokedTokens);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void cleanUpSafely() {
+        try {
+            cleanUp(LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            log.warn("token cleanup failed", ex); // 다음 주기에 다시 삭제
+        }
+    }
+}
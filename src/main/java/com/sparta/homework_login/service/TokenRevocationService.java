@@ -0,0 +1,117 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.TokenClaims;
+import com.sparta.homework_login.common.TokenDenylist;
+import com.sparta.homework_login.common.TokenDigest;
+import com.sparta.homework_login.common.VerifiedTokenCache;
+import com.sparta.homework_login.entity.RevokedToken;
+import com.sparta.homework_login.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 토큰 폐기(로그아웃) 서비스 클래스
+ * <p>
+ * 폐기한 토큰은 DB(revoked_token)에 저장하고 TokenDenylist에 추가하여 JwtAuthorizationFilter가 바로 거부하도록 합니다.
+ * 다른 인스턴스에는 변경 로그(UserChangeLogService)로 전달됩니다.
+ * 애플리케이션 시작 시 만료되지 않은 폐기 토큰을 TokenDenylist에 다시 불러옵니다.
+ * 만료된 폐기 토큰은 TokenCleanupService가 주기적으로 삭제합니다.
+ * 같은 토큰으로 동시에 로그아웃하면 먼저 저장한 요청만 폐기 토큰과 변경 로그를 저장하고, 나머지 요청도 성공으로 처리합니다.
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "TokenRevocationService")
+@Service
+public class TokenRevocationService {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist tokenDenylist;
+    private final VerifiedTokenCache tokenCache;
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final UserChangeLogService userChangeLogService;
+    private final TransactionTemplate transactionTemplate;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  TokenDenylist tokenDenylist,
+                                  VerifiedTokenCache tokenCache,
+                                  JwtUtil jwtUtil,
+                                  RefreshTokenService refreshTokenService,
+                                  UserChangeLogService userChangeLogService,
+                                  PlatformTransactionManager transactionManager) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenDenylist = tokenDenylist;
+        this.tokenCache = tokenCache;
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.userChangeLogService = userChangeLogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 로그아웃합니다. 액세스 토큰을 폐기하고, 리프레시 토큰이 있으면 해당 토큰 family도 폐기합니다.
+     * <p>
+     * 폐기 토큰과 변경 로그는 한 트랜잭션으로 저장합니다. 유니크 키(tokenHash) 충돌은 트랜잭션을 롤백시키므로 트랜잭션 밖에서 확인하며,
+     * 다른 요청이 같은 토큰을 이미 폐기했다면(동시 로그아웃) 이미 폐기된 것으로 보고 계속 진행합니다.
+     *
+     * @param bearerToken  Authorization 헤더 값 (Bearer 접두사 포함)
+     * @param refreshToken 리프레시 토큰 원문 (없으면 null)
+     * @since 2026-10-18
+     */
+    public void logout(String bearerToken, String refreshToken) {
+        String token = jwtUtil.substringToken(bearerToken);
+        String digest = TokenDigest.of(token);
+        TokenClaims claims = tokenCache.get(digest, token, jwtUtil::extractClaims);
+
+        LocalDateTime expiresAt = toLocalDateTime(claims.getExpirationMillis());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                revokedTokenRepository.save(new RevokedToken(digest, expiresAt));
+                userChangeLogService.recordTokenRevoked(digest, expiresAt); // 다른 인스턴스의 TokenDenylist에 전달
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // 먼저 저장한 요청이 변경 로그도 함께 저장했으므로 다시 저장하지 않음 (primary에서 확인)
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> revokedTokenRepository.existsByTokenHash(digest)))) {
+                throw ex;
+            }
+            log.debug("token already revoked by a concurrent logout");
+        }
+        tokenDenylist.add(digest, claims.getExpirationMillis());
+
+        if (StringUtils.hasText(refreshToken)) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 만료되지 않은 폐기 토큰을 TokenDenylist에 불러옵니다.
+     *
+     * @since 2026-10-18
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadRevokedTokens() {
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findAllByExpiresAtAfter(LocalDateTime.now());
+        for (RevokedToken revokedToken : revokedTokens) {
+            long expirationMillis = revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            tokenDenylist.add(revokedToken.getTokenHash(), expirationMillis);
+        }
+        log.info("revoked tokens loaded: {}", revokedTokens.size());
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
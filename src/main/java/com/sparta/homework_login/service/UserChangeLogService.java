@@ -0,0 +1,221 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.common.ChangeLogCursor;
+import com.sparta.homework_login.common.ReadYourWritesGuard;
+import com.sparta.homework_login.common.TokenDenylist;
+import com.sparta.homework_login.common.TokenVersionTable;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.entity.UserChangeLog;
+import com.sparta.homework_login.enums.UserChangeType;
+import com.sparta.homework_login.event.UserChangedEvent;
+import com.sparta.homework_login.repository.UserChangeLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 인스턴스의 메모리 캐시를 맞추기 위한 변경 로그 서비스 클래스
+ * <p>
+ * 회원 정보 수정/탈퇴, 토큰 폐기를 같은 트랜잭션에서 user_change_log 테이블에 저장하고,
+ * 각 인스턴스는 전용 스레드에서 poll-interval-millis마다 다른 인스턴스가 저장한 변경을 batch-size개씩 읽어
+ * 자신의 UserCache, TokenVersionTable, TokenDenylist에 반영합니다. (별도 메시지 브로커 불필요)
+ * 다른 인스턴스에서 변경된 사용자도 ReadYourWritesGuard에 기록하여, 복제 지연 동안의 재조회는 primary에서 실행합니다.
+ * <ul>
+ *     <li>user.change-log.enabled: 사용 여부 (기본값: true)</li>
+ *     <li>user.change-log.poll-interval-millis: 폴링 간격 (기본값: 500)</li>
+ *     <li>user.change-log.batch-size: 한 번에 읽는 행 수 (기본값: 500)</li>
+ *     <li>user.change-log.gap-timeout-millis: 늦게 커밋되는 행을 기다리는 시간 (기본값: 10000)</li>
+ *     <li>user.change-log.retention-minutes: 변경 로그 보존 기간 (기본값: 60)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "UserChangeLogService")
+@Service
+public class UserChangeLogService {
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final String sourceId = UUID.randomUUID().toString();
+    private final UserChangeLogRepository userChangeLogRepository;
+    private final UserCache userCache;
+    private final TokenVersionTable tokenVersionTable;
+    private final TokenDenylist tokenDenylist;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final boolean enabled;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final long gapTimeoutMillis;
+    private final long retentionMinutes;
+    private final AtomicLong appliedCount = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private ChangeLogCursor cursor;
+
+    public UserChangeLogService(UserChangeLogRepository userChangeLogRepository,
+                                UserCache userCache,
+                                TokenVersionTable tokenVersionTable,
+                                TokenDenylist tokenDenylist,
+                                ReadYourWritesGuard readYourWritesGuard,
+                                @Value("${user.change-log.enabled:true}") boolean enabled,
+                                @Value("${user.change-log.poll-interval-millis:500}") long pollIntervalMillis,
+                                @Value("${user.change-log.batch-size:500}") int batchSize,
+                                @Value("${user.change-log.gap-timeout-millis:10000}") long gapTimeoutMillis,
+                                @Value("${user.change-log.retention-minutes:60}") long retentionMinutes) {
+        this.userChangeLogRepository = userChangeLogRepository;
+        this.userCache = userCache;
+        this.tokenVersionTable = tokenVersionTable;
+        this.tokenDenylist = tokenDenylist;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.enabled = enabled;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionMinutes = retentionMinutes;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-change-log-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 회원 정보 수정/탈퇴를 같은 트랜잭션에서 변경 로그에 저장합니다.
+     *
+     * @param event 회원 정보 변경 이벤트
+     * @since 2026-10-18
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        userChangeLogRepository.save(UserChangeLog.builder()
+                .changeType(event.isDeleted() ? UserChangeType.USER_DELETED : UserChangeType.USER_UPDATED)
+                .userId(event.getUserId())
+                .username(event.getUsername())
+                .sourceId(sourceId)
+                .build());
+    }
+
+    /**
+     * 토큰 폐기를 같은 트랜잭션에서 변경 로그에 저장합니다.
+     *
+     * @param tokenHash 토큰 다이제스트 (TokenDigest)
+     * @param expiresAt 토큰 만료 시간
+     * @since 2026-10-18
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTokenRevoked(String tokenHash, LocalDateTime expiresAt) {
+        if (!enabled) {
+            return;
+        }
+        userChangeLogRepository.save(UserChangeLog.builder()
+                .changeType(UserChangeType.TOKEN_REVOKED)
+                .tokenHash(tokenHash)
+                .tokenExpiresAt(expiresAt)
+                .sourceId(sourceId)
+                .build());
+    }
+
+    /**
+     * 애플리케이션이 시작되면 변경 로그 폴링을 시작합니다.
+     * <p>
+     * 시작 시점의 캐시는 비어 있으므로 gap-timeout-millis 이전의 변경은 읽지 않습니다.
+     * (그 이후의 변경은 늦게 커밋되었을 수 있으므로 다시 반영, 캐시 제거는 여러 번 실행해도 결과가 같음)
+     *
+     * @since 2026-10-18
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minus(gapTimeoutMillis, ChronoUnit.MILLIS);
+        cursor = new ChangeLogCursor(userChangeLogRepository.findMaxIdCreatedBefore(since), gapTimeoutMillis);
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeSafely, 1, 1, TimeUnit.MINUTES);
+        log.info("change log polling started: sourceId={}, position={}", sourceId, cursor.getPosition());
+    }
+
+    /**
+     * 다른 인스턴스에서 반영한 변경 수를 반환합니다.
+     *
+     * @return 반영한 변경 수
+     * @since 2026-10-18
+     */
+    public long getAppliedCount() {
+        return appliedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("change log polling failed", ex); // 다음 주기에 같은 위치부터 다시 읽음
+        }
+    }
+
+    /**
+     * 마지막으로 처리한 위치 이후의 변경 로그를 batchSize개씩 읽어 반영합니다.
+     * 위치 뒤의 아직 커밋되지 않은 행을 기다리는 동안에는 이미 처리한 행도 다시 읽지만 한 번만 반영합니다.
+     */
+    private void poll() {
+        long after = cursor.getPosition();
+        for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+            List<UserChangeLog> changes = userChangeLogRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(batchSize));
+            for (UserChangeLog change : changes) {
+                if (cursor.accept(change.getId()) && !sourceId.equals(change.getSourceId())) {
+                    apply(change);
+                }
+            }
+            if (changes.size() < batchSize) {
+                break;
+            }
+            after = cursor.getLastAccepted();
+        }
+        cursor.advance();
+    }
+
+    private void apply(UserChangeLog change) {
+        switch (change.getChangeType()) {
+            case USER_UPDATED, USER_DELETED -> {
+                // 캐시를 비운 뒤의 재조회가 아직 복제되지 않은 replica의 이전 정보를 다시 담지 않도록 먼저 기록
+                readYourWritesGuard.recordWrite(change.getUsername());
+                userCache.invalidate(change.getUsername());
+                tokenVersionTable.invalidate(change.getUserId());
+            }
+            case TOKEN_REVOKED -> tokenDenylist.add(change.getTokenHash(),
+                    change.getTokenExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        appliedCount.incrementAndGet();
+    }
+
+    private void purgeSafely() {
+        try {
+            userChangeLogRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        } catch (RuntimeException ex) {
+            log.warn("change log purge failed", ex);
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package com.sparta.homework_login.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.BoundedLineReader;
+import com.sparta.homework_login.common.ConstraintViolations;
+import com.sparta.homework_login.common.CsvLineParser;
+import com.sparta.homework_login.common.PooledPasswordEncoder;
+import com.sparta.homework_login.common.ReadYourWritesGuard;
+import com.sparta.homework_login.dto.request.SignUpRequestDto;
+import com.sparta.homework_login.dto.response.UserImportResultDto;
+import com.sparta.homework_login.dto.response.UserImportSummaryDto;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserFileFormat;
+import com.sparta.homework_login.enums.UserImportStatus;
+import com.sparta.homework_login.exception.BusinessException;
+import com.sparta.homework_login.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록 서비스 클래스
+ * <p>
+ * NDJSON(한 줄에 SignUpRequestDto 하나) 또는 CSV(첫 줄 헤더: username,password,nickname) 입력을
+ * batch-size줄씩 읽어 다음 순서로 처리하고, 줄마다 처리 결과를 NDJSON으로 바로 내보냅니다.
+ * <ol>
+ *     <li>SignUpRequestDto와 같은 규칙으로 입력값 검증</li>
+ *     <li>파일 안의 중복 제거 후 IN 조회 한 번으로 기존 회원 중복 검사</li>
+ *     <li>전용 ForkJoinPool에서 비밀번호 병렬 해시 (로그인용 PasswordHashExecutor와 분리)</li>
+ *     <li>배치 INSERT (User.id 블록 할당, hibernate.jdbc.batch_size개씩 전송)</li>
+ * </ol>
+ * 한 번에 batch-size줄과 한 줄(max-line-length)만 메모리에 두고, 저장한 엔티티는 영속성 컨텍스트에서 바로 분리하므로
+ * 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * <ul>
+ *     <li>user.import.batch-size: 한 번에 처리하는 줄 수 (기본값: 500)</li>
+ *     <li>user.import.parallelism: 비밀번호 해시 스레드 수 (기본값 0 = CPU 코어 수의 절반)</li>
+ *     <li>user.import.max-line-length: 한 줄의 최대 길이 (기본값: 4096)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j(topic = "UserImportService")
+@Service
+public class UserImportService {
+    private static final List<String> CSV_COLUMNS = List.of("username", "password", "nickname");
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final PasswordEncoder passwordEncoder;
+    private final ForkJoinPool hashPool;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    public UserImportService(UserRepository userRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             ReadYourWritesGuard readYourWritesGuard,
+                             PasswordEncoder passwordEncoder,
+                             @Value("${user.import.batch-size:500}") int batchSize,
+                             @Value("${user.import.parallelism:0}") int parallelism,
+                             @Value("${user.import.max-line-length:4096}") int maxLineLength) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.readYourWritesGuard = readYourWritesGuard;
+        // 이미 전용 풀에서 해시하므로 PasswordHashExecutor를 거치지 않음 (로그인 대기 큐를 채우지 않도록)
+        this.passwordEncoder = passwordEncoder instanceof PooledPasswordEncoder pooled
+                ? pooled.getDelegate()
+                : passwordEncoder;
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashPool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("user-import-hash-" + threadNumber.incrementAndGet());
+            return thread;
+        }, null, false);
+        log.info("user import: batchSize={}, hashThreads={}", batchSize, threads);
+    }
+
+    /**
+     * 회원 목록을 읽어 등록하고, 줄마다 처리 결과(UserImportResultDto)를, 마지막 줄에 전체 결과(UserImportSummaryDto)를 씁니다.
+     * <p>
+     * batch-size줄 단위로 커밋하므로 중간에 실패해도 이미 응답한 줄은 등록된 상태로 남습니다.
+     *
+     * @param in     입력 (UTF-8)
+     * @param format 입력 형식
+     * @param out    처리 결과를 쓸 출력 (NDJSON)
+     * @return 전체 처리 결과
+     * @throws BusinessException CSV 헤더에 필요한 컬럼이 없는 경우 발생 (출력 전)
+     * @throws IOException       입력을 읽거나 결과를 쓰지 못한 경우 발생
+     * @since 2026-10-18
+     */
+    public UserImportSummaryDto importUsers(InputStream in, UserFileFormat format, OutputStream out) throws IOException {
+        BoundedLineReader reader = new BoundedLineReader(new InputStreamReader(in, StandardCharsets.UTF_8), maxLineLength);
+        int[] columns = format == UserFileFormat.CSV ? readCsvHeader(reader) : null;
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        Summary summary = new Summary();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+        BoundedLineReader.Line line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.overflow() && line.text().isBlank()) {
+                continue;
+            }
+            chunk.add(parse(line, columns));
+            if (chunk.size() == batchSize) {
+                process(chunk, generator, summary);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            process(chunk, generator, summary);
+        }
+
+        UserImportSummaryDto result = summary.toDto();
+        write(generator, result);
+        generator.flush();
+        log.info("user import: total={}, created={}, duplicated={}, invalid={}",
+                result.getTotal(), result.getCreated(), result.getDuplicated(), result.getInvalid());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * CSV 헤더에서 username, password, nickname 컬럼 위치를 찾습니다. (순서 무관, 대소문자 무시)
+     */
+    private int[] readCsvHeader(BoundedLineReader reader) throws IOException {
+        BoundedLineReader.Line header;
+        do {
+            header = reader.readLine();
+        } while (header != null && !header.overflow() && header.text().isBlank());
+        if (header == null || header.overflow()) {
+            throw new BusinessException(ErrorCode.BAD_INPUT, "CSV 헤더가 없습니다.");
+        }
+
+        List<String> names;
+        try {
+            names = CsvLineParser.parse(header.text());
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.BAD_INPUT, ex.getMessage());
+        }
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = -1;
+            for (int j = 0; j < names.size(); j++) {
+                if (CSV_COLUMNS.get(i).equals(names.get(j).trim().toLowerCase(Locale.ROOT))) {
+                    columns[i] = j;
+                }
+            }
+            if (columns[i] < 0) {
+                throw new BusinessException(ErrorCode.BAD_INPUT, "CSV 헤더에 " + CSV_COLUMNS.get(i) + " 컬럼이 없습니다.");
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 한 줄을 SignUpRequestDto로 변환하고 검증합니다.
+     */
+    private ImportRow parse(BoundedLineReader.Line line, int[] columns) {
+        ImportRow row = new ImportRow(line.number());
+        if (line.overflow()) {
+            return row.invalid("한 줄은 최대 " + maxLineLength + "자까지 입력할 수 있습니다.");
+        }
+
+        if (columns == null) {
+            try {
+                row.request = objectMapper.readValue(line.text(), SignUpRequestDto.class);
+            } catch (JsonProcessingException ex) {
+                return row.invalid("JSON 형식이 올바르지 않습니다.");
+            }
+            if (row.request == null) {
+                return row.invalid("JSON 형식이 올바르지 않습니다.");
+            }
+        } else {
+            List<String> fields;
+            try {
+                fields = CsvLineParser.parse(line.text());
+            } catch (IllegalArgumentException ex) {
+                return row.invalid(ex.getMessage());
+            }
+            row.request = new SignUpRequestDto(field(fields, columns[0]), field(fields, columns[1]), field(fields, columns[2]));
+        }
+
+        Set<ConstraintViolation<SignUpRequestDto>> violations = validator.validate(row.request);
+        if (!violations.isEmpty()) {
+            return row.invalid(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        if (row.request.getPassword() == null) {
+            return row.invalid("비밀번호를 입력해주세요");
+        }
+        return row;
+    }
+
+    /**
+     * username 중복 비교 키입니다.
+     * MySQL 기본 collation은 대소문자를 구분하지 않으므로(유니크 키 포함) "hong"과 "Hong"을 같은 username으로 봅니다.
+     */
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    /**
+     * batch-size줄을 중복 검사, 병렬 해시, 배치 INSERT 순서로 처리하고 결과를 씁니다.
+     */
+    private void process(List<ImportRow> chunk, JsonGenerator generator, Summary summary) throws IOException {
+        // 파일 안의 중복 (앞에 나온 줄을 등록)
+        Map<String, ImportRow> candidates = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            if (row.status == null && candidates.putIfAbsent(usernameKey(row.request.getUsername()), row) != null) {
+                row.duplicated();
+            }
+        }
+
+        // 기존 회원과의 중복 (IN 조회 한 번, 복제 지연을 피하기 위해 primary에서 조회)
+        if (!candidates.isEmpty()) {
+            List<String> usernames = candidates.values().stream()
+                    .map(row -> row.request.getUsername())
+                    .toList();
+            List<String> existing = transactionTemplate.execute(status -> userRepository.findUsernamesIn(usernames));
+            for (String username : existing) {
+                ImportRow row = candidates.remove(usernameKey(username)); // 조회 결과는 입력과 대소문자가 다를 수 있음
+                if (row != null) {
+                    row.duplicated();
+                }
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            List<ImportRow> rows = new ArrayList<>(candidates.values());
+            hashPool.submit(() -> rows.parallelStream()
+                    .forEach(row -> row.encodedPassword = passwordEncoder.encode(row.request.getPassword())))
+                    .join();
+            insert(rows);
+        }
+
+        for (ImportRow row : chunk) {
+            summary.add(row.status);
+            write(generator, new UserImportResultDto(row.line,
+                    row.request != null ? row.request.getUsername() : null,
+                    row.status,
+                    row.message));
+        }
+        generator.flush();
+    }
+
+    /**
+     * 배치 INSERT를 실행합니다.
+     * 배치 INSERT가 실패하면(중복 검사 이후 다른 요청이 같은 username을 먼저 저장한 경우 등) 한 줄씩 다시 저장하여
+     * 실패한 줄만 처리합니다. username 유니크 키 위반이면 중복으로, 그 밖의 저장 오류는 잘못된 입력으로 처리합니다.
+     */
+    private void insert(List<ImportRow> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batchInsert(rows));
+            rows.forEach(ImportRow::created);
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("user import: batch insert conflict, retrying row by row", ex);
+            for (ImportRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> batchInsert(List.of(row)));
+                    row.created();
+                } catch (DataIntegrityViolationException rowEx) {
+                    if (ConstraintViolations.isViolated(rowEx, User.USERNAME_UNIQUE_CONSTRAINT)) {
+                        row.duplicated();
+                    } else {
+                        log.warn("user import: line {} rejected by the database", row.line, rowEx);
+                        row.invalid("저장할 수 없는 값입니다.");
+                    }
+                }
+            }
+        }
+        for (ImportRow row : rows) {
+            if (row.status == UserImportStatus.CREATED) {
+                readYourWritesGuard.recordWrite(row.request.getUsername()); // 등록 직후 로그인은 primary에서 조회
+            }
+        }
+    }
+
+    private void batchInsert(List<ImportRow> rows) {
+        List<User> users = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            users.add(row.request.convertDtoToEntity(row.encodedPassword));
+        }
+        try {
+            userRepository.saveAll(users);
+            userRepository.flush();
+        } finally {
+            entityManager.clear(); // 저장한(또는 저장에 실패한) 엔티티를 분리하여 영속성 컨텍스트에 쌓이지 않도록 함
+        }
+    }
+
+    private void write(JsonGenerator generator, Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * 처리 중인 한 줄의 상태입니다.
+     */
+    private static class ImportRow {
+        private final long line;
+        private SignUpRequestDto request;
+        private String encodedPassword;
+        private UserImportStatus status;
+        private String message;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+
+        private ImportRow invalid(String message) {
+            this.status = UserImportStatus.INVALID;
+            this.message = message;
+            return this;
+        }
+
+        private void duplicated() {
+            this.status = UserImportStatus.DUPLICATED;
+            this.message = ErrorCode.USER_DUPLICATED.getMessage();
+        }
+
+        private void created() {
+            this.status = UserImportStatus.CREATED;
+        }
+    }
+
+    /**
+     * 결과별 줄 수입니다.
+     */
+    private static class Summary {
+        private long created;
+        private long duplicated;
+        private long invalid;
+
+        private void add(UserImportStatus status) {
+            switch (status) {
+                case CREATED -> created++;
+                case DUPLICATED -> duplicated++;
+                case INVALID -> invalid++;
+            }
+        }
+
+        private UserImportSummaryDto toDto() {
+            return new UserImportSummaryDto(created + duplicated + invalid, created, duplicated, invalid);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.sparta.homework_login.service;
 
+import com.sparta.homework_login.common.ConstraintViolations;
+import com.sparta.homework_login.common.ReadYourWritesGuard;
 import com.sparta.homework_login.common.UserValidationCheck;
 import com.sparta.homework_login.dto.request.PasswordCheckRequestDto;
 import com.sparta.homework_login.dto.request.SignUpRequestDto;
@@ -7,9 +9,14 @@ import com.sparta.homework_login.dto.request.UpdateUserRequestDto;
 import com.sparta.homework_login.dto.response.SignUpResponseDto;
 import com.sparta.homework_login.dto.response.UpdateUserResponseDto;
 import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.event.UserChangedEvent;
+import com.sparta.homework_login.exception.BusinessException;
 import com.sparta.homework_login.repository.UserRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -27,6 +34,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserValidationCheck userValidationCheck;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWritesGuard readYourWritesGuard;
 
     /**
      * 회원가입을 처리합니다.
@@ -38,7 +47,15 @@ public class UserService {
     public SignUpResponseDto signUp(@Valid SignUpRequestDto requestDto) {
         userValidationCheck.duplicationUser(requestDto.getUsername());
         User user = createUser(requestDto);
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user); // 동시 가입 또는 복제 지연으로 놓친 username 중복을 유니크 인덱스로 확인
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolated(ex, User.USERNAME_UNIQUE_CONSTRAINT)) {
+                throw new BusinessException(ErrorCode.USER_DUPLICATED);
+            }
+            throw ex; // username 중복이 아닌 저장 오류 (길이 초과 등)
+        }
+        readYourWritesGuard.recordWrite(user.getUsername()); // 가입 직후 로그인은 primary에서 조회
         return SignUpResponseDto.create(user);
     }
 
@@ -63,10 +80,11 @@ public class UserService {
      */
     @Transactional
     public UpdateUserResponseDto updateUser(String username, UpdateUserRequestDto requestDto) {
-        userValidationCheck.comparePassword(username, requestDto.getOriPassword());
-        String newPassword = passwordEncoder.encode(requestDto.getNewPassword());
         User user = userValidationCheck.findUser(username);
+        userValidationCheck.comparePassword(user, requestDto.getOriPassword());
+        String newPassword = passwordEncoder.encode(requestDto.getNewPassword());
         user.update(requestDto.getNickname(), newPassword);
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
         return UpdateUserResponseDto.create(user);
     }
 
@@ -77,9 +95,11 @@ public class UserService {
      * @param requestDto 확인용 비밀번호 (JSON 형태)
      * @since 2025-02-13
      */
+    @Transactional
     public void deleteUser(UserDetails userDetail, PasswordCheckRequestDto requestDto) {
-        userValidationCheck.comparePassword(userDetail.getUsername(), requestDto.getPassword());
         User user = userValidationCheck.findUser(userDetail.getUsername());
+        userValidationCheck.comparePassword(user, requestDto.getPassword());
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user));
     }
 }
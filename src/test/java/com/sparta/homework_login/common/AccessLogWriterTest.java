@@ -0,0 +1,115 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 접근 로그의 성공 요청 샘플링과 버퍼가 가득 찼을 때 버린 수 집계를 확인합니다.
+ * <p>
+ * 버퍼에 남은 수를 그대로 확인할 수 있도록, 기록 스레드를 먼저 종료한 뒤 record를 호출합니다.
+ */
+public class AccessLogWriterTest {
+    private AccessLogWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    private AccessLogWriter createStoppedWriter(int bufferSize, double successSampleRate) throws InterruptedException {
+        AccessLogWriter accessLogWriter = new AccessLogWriter(true, bufferSize, successSampleRate);
+        accessLogWriter.shutdown();
+        return accessLogWriter;
+    }
+
+    private MockHttpServletResponse response(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        return response;
+    }
+
+    @Test
+    @DisplayName("샘플링 - 비율이 0이면 성공 요청은 기록하지 않고 실패 요청은 모두 기록")
+    void record_sampling_failureOnly() throws InterruptedException {
+        // given
+        writer = createStoppedWriter(16, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        // when
+        writer.record(request, response(200), System.nanoTime());
+        writer.record(request, response(401), System.nanoTime());
+        writer.record(request, response(503), System.nanoTime());
+
+        // then
+        assertEquals(2, writer.getBufferedCount());
+    }
+
+    @Test
+    @DisplayName("샘플링 - 상태 코드가 200이어도 오류 코드가 기록된 요청은 기록")
+    void record_sampling_errorCode() throws InterruptedException {
+        // given
+        writer = createStoppedWriter(16, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        AccessLogWriter.setErrorCode(request, ErrorCode.USER_NOT_FOUND);
+
+        // when
+        writer.record(request, response(200), System.nanoTime());
+
+        // then
+        assertEquals(1, writer.getBufferedCount());
+    }
+
+    @Test
+    @DisplayName("샘플링 - 비율이 1이면 성공 요청도 모두 기록")
+    void record_sampling_all() throws InterruptedException {
+        // given
+        writer = createStoppedWriter(16, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            writer.record(request, response(200), System.nanoTime());
+        }
+
+        // then
+        assertEquals(10, writer.getBufferedCount());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기다리지 않고 버린 수를 집계")
+    void record_dropped_full() throws InterruptedException {
+        // given
+        writer = createStoppedWriter(4, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            writer.record(request, response(200), System.nanoTime());
+        }
+
+        // then
+        assertEquals(4, writer.getBufferedCount());
+        assertEquals(6, writer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("접근 로그 사용 안 함 - 기록하지 않음")
+    void record_disabled() throws InterruptedException {
+        // given
+        writer = new AccessLogWriter(false, 16, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        // when
+        writer.record(request, response(500), System.nanoTime());
+
+        // then
+        assertEquals(0, writer.getBufferedCount());
+        assertEquals(0, writer.getDroppedCount());
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedLineReaderTest {
+
+    @Test
+    @DisplayName("\\n, \\r\\n 줄바꿈과 마지막 줄바꿈 없는 줄 읽기 성공")
+    void readLine_success_lineEndings() throws Exception {
+        // given
+        BoundedLineReader reader = new BoundedLineReader(new StringReader("\uFEFFHong\r\nKim\n\nLee"), 10);
+
+        // when & then
+        assertEquals(new BoundedLineReader.Line(1, "Hong", false), reader.readLine());
+        assertEquals(new BoundedLineReader.Line(2, "Kim", false), reader.readLine());
+        assertEquals(new BoundedLineReader.Line(3, "", false), reader.readLine());
+        assertEquals(new BoundedLineReader.Line(4, "Lee", false), reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 줄은 버리고 다음 줄부터 계속 읽음")
+    void readLine_failure_overflow() throws Exception {
+        // given
+        BoundedLineReader reader = new BoundedLineReader(new StringReader("Hong Gil Dong\r\n1234\r\n"), 4);
+
+        // when
+        BoundedLineReader.Line first = reader.readLine();
+        BoundedLineReader.Line second = reader.readLine();
+
+        // then
+        assertTrue(first.overflow());
+        assertNull(first.text());
+        assertFalse(second.overflow());
+        assertEquals("1234", second.text());
+        assertNull(reader.readLine());
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BoundedRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내기 성공")
+    void poll_success_fifo() {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+
+            // when
+            Integer polled = buffer.poll();
+
+            // then
+            assertEquals(i, polled);
+        }
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    @DisplayName("가득 찬 버퍼에 넣기 실패 - 기다리지 않고 false 반환")
+    void offer_failure_full() {
+        // given
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(2);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+
+        // when
+        boolean offered = buffer.offer(3);
+
+        // then
+        assertFalse(offered);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    @DisplayName("버퍼 생성 실패 - 2의 거듭제곱이 아닌 크기")
+    void create_failure_notPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedRingBuffer<>(6));
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("여러 스레드가 동시에 넣어도 유실/중복 없이 꺼내기 성공")
+    void offer_success_concurrentProducers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 10_000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                pool.execute(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                return;
+                            }
+                            Thread.onSpinWait();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+
+            // when
+            Set<Integer> polled = new HashSet<>();
+            while (polled.size() < producers * perProducer) {
+                if (System.nanoTime() > deadline) {
+                    fail("제한 시간 안에 모두 꺼내지 못했습니다. (꺼낸 수: " + polled.size() + ")");
+                }
+                Integer value = buffer.poll();
+                if (value != null) {
+                    assertTrue(polled.add(value));
+                }
+            }
+
+            // then
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertNull(buffer.poll());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("cost 보정 성공 - 최소/최대 범위 유지")
+    void calibrate_success_withinBounds() {
+        // when
+        int strength = CalibratedBCryptPasswordEncoder.calibrate(1_000, 4, 6);
+
+        // then
+        assertTrue(strength >= 4 && strength <= 6);
+    }
+
+    @Test
+    @DisplayName("cost 보정 성공 - 목표 시간이 너무 짧으면 최소 cost 사용")
+    void calibrate_success_minimumStrength() {
+        // when
+        int strength = CalibratedBCryptPasswordEncoder.calibrate(0, 5, 8);
+
+        // then
+        assertEquals(5, strength);
+    }
+
+    @Test
+    @DisplayName("cost 보정 실패 - 잘못된 범위")
+    void calibrate_failure_invalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> CalibratedBCryptPasswordEncoder.calibrate(100, 8, 6));
+    }
+
+    @Test
+    @DisplayName("cost가 낮은 해시만 재해시 대상 (더 높은 cost는 유지)")
+    void upgradeEncoding_lowerStrengthOnly() {
+        // given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+        String lower = new BCryptPasswordEncoder(4).encode("password");
+        String same = encoder.encode("password");
+        String higher = new BCryptPasswordEncoder(6).encode("password");
+
+        // then
+        assertTrue(encoder.upgradeEncoding(lower));
+        assertFalse(encoder.upgradeEncoding(same));
+        assertFalse(encoder.upgradeEncoding(higher));
+        assertFalse(encoder.upgradeEncoding("{noop}password"));
+        assertEquals(6, CalibratedBCryptPasswordEncoder.strengthOf(higher));
+    }
+}
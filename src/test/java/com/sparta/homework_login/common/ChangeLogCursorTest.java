@@ -0,0 +1,65 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChangeLogCursorTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final ChangeLogCursor cursor = new ChangeLogCursor(10, 5_000, now::get);
+
+    @Test
+    @DisplayName("연속된 아이디를 처리하면 위치 이동")
+    void advance_success_contiguous() {
+        // when
+        assertTrue(cursor.accept(11));
+        assertTrue(cursor.accept(12));
+        cursor.advance();
+
+        // then
+        assertEquals(12, cursor.getPosition());
+        assertFalse(cursor.accept(12));
+        assertFalse(cursor.accept(9));
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 아이디를 기다렸다가 처리")
+    void advance_success_lateCommit() {
+        // given (11번이 아직 커밋되지 않음)
+        cursor.accept(12);
+        cursor.advance();
+        assertEquals(10, cursor.getPosition());
+        assertEquals(12, cursor.getLastAccepted());
+
+        // when
+        now.addAndGet(1_000);
+        assertTrue(cursor.accept(11));
+        assertFalse(cursor.accept(12));
+        cursor.advance();
+
+        // then
+        assertEquals(12, cursor.getPosition());
+    }
+
+    @Test
+    @DisplayName("오래 비어 있는 아이디는 롤백된 것으로 보고 건너뜀")
+    void advance_success_skipRolledBack() {
+        // given
+        cursor.accept(12);
+        cursor.accept(13);
+        cursor.advance();
+
+        // when
+        now.addAndGet(5_000);
+        cursor.advance();
+
+        // then
+        assertEquals(13, cursor.getPosition());
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CsvLineParserTest {
+
+    @Test
+    @DisplayName("큰따옴표로 감싼 쉼표와 이스케이프된 큰따옴표 처리 성공")
+    void parse_success_quoted() {
+        // when
+        List<String> fields = CsvLineParser.parse("Hong,\"동에, \"\"번쩍\"\"\",,1q2w3e4r#");
+
+        // then
+        assertEquals(List.of("Hong", "동에, \"번쩍\"", "", "1q2w3e4r#"), fields);
+    }
+
+    @Test
+    @DisplayName("필드 중간의 큰따옴표는 일반 문자로 처리")
+    void parse_success_innerQuote() {
+        // when
+        List<String> fields = CsvLineParser.parse("Ho\"ng,");
+
+        // then
+        assertEquals(List.of("Ho\"ng", ""), fields);
+    }
+
+    @Test
+    @DisplayName("CSV 파싱 실패 - 큰따옴표가 닫히지 않음")
+    void parse_failure_unclosedQuote() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> CsvLineParser.parse("Hong,\"동에 번쩍"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.sparta.homework_login.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.dto.response.ErrorResponseDto;
+import com.sparta.homework_login.enums.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ErrorResponseTemplatesTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2026, 10, 18, 9, 5, 3);
+    private static final String URL = "http://localhost:8080/api/users?q=\"a\\b\"\t\u0001한글";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] serialize(ErrorResponseDto responseDto) throws Exception {
+        responseDto.setDate("2026-10-18 09:05:03");
+        return objectMapper.writeValueAsBytes(responseDto);
+    }
+
+    @Test
+    @DisplayName("모든 ErrorCode의 오류 응답이 ObjectMapper 직렬화 결과와 같음")
+    void render_success_sameAsObjectMapper() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            // given
+            byte[] expected = serialize(new ErrorResponseDto(errorCode, URL));
+
+            // when
+            byte[] actual = ErrorResponseTemplates.render(errorCode, ErrorResponseTemplates.formatDate(DATE), URL, null);
+
+            // then
+            assertArrayEquals(expected, actual, errorCode.name());
+        }
+    }
+
+    @Test
+    @DisplayName("상세 메시지가 포함된 오류 응답이 ObjectMapper 직렬화 결과와 같음")
+    void render_success_detailMessage() throws Exception {
+        // given
+        String detailMsg = "닉네임은 \"필수\" 입니다.\n";
+        byte[] expected = serialize(new ErrorResponseDto(ErrorCode.BAD_INPUT, URL, detailMsg));
+
+        // when
+        byte[] actual = ErrorResponseTemplates.render(ErrorCode.BAD_INPUT, ErrorResponseTemplates.formatDate(DATE),
+                URL, ": " + detailMsg);
+
+        // then
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,156 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.exception.BusinessException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Hs256TokenCodecTest {
+
+    private Hs256TokenCodec compactCodec;
+    private JjwtTokenCodec jjwtCodec;
+    private byte[] secret;
+
+    private TokenClaims createClaims(String username, String nickname, long expiration) {
+        long now = System.currentTimeMillis() / 1000L;
+        return new TokenClaims(1L, UserRole.ROLE_USER, username, nickname, 3, now, now + expiration);
+    }
+
+    private void assertClaims(TokenClaims expected, TokenClaims actual) {
+        assertEquals(expected.getUserId(), actual.getUserId());
+        assertEquals(expected.getUserRole(), actual.getUserRole());
+        assertEquals(expected.getUsername(), actual.getUsername());
+        assertEquals(expected.getNickname(), actual.getNickname());
+        assertEquals(expected.getTokenVersion(), actual.getTokenVersion());
+        assertEquals(expected.getIssuedAt(), actual.getIssuedAt());
+        assertEquals(expected.getExpiration(), actual.getExpiration());
+    }
+
+    @BeforeEach
+    void setUp() {
+        secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        compactCodec = new Hs256TokenCodec(secret);
+        jjwtCodec = new JjwtTokenCodec(Keys.hmacShaKeyFor(secret));
+    }
+
+    @Test
+    @DisplayName("jjwt로 발급한 토큰 검증 성공")
+    void decode_success_jjwtToken() {
+        // given
+        TokenClaims claims = createClaims("Hong \"Gil\" Dong\\", "동에 번쩍 😀\n", 3600);
+        String token = jjwtCodec.encode(claims);
+
+        // when
+        TokenClaims decoded = compactCodec.decode(token);
+
+        // then
+        assertClaims(claims, decoded);
+    }
+
+    @Test
+    @DisplayName("직접 발급한 토큰을 jjwt로 검증 성공")
+    void encode_success_jjwtCompatible() {
+        // given
+        TokenClaims claims = createClaims("Hong\t\u0001", "서에 번쩍", 3600);
+
+        // when
+        String token = compactCodec.encode(claims);
+        TokenClaims decoded = jjwtCodec.decode(token);
+
+        // then
+        assertClaims(claims, decoded);
+        assertEquals(jjwtCodec.encode(claims), token);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 클레임과 헤더가 포함된 토큰 검증 성공")
+    void decode_success_extraClaims() {
+        // given
+        TokenClaims claims = createClaims("Hong", "동에 번쩍", 3600);
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("1")
+                .claim("userRole", UserRole.ROLE_USER)
+                .claim("username", "Hong")
+                .claim("nickname", "동에 번쩍")
+                .claim("tokenVersion", 3)
+                .claim("extra", new int[]{1, 2})
+                .setExpiration(new Date(claims.getExpirationMillis()))
+                .setIssuedAt(new Date(claims.getIssuedAt() * 1000L))
+                .signWith(Keys.hmacShaKeyFor(secret), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        TokenClaims decoded = compactCodec.decode(token);
+
+        // then
+        assertClaims(claims, decoded);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 서명 위조")
+    void decode_failure_tamperedSignature() {
+        // given
+        String token = compactCodec.encode(createClaims("Hong", "동에 번쩍", 3600));
+        String forged = new Hs256TokenCodec(new byte[32]).encode(createClaims("Admin", "동에 번쩍", 3600));
+        String tampered = forged.substring(0, forged.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> compactCodec.decode(tampered));
+
+        // then
+        assertEquals(ErrorCode.TOKEN_UNSIGNED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰")
+    void decode_failure_expired() {
+        // given
+        String token = jjwtCodec.encode(createClaims("Hong", "동에 번쩍", -10));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> compactCodec.decode(token));
+
+        // then
+        assertEquals(ErrorCode.TOKEN_TIMEOUT, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - HS256이 아닌 알고리즘")
+    void decode_failure_unsupportedAlgorithm() {
+        // given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(new byte[64]), SignatureAlgorithm.HS512)
+                .compact();
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> compactCodec.decode(token));
+
+        // then
+        assertEquals(ErrorCode.TOKEN_UNSUPPORTED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 잘못된 형식")
+    void decode_failure_malformed() {
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () -> compactCodec.decode("abc.def"));
+
+        // then
+        assertEquals(ErrorCode.TOKEN_INVALID, exception.getErrorCode());
+    }
+}
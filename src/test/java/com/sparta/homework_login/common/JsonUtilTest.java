@@ -0,0 +1,54 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 오류 응답 작성과, 이미 커밋된(본문 일부를 보낸) 응답에는 오류 응답을 이어 쓰지 않는지 확인합니다.
+ */
+public class JsonUtilTest {
+
+    private final JsonUtil jsonUtil = new JsonUtil(new AuthMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("오류 응답 작성 성공")
+    void writeBody_success() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jsonUtil.writeBody(request, response, ErrorCode.UNKNOWN_ERROR);
+
+        // then
+        assertEquals(ErrorCode.UNKNOWN_ERROR.getHttpStatus().value(), response.getStatus());
+        assertTrue(response.getContentAsString(StandardCharsets.UTF_8).contains(ErrorCode.UNKNOWN_ERROR.getMessage()));
+    }
+
+    @Test
+    @DisplayName("오류 응답 작성 실패 - 이미 커밋된 응답에는 쓰지 않고 예외를 던져 연결을 끊도록 함")
+    void writeBody_failure_committed() throws Exception {
+        // given (스트리밍 응답의 일부를 이미 보낸 상태)
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.getOutputStream().write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+        response.flushBuffer();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> jsonUtil.writeBody(request, response, ErrorCode.UNKNOWN_ERROR));
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"id\":1}\n", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,172 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.AuditOverflowPolicy;
+import com.sparta.homework_login.enums.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 메모리 DB(H2)에 login_audit 테이블을 만들어 배치 저장 조건과 버퍼가 가득 찼을 때의 처리를 확인합니다.
+ */
+public class LoginAuditWriterTest {
+    private static final long NEVER = TimeUnit.MINUTES.toMillis(10);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private MockHttpServletRequest request;
+    private LoginAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:login-audit;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("drop table if exists login_audit");
+        jdbcTemplate.execute("create table login_audit (id bigint auto_increment primary key, created_at timestamp(6) not null, "
+                + "user_id bigint, username varchar(100) not null, client_ip varchar(45), outcome varchar(20) not null, "
+                + "error_code varchar(40), latency_micros bigint not null)");
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private LoginAuditWriter createWriter(PlatformTransactionManager transactionManager, int bufferSize,
+                                          int batchSize, long flushIntervalMillis) {
+        return new LoginAuditWriter(jdbcTemplate, transactionManager, true, bufferSize, batchSize, flushIntervalMillis,
+                AuditOverflowPolicy.DROP, 0, 5_000);
+    }
+
+    private static void await(LongSupplier actual, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (actual.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, actual.getAsLong());
+    }
+
+    private long countRows() {
+        return jdbcTemplate.queryForObject("select count(*) from login_audit", Long.class);
+    }
+
+    @Test
+    @DisplayName("batch-size건이 모이면 한 번에 저장")
+    void flush_success_batchSize() throws InterruptedException {
+        // given
+        writer = createWriter(transactionManager, 16, 3, NEVER);
+
+        // when
+        writer.recordSuccess(request, 1L, "Hong", System.nanoTime());
+        writer.recordFailure(request, "Kim", ErrorCode.USER_NOT_FOUND, System.nanoTime());
+        writer.recordFailure(request, "Hong", ErrorCode.USER_PASSWORD_NOT_MATCH, System.nanoTime());
+
+        // then
+        await(writer::getWrittenCount, 3);
+        assertEquals(3, countRows());
+        Map<String, Object> row = jdbcTemplate.queryForMap("select * from login_audit where username = 'Kim'");
+        assertEquals("LOGIN_FAILED", row.get("outcome"));
+        assertEquals("USER_NOT_FOUND", row.get("error_code"));
+        assertEquals("10.0.0.1", row.get("client_ip"));
+        assertNull(row.get("user_id"));
+    }
+
+    @Test
+    @DisplayName("배치가 다 차지 않아도 flush-interval-millis가 지나면 저장")
+    void flush_success_interval() throws InterruptedException {
+        // given
+        writer = createWriter(transactionManager, 16, 100, 50);
+
+        // when
+        writer.recordSuccess(request, 1L, "Hong", System.nanoTime());
+
+        // then
+        await(writer::getWrittenCount, 1);
+        assertEquals(1, countRows());
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 로그를 모두 저장")
+    void shutdown_success_flush() throws InterruptedException {
+        // given
+        writer = createWriter(transactionManager, 16, 100, NEVER);
+        for (int i = 0; i < 5; i++) {
+            writer.recordSuccess(request, 1L, "Hong", System.nanoTime());
+        }
+
+        // when
+        writer.shutdown();
+
+        // then
+        assertEquals(5, writer.getWrittenCount());
+        assertEquals(5, countRows());
+    }
+
+    @Test
+    @DisplayName("저장이 막혀 버퍼가 가득 차면 기다리지 않고 버림 (DROP)")
+    void record_failure_dropWhenFull() throws InterruptedException {
+        // given: 첫 배치 저장이 끝나지 않도록 트랜잭션 시작을 막음
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PlatformTransactionManager blocking = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+        writer = createWriter(blocking, 2, 1, NEVER);
+        writer.recordSuccess(request, 1L, "Hong", System.nanoTime());
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // when: 버퍼(2건)를 채운 뒤 한 건 더
+        for (int i = 0; i < 3; i++) {
+            writer.recordSuccess(request, 1L, "Hong", System.nanoTime());
+        }
+
+        // then
+        assertEquals(1, writer.getDroppedCount());
+        release.countDown();
+        await(writer::getWrittenCount, 3);
+        assertEquals(3, countRows());
+    }
+}
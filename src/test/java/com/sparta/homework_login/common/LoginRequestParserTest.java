@@ -0,0 +1,111 @@
+package com.sparta.homework_login.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.dto.request.SignInRequestDto;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.BusinessException;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoginRequestParserTest {
+
+    private final LoginRequestParser parser = new LoginRequestParser(new ObjectMapper(), 256, 20, 30);
+
+    private MockHttpServletRequest createRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private void assertJsonInvalid(MockHttpServletRequest request) {
+        BusinessException exception = assertThrows(BusinessException.class, () -> parser.parse(request));
+        assertEquals(ErrorCode.JSON_INVALID, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 성공 - 알 수 없는 필드는 무시")
+    void parse_success() {
+        // given
+        MockHttpServletRequest request = createRequest(
+                "{\"extra\":{\"a\":[1,2]},\"username\":\"Hong \\\"Gil\\\" Dong\",\"password\":\"1q2w3e4r#\"}");
+
+        // when
+        SignInRequestDto requestDto = parser.parse(request);
+
+        // then
+        assertEquals("Hong \"Gil\" Dong", requestDto.getUsername());
+        assertEquals("1q2w3e4r#", requestDto.getPassword());
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 성공 - null 필드")
+    void parse_success_nullField() {
+        // given
+        MockHttpServletRequest request = createRequest("{\"username\":null,\"password\":\"1q2w3e4r#\"}");
+
+        // when
+        SignInRequestDto requestDto = parser.parse(request);
+
+        // then
+        assertNull(requestDto.getUsername());
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - 잘못된 JSON")
+    void parse_failure_malformed() {
+        assertJsonInvalid(createRequest("{\"username\":\"Hong\","));
+        assertJsonInvalid(createRequest("[\"Hong\"]"));
+        assertJsonInvalid(createRequest("{\"username\":{\"name\":\"Hong\"}}"));
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - 필드 길이 제한 초과")
+    void parse_failure_fieldTooLong() {
+        assertJsonInvalid(createRequest("{\"username\":\"" + "a".repeat(21) + "\",\"password\":\"1q2w3e4r#\"}"));
+        assertJsonInvalid(createRequest("{\"username\":\"Hong\",\"password\":\"" + "a".repeat(31) + "\"}"));
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - Content-Length가 크기 제한 초과")
+    void parse_failure_contentLengthTooLarge() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login") {
+            @Override
+            public long getContentLengthLong() {
+                return 1_000_000;
+            }
+        };
+
+        // then
+        assertJsonInvalid(request);
+    }
+
+    @Test
+    @DisplayName("로그인 요청 파싱 실패 - Content-Length 없이 크기 제한을 넘는 본문")
+    void parse_failure_streamTooLarge() {
+        // given
+        InputStream head = new ByteArrayInputStream("{\"extra\":\"".getBytes(StandardCharsets.UTF_8));
+        InputStream padding = new ByteArrayInputStream("a".repeat(10_000).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(new SequenceInputStream(head, padding));
+            }
+        };
+
+        // then
+        assertJsonInvalid(request);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.exception.RetryLaterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class PasswordHashExecutorTest {
+
+    // 스레드 1개, 대기 큐 1개, Retry-After 2초, 결과 대기 200ms
+    private final PasswordHashExecutor executor = new PasswordHashExecutor(1, 1, 2, 200);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private void block() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("작업 실행 성공 - 결과 반환")
+    void call_success() {
+        // when
+        String result = executor.call(() -> "hash");
+
+        // then
+        assertEquals("hash", result);
+        assertEquals(1, executor.getStartedCount());
+    }
+
+    @Test
+    @DisplayName("작업 실행 실패 - 대기 큐가 가득 차면 즉시 503 + Retry-After")
+    void call_failure_queueFull() {
+        // given (실행 중 1개 + 대기 1개)
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        // when
+        RetryLaterException exception = assertThrows(RetryLaterException.class, () -> executor.call(() -> "hash"));
+
+        // then
+        assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertEquals(1, executor.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("작업 실행 실패 - 제한 시간 안에 끝나지 않으면 503 + Retry-After")
+    void call_failure_timeout() throws InterruptedException {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // when
+        long start = System.nanoTime();
+        RetryLaterException exception = assertThrows(RetryLaterException.class, () -> executor.call(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                interrupted.countDown(); // 시간 초과 시 작업 취소
+            }
+            return "hash";
+        }));
+
+        // then
+        assertEquals(ErrorCode.SERVICE_BUSY, exception.getErrorCode());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,151 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.HomeworkLoginApplication;
+import com.sparta.homework_login.dto.request.UpdateUserRequestDto;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.repository.UserRepository;
+import com.sparta.homework_login.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * primary / replica 역할의 메모리 DB(H2) 두 개로 읽기/쓰기 라우팅을 확인합니다.
+ * <p>
+ * 복제는 테스트에서 직접 실행하며(replicate), 그 뒤 primary만 바뀐 상태를 복제 지연으로 봅니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReplicationRoutingDataSourceTest {
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeAll
+    void start() throws SQLException {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        context = new SpringApplicationBuilder(HomeworkLoginApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + PRIMARY_URL,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.replica.url=" + REPLICA_URL,
+                "--spring.datasource.replica.driver-class-name=org.h2.Driver",
+                "--spring.datasource.replica.username=sa",
+                "--spring.datasource.replica.password=",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--jwt.secret.key=" + Base64.getEncoder().encodeToString(secret),
+                "--user.change-log.enabled=false",
+                "--logging.level.root=WARN");
+        replicate();
+    }
+
+    @AfterAll
+    void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * primary의 현재 상태를 replica에 그대로 복사합니다.
+     */
+    private void replicate() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet resultSet = statement.executeQuery("SCRIPT")) {
+            while (resultSet.next()) {
+                script.add(resultSet.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private String findNickname(String url, String username) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement statement = connection.prepareStatement("select nickname from user where username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private User createUser() throws SQLException {
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .username("Hong-" + UUID.randomUUID().toString().substring(0, 8))
+                .password(context.getBean(PasswordEncoder.class).encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .build());
+        replicate();
+        return user;
+    }
+
+    @Test
+    @DisplayName("읽기 전용 조회는 replica에서 실행")
+    void readOnly_routesToReplica() throws SQLException {
+        // given (primary에만 반영된 변경)
+        User user = createUser();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             PreparedStatement statement = primary.prepareStatement("update user set nickname = ? where username = ?")) {
+            statement.setString(1, "서에 번쩍");
+            statement.setString(2, user.getUsername());
+            statement.executeUpdate();
+        }
+
+        // when
+        UserCache userCache = context.getBean(UserCache.class);
+        userCache.invalidate(user.getUsername());
+        String nickname = userCache.find(user.getUsername()).orElseThrow().getNickname();
+
+        // then
+        assertEquals("동에 번쩍", nickname);
+    }
+
+    @Test
+    @DisplayName("쓰기는 primary에서 실행하고, 변경 직후 자신의 조회는 primary에서 실행")
+    void write_routesToPrimary_readYourWrites() throws SQLException {
+        // given
+        User user = createUser();
+        UserCache userCache = context.getBean(UserCache.class);
+        userCache.find(user.getUsername());
+
+        // when
+        context.getBean(UserService.class).updateUser(user.getUsername(),
+                new UpdateUserRequestDto("1q2w3e4r#", "Admin123!", "서에 번쩍"));
+
+        // then (replica는 아직 이전 상태지만 방금 수정한 사용자는 primary에서 조회)
+        assertEquals("서에 번쩍", findNickname(PRIMARY_URL, user.getUsername()));
+        assertEquals("동에 번쩍", findNickname(REPLICA_URL, user.getUsername()));
+        assertEquals("서에 번쩍", userCache.find(user.getUsername()).orElseThrow().getNickname());
+    }
+}
@@ -0,0 +1,50 @@
+package com.sparta.homework_login.common;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트 코드에서 실행된 SQL 문장 수의 상한을 검증하는 유틸 클래스입니다.
+ * <p>
+ * MockMvc 요청과 서비스 호출은 테스트 스레드에서 실행되므로 SqlStatementCounter 범위로 셀 수 있습니다.
+ * 테스트 트랜잭션은 롤백되므로 커밋 시점에 flush 되는 UPDATE/DELETE는 세지 않습니다.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface SqlAction<T> {
+        T run() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface VoidSqlAction {
+        void run() throws Exception;
+    }
+
+    /**
+     * action이 실행한 SQL 문장 수가 maxStatements 이하인지 검증하고 결과를 반환합니다.
+     */
+    public static <T> T assertMaxStatements(int maxStatements, SqlAction<T> action) throws Exception {
+        T result;
+        int count;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            result = action.run();
+            count = scope.getCount();
+        }
+        assertTrue(count <= maxStatements,
+                "SQL 문장 수 초과: expected <= " + maxStatements + " but was " + count);
+        return result;
+    }
+
+    /**
+     * action이 실행한 SQL 문장 수가 maxStatements 이하인지 검증합니다.
+     */
+    public static void assertMaxStatements(int maxStatements, VoidSqlAction action) throws Exception {
+        assertMaxStatements(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    // 연속 3회, 초당 1회
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(3, 1.0, 1_000, Duration.ofMinutes(1), now::get);
+
+    @Test
+    @DisplayName("버킷 용량만큼 연속 요청 허용")
+    void tryAcquire_success_burst() {
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, limiter.tryAcquire("Hong"));
+        }
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.tryAcquire("Hong"));
+        assertEquals(1L, limiter.getThrottledCount());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워짐")
+    void tryAcquire_success_refill() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("Hong");
+        }
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_500));
+
+        // then (1.5초 동안 1개만 채워짐)
+        assertEquals(0L, limiter.tryAcquire("Hong"));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.tryAcquire("Hong"));
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버킷 용량 이상으로 채워지지 않음")
+    void tryAcquire_failure_capacityLimit() {
+        // given
+        limiter.tryAcquire("Hong");
+
+        // when
+        now.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        // then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, limiter.tryAcquire("Hong"));
+        }
+        assertTrue(limiter.tryAcquire("Hong") > 0);
+    }
+
+    @Test
+    @DisplayName("키별로 버킷이 분리됨")
+    void tryAcquire_success_separateKeys() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("Hong");
+        }
+
+        // when & then
+        assertEquals(0L, limiter.tryAcquire("Kim"));
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    @DisplayName("거절 횟수가 많은 키 순서로 조회")
+    void topThrottled_success() {
+        // given
+        for (int i = 0; i < 8; i++) {
+            limiter.tryAcquire("Hong");   // 5회 거절
+        }
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("Kim");    // 2회 거절
+        }
+        limiter.tryAcquire("Lee");        // 거절 없음
+
+        // when
+        List<TokenBucketLimiter.ThrottledKey> top = limiter.topThrottled(10);
+
+        // then
+        assertEquals(List.of(
+                new TokenBucketLimiter.ThrottledKey("Hong", 5),
+                new TokenBucketLimiter.ThrottledKey("Kim", 2)), top);
+        assertEquals(List.of(new TokenBucketLimiter.ThrottledKey("Hong", 5)), limiter.topThrottled(1));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.homework_login.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenDenylistTest {
+
+    private final TokenDenylist denylist = new TokenDenylist(1_000, 0.01);
+
+    @Test
+    @DisplayName("폐기한 토큰 확인 성공")
+    void isRevoked_success() {
+        // given
+        String revoked = TokenDigest.of("revoked.token.value");
+        String active = TokenDigest.of("active.token.value");
+
+        // when
+        denylist.add(revoked, System.currentTimeMillis() + 60_000);
+
+        // then
+        assertTrue(denylist.isRevoked(revoked));
+        assertFalse(denylist.isRevoked(active));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 추가하지 않음")
+    void add_ignored_expired() {
+        // given
+        String expired = TokenDigest.of("expired.token.value");
+
+        // when
+        denylist.add(expired, System.currentTimeMillis() - 1);
+
+        // then
+        assertFalse(denylist.isRevoked(expired));
+        assertEquals(0, denylist.size());
+    }
+
+    @Test
+    @DisplayName("폐기하지 않은 토큰은 대부분 Bloom filter에서 걸러짐")
+    void isRevoked_bloomFilter_falsePositiveRate() {
+        // given (구간당 예상 수만큼 폐기)
+        for (int i = 0; i < 1_000; i++) {
+            denylist.add(TokenDigest.of("revoked-" + i), System.currentTimeMillis() + 60_000);
+        }
+
+        // when (실제 토큰 다이제스트와 TokenDenylist의 해시로 Bloom filter 통과 수를 셈)
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String active = TokenDigest.of("active-" + i);
+            if (denylist.mightBeRevoked(active)) {
+                falsePositives++;
+            }
+            assertFalse(denylist.isRevoked(active));
+        }
+
+        // then (목표 1%, 여유를 두어 3% 미만)
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(denylist.mightBeRevoked(TokenDigest.of("revoked-" + i)));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.sparta.homework_login.common;
+
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.repository.UserRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.reflect.Proxy;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 인증 hot path(UserCache / TokenVersionTable 최초 조회, Hs256TokenCodec, TokenDigest)를 가상 스레드에서 실행해
+ * 캐리어 스레드 고정(pinning)이 없는지 확인합니다.
+ * <p>
+ * 고정된 상태에서 대기(park)하면 JFR jdk.VirtualThreadPinned 이벤트가 기록되므로, 이 이벤트가 없어야 합니다.
+ * 테스트 태스크는 -Djdk.tracePinnedThreads=full로 실행되어 고정이 발생하면 스택도 출력합니다.
+ */
+@Timeout(30)
+public class VirtualThreadPinningTest {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int THREADS = 64;
+    private static final int USERS = 16;
+    private static final long QUERY_MILLIS = 20; // DB 조회 대기 시간 (이 동안 park)
+
+    /**
+     * 조회할 때마다 QUERY_MILLIS만큼 대기하는 UserRepository를 만듭니다. (Mockito의 호출 처리 잠금을 거치지 않도록 Proxy 사용)
+     */
+    private UserRepository createSlowRepository() {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findUserDetailsByUsername" -> {
+                            Thread.sleep(QUERY_MILLIS);
+                            String username = (String) args[0];
+                            long id = Long.parseLong(username.substring("user-".length()));
+                            return Optional.of(new UserDetailsImpl(id, username, "동에 번쩍", "{noop}1q2w3e4r#", UserRole.ROLE_USER, 0));
+                        }
+                        case "findTokenVersionById" -> {
+                            Thread.sleep(QUERY_MILLIS);
+                            return Optional.of(0);
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "toString" -> {
+                            return "SlowUserRepository";
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * task를 가상 스레드 threads개에서 동시에 실행하고, 그동안 기록된 고정 이벤트를 반환합니다.
+     */
+    private List<RecordedEvent> runOnVirtualThreads(int threads, IntConsumer task) throws InterruptedException {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(PINNED_EVENT, pinned::add);
+            stream.startAsync();
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                workers.add(Thread.ofVirtual().name("pinning-check-" + i).start(() -> {
+                    try {
+                        start.await();
+                        task.accept(index);
+                    } catch (Throwable ex) {
+                        failures.add(ex);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            stream.stop(); // 기록된 이벤트를 모두 처리한 뒤 종료
+        }
+        assertTrue(failures.isEmpty(), () -> "가상 스레드 작업 실패: " + failures);
+        return pinned;
+    }
+
+    private String describe(List<RecordedEvent> events) {
+        return events.stream()
+                .map(event -> event.getThread() != null ? event.getThread().getJavaName() : "?")
+                .distinct()
+                .collect(Collectors.joining(", ", "고정된 가상 스레드: ", ""))
+                + events.stream()
+                .filter(event -> event.getStackTrace() != null)
+                .findFirst()
+                .map(event -> event.getStackTrace().getFrames().stream()
+                        .map(this::describe)
+                        .collect(Collectors.joining("\n\tat ", "\n\tat ", "")))
+                .orElse("");
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    @Test
+    @DisplayName("고정 감지 확인 - synchronized 안에서 대기하면 이벤트 기록")
+    void pinning_detected() throws InterruptedException {
+        // given
+        Object lock = new Object();
+
+        // when
+        List<RecordedEvent> pinned = runOnVirtualThreads(1, index -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(QUERY_MILLIS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        // then
+        assertFalse(pinned.isEmpty());
+    }
+
+    @Test
+    @DisplayName("인증 hot path - 가상 스레드에서 캐시 최초 조회, 토큰 발급/검증, 다이제스트 생성 시 고정 없음")
+    void authHotPath_notPinned() throws InterruptedException {
+        // given
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        UserRepository userRepository = createSlowRepository();
+        UserCache userCache = new UserCache(userRepository, new ReadYourWritesGuard(5000, 1000), 1000, 300);
+        TokenVersionTable tokenVersionTable = new TokenVersionTable(userRepository, 1000);
+        Hs256TokenCodec codec = new Hs256TokenCodec(secret);
+        long now = System.currentTimeMillis() / 1000L;
+
+        // when (같은 사용자를 여러 스레드가 동시에 최초 조회)
+        List<RecordedEvent> pinned = runOnVirtualThreads(THREADS, index -> {
+            long userId = index % USERS;
+            UserDetailsImpl user = userCache.find("user-" + userId).orElseThrow();
+            assertTrue(tokenVersionTable.isCurrent(userId, user.getTokenVersion()));
+
+            String token = codec.encode(new TokenClaims(userId, user.getUserRole(), user.getUsername(),
+                    user.getNickname(), user.getTokenVersion(), now, now + 3600));
+            assertEquals(user.getUsername(), codec.decode(token).getUsername());
+            assertFalse(TokenDigest.of(token).isEmpty());
+        });
+
+        // then
+        assertTrue(pinned.isEmpty(), () -> describe(pinned));
+    }
+}
@@ -0,0 +1,121 @@
+package com.sparta.homework_login.config;
+
+import com.sparta.homework_login.common.AuthMetrics;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.mock.WithCustomMockUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 단계별 Timer, 오류 Counter, 스레드 풀 / 로그 버퍼 메트릭 등록과 /actuator/prometheus 접근 제한을 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability // 테스트에서도 Prometheus 레지스트리 사용
+public class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    @Test
+    @DisplayName("인증 단계별 Timer와 ErrorCode별 Counter 등록")
+    void authMetrics_registered() {
+        // then
+        assertNotNull(registry.find("auth.login.parse").timer());
+        assertNotNull(registry.find("auth.password").tag("operation", "verify").timer());
+        assertNotNull(registry.find("auth.password").tag("operation", "encode").timer());
+        assertNotNull(registry.find("auth.token").tag("operation", "create").timer());
+        assertNotNull(registry.find("auth.token").tag("operation", "verify").timer());
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            assertNotNull(registry.find("auth.errors")
+                    .tag("code", errorCode.name())
+                    .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                    .counter());
+        }
+    }
+
+    @Test
+    @DisplayName("스레드 풀, 접근 로그, 감사 로그, 로그인 시도 제한 메트릭 등록")
+    void meterBinders_registered() {
+        // then
+        assertNotNull(registry.find("password.executor.queue.depth").gauge());
+        assertNotNull(registry.find("password.executor.rejected").functionCounter());
+        assertNotNull(registry.find("password.executor.queue.wait").functionTimer());
+        assertNotNull(registry.find("sql.budget.exceeded").functionCounter());
+        assertNotNull(registry.find("access.log.dropped").functionCounter());
+        assertNotNull(registry.find("user.change.log.applied").functionCounter());
+        assertNotNull(registry.find("login.throttle.rejected").tag("scope", "client").functionCounter());
+        assertNotNull(registry.find("login.throttle.rejected").tag("scope", "username").functionCounter());
+        assertNotNull(registry.find("login.audit.failed").functionCounter());
+    }
+
+    @Test
+    @DisplayName("오류 응답 수 증가")
+    void countError_increments() {
+        // given
+        Counter counter = registry.get("auth.errors").tag("code", ErrorCode.TOKEN_REVOKED.name()).counter();
+        double before = counter.count();
+
+        // when
+        authMetrics.countError(ErrorCode.TOKEN_REVOKED);
+
+        // then
+        assertEquals(before + 1, counter.count());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("Prometheus 수집 성공 - 관리자")
+    void prometheus_success_admin() throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(get("/actuator/prometheus"));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(content().string(containsString("auth_errors_total")))
+                .andExpect(content().string(containsString("auth_login_parse_seconds")));
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("Prometheus 수집 실패 - 관리자가 아닌 사용자")
+    void prometheus_failure_forbidden() throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(get("/actuator/prometheus"));
+
+        // then
+        actions.andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Prometheus 수집 실패 - 인증하지 않은 요청")
+    void prometheus_failure_anonymous() throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(get("/actuator/prometheus"));
+
+        // then
+        actions.andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,136 @@
+package com.sparta.homework_login.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.dto.request.RefreshTokenRequestDto;
+import com.sparta.homework_login.dto.request.SignInRequestDto;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.sparta.homework_login.common.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Rollback
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserCache userCache;
+
+    @BeforeEach
+    public void setUp() {
+        userCache.invalidateAll(); // 롤백된 이전 테스트의 사용자 정보 제거
+        userRepository.deleteAll();
+        User user = User.builder()
+                .username("Hong")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .build();
+        userRepository.saveAndFlush(user);
+    }
+
+    private String login() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .content(objectMapper.writeValueAsString(new SignInRequestDto("Hong", "1q2w3e4r#")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        return readRefreshToken(result);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto(refreshToken)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private String readRefreshToken(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("refreshToken").asText();
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공")
+    public void refresh_success() throws Exception {
+        // given
+        String refreshToken = login();
+
+        // when (리프레시 토큰 조회 1 + 사용 처리 1 + 새 토큰 저장 1, 비밀번호 해시 없음)
+        ResultActions actions = assertMaxStatements(3, () -> refresh(refreshToken));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 사용된 토큰 재사용 시 family 전체 폐기")
+    public void refresh_failure_reused() throws Exception {
+        // given
+        String refreshToken = login();
+        String rotatedToken = readRefreshToken(refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andReturn());
+
+        // when
+        ResultActions reused = refresh(refreshToken);
+        ResultActions rotated = refresh(rotatedToken);
+
+        // then
+        reused.andDo(print())
+                .andExpect(status().isUnauthorized());
+        rotated.andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 존재하지 않는 토큰")
+    public void refresh_failure_invalid() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(1, () -> refresh("invalid-refresh-token"));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 빈 토큰")
+    public void refresh_failure_blank() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> refresh(" "));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
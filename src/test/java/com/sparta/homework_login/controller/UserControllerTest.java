@@ -1,13 +1,20 @@
 package com.sparta.homework_login.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.CsvLineParser;
+import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.UserCache;
 import com.sparta.homework_login.dto.request.PasswordCheckRequestDto;
 import com.sparta.homework_login.dto.request.SignInRequestDto;
 import com.sparta.homework_login.dto.request.SignUpRequestDto;
 import com.sparta.homework_login.dto.request.UpdateUserRequestDto;
 import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
 import com.sparta.homework_login.mock.WithCustomMockUser;
 import com.sparta.homework_login.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -21,8 +28,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.sparta.homework_login.common.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Rollback
@@ -44,6 +62,17 @@ public class UserControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    public void clearCache() {
+        userCache.invalidateAll(); // 롤백된 이전 테스트의 사용자 정보 제거
+    }
+
     public void createUser() {
         userRepository.deleteAll();
         User user = User.builder()
@@ -51,7 +80,7 @@ public class UserControllerTest {
                 .password(passwordEncoder.encode("1q2w3e4r#"))
                 .nickname("동에 번쩍")
                 .build();
-        userRepository.save(user);
+        userRepository.saveAndFlush(user);
     }
 
     @Test
@@ -64,11 +93,11 @@ public class UserControllerTest {
                 "동에 번쩍"
         );
 
-        // when
-        ResultActions actions = mockMvc.perform(post("/api/auth/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        // when (ID 블록 할당 1 포함, User.ID_ALLOCATION_SIZE건마다 1회)
+        ResultActions actions = assertMaxStatements(3, () -> mockMvc.perform(post("/api/auth/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -86,10 +115,31 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(post("/api/auth/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(post("/api/auth/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - 컬럼 길이를 넘는 이름")
+    public void signUp_failure_tooLongUsername() throws Exception {
+        // given
+        SignUpRequestDto requestDto = new SignUpRequestDto(
+                "H".repeat(User.USERNAME_MAX_LENGTH + 1),
+                "1q2w3e4r#",
+                "동에 번쩍"
+        );
+
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(post("/api/auth/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -112,16 +162,16 @@ public class UserControllerTest {
                 "서에 번쩍"
         );
 
-        // when
-        ResultActions actions1 = mockMvc.perform(post("/api/auth/users")
-                .content(objectMapper.writeValueAsString(requestDto1))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        // when (ID 블록 할당 1 포함)
+        ResultActions actions1 = assertMaxStatements(3, () -> mockMvc.perform(post("/api/auth/users")
+                        .content(objectMapper.writeValueAsString(requestDto1))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
-        ResultActions actions2 = mockMvc.perform(post("/api/auth/users")
-                .content(objectMapper.writeValueAsString(requestDto2))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions2 = assertMaxStatements(1, () -> mockMvc.perform(post("/api/auth/users")
+                        .content(objectMapper.writeValueAsString(requestDto2))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions1.andDo(print())
@@ -140,11 +190,11 @@ public class UserControllerTest {
                 "1q2w3e4r#"
         );
 
-        // when
-        ResultActions actions = mockMvc.perform(post("/api/auth/login")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        // when (사용자 조회 1 + 리프레시 토큰 저장 1)
+        ResultActions actions = assertMaxStatements(2, () -> mockMvc.perform(post("/api/auth/login")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -162,10 +212,10 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(post("/api/auth/login")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(post("/api/auth/login")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -183,16 +233,51 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(post("/api/auth/login")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(post("/api/auth/login")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("로그인 실패 - 시도 횟수 초과")
+    public void signIn_failure_tooManyAttempts() throws Exception {
+        // given (다른 테스트와 버킷이 겹치지 않도록 별도의 IP, username 사용)
+        SignInRequestDto requestDto = new SignInRequestDto(
+                "Brute",
+                "1q2w3e4r#"
+        );
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .with(request -> {
+                                request.setRemoteAddr("10.0.0.17");
+                                return request;
+                            })
+                            .content(objectMapper.writeValueAsString(requestDto))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotFound());
+        }
+
+        // when (사용자 조회, 비밀번호 검증 없이 거절)
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(post("/api/auth/login")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.17");
+                            return request;
+                        })
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
     @Test
     @WithCustomMockUser
     @DisplayName("회원 정보 수정 성공")
@@ -205,11 +290,11 @@ public class UserControllerTest {
                 "서에 번쩍"
         );
 
-        // when
-        ResultActions actions = mockMvc.perform(put("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        // when (변경 로그 저장 1 포함)
+        ResultActions actions = assertMaxStatements(3, () -> mockMvc.perform(put("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -229,10 +314,10 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(put("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(put("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -252,10 +337,10 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(put("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(put("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -275,10 +360,10 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(put("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(put("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -295,11 +380,11 @@ public class UserControllerTest {
                 "1q2w3e4r#"
         );
 
-        // when
-        ResultActions actions = mockMvc.perform(delete("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        // when (변경 로그 저장 1 포함)
+        ResultActions actions = assertMaxStatements(3, () -> mockMvc.perform(delete("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -316,10 +401,10 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(delete("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(delete("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
@@ -337,13 +422,380 @@ public class UserControllerTest {
         );
 
         // when
-        ResultActions actions = mockMvc.perform(delete("/api/users")
-                .content(objectMapper.writeValueAsString(requestDto))
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON));
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(delete("/api/users")
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 이후 같은 토큰 사용 불가")
+    public void logout_success() throws Exception {
+        // given
+        createUser();
+        String bearerToken = mockMvc.perform(post("/api/auth/login")
+                        .content(objectMapper.writeValueAsString(new SignInRequestDto("Hong", "1q2w3e4r#")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("Authorization");
+        UpdateUserRequestDto requestDto = new UpdateUserRequestDto(
+                "1q2w3e4r#",
+                "Admin123!",
+                "서에 번쩍"
+        );
+
+        // when (폐기 토큰 저장 1 + 변경 로그 저장 1)
+        ResultActions actions = assertMaxStatements(2, () -> mockMvc.perform(post("/api/users/logout")
+                        .header("Authorization", bearerToken)));
+        ResultActions actions2 = assertMaxStatements(0, () -> mockMvc.perform(put("/api/users")
+                        .header("Authorization", bearerToken)
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
 
         // then
         actions.andDo(print())
+                .andExpect(status().isNoContent());
+        actions2.andDo(print())
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("토큰 인증 실패 - 회원 정보 수정 이전에 발급된 토큰")
+    public void authenticate_failure_outdatedTokenVersion() throws Exception {
+        // given (회원 정보 수정으로 토큰 버전이 1로 올라간 사용자)
+        User user = userRepository.saveAndFlush(User.builder()
+                .username("Hong")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .tokenVersion(1)
+                .build());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getUserRole(), user.getUsername(), user.getNickname(), 0);
+        UpdateUserRequestDto requestDto = new UpdateUserRequestDto(
+                "1q2w3e4r#",
+                "Admin123!",
+                "서에 번쩍"
+        );
+
+        // when (사용자 조회 1)
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(put("/api/users")
+                        .header("Authorization", bearerToken)
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(ErrorCode.TOKEN_REVOKED.getMessage()));
+    }
+
+    private List<JsonNode> readLines(ResultActions actions) throws Exception {
+        String body = actions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 일괄 등록 성공 - NDJSON")
+    public void importUsers_success_ndjson() throws Exception {
+        // given
+        createUser();
+        String body = """
+                {"username":"Kim","password":"1q2w3e4r#","nickname":"서에 번쩍"}
+                {"username":"Hong","password":"1q2w3e4r#","nickname":"동에 번쩍"}
+
+                {"username":"Kim","password":"1q2w3e4r#","nickname":"또 번쩍"}
+                {"username":"Lee","password":"1234","nickname":"남에 번쩍"}
+                {"username":"Park",
+                """;
+
+        // when (중복 검사 IN 조회 1 + ID 블록 할당 1 + 배치 INSERT 1)
+        ResultActions actions = assertMaxStatements(3, () -> mockMvc.perform(post("/api/admin/users/import")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .contentType(MediaType.APPLICATION_NDJSON)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk());
+        List<JsonNode> lines = readLines(actions);
+        assertEquals(6, lines.size());
+        assertEquals("CREATED", lines.get(0).get("result").asText());
+        assertEquals("DUPLICATED", lines.get(1).get("result").asText());
+        assertEquals(4, lines.get(2).get("line").asLong());
+        assertEquals("DUPLICATED", lines.get(2).get("result").asText());
+        assertEquals("INVALID", lines.get(3).get("result").asText());
+        assertEquals("INVALID", lines.get(4).get("result").asText());
+        assertEquals(5, lines.get(5).get("total").asLong());
+        assertEquals(1, lines.get(5).get("created").asLong());
+
+        User user = userRepository.findByUsername("Kim").orElseThrow();
+        assertEquals("서에 번쩍", user.getNickname());
+        assertEquals(UserRole.ROLE_USER, user.getUserRole());
+        assertTrue(passwordEncoder.matches("1q2w3e4r#", user.getPassword()));
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 일괄 등록 성공 - CSV")
+    public void importUsers_success_csv() throws Exception {
+        // given
+        String body = """
+                nickname,username,password
+                "동에, ""번쩍""\",Kim,1q2w3e4r#
+                서에 번쩍,,1q2w3e4r#
+                """;
+
+        // when
+        ResultActions actions = assertMaxStatements(3, () -> mockMvc.perform(post("/api/admin/users/import")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .contentType("text/csv")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk());
+        List<JsonNode> lines = readLines(actions);
+        assertEquals(3, lines.size());
+        assertEquals("CREATED", lines.get(0).get("result").asText());
+        assertEquals("INVALID", lines.get(1).get("result").asText());
+        assertEquals("동에, \"번쩍\"", userRepository.findByUsername("Kim").orElseThrow().getNickname());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 일괄 등록 - 컬럼 길이를 넘는 값은 저장 전에 INVALID")
+    public void importUsers_success_tooLongValues() throws Exception {
+        // given
+        String body = "username,password,nickname\n"
+                + "H".repeat(User.USERNAME_MAX_LENGTH + 1) + ",1q2w3e4r#,동에 번쩍\n"
+                + "Kim,1q2w3e4r#," + "번".repeat(User.NICKNAME_MAX_LENGTH + 1) + "\n";
+
+        // when (저장할 줄이 없으므로 중복 검사, INSERT 없음)
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(post("/api/admin/users/import")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .contentType("text/csv")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk());
+        List<JsonNode> lines = readLines(actions);
+        assertEquals(3, lines.size());
+        assertEquals("INVALID", lines.get(0).get("result").asText());
+        assertEquals("이름은 255자 이내로 입력해주세요", lines.get(0).get("message").asText());
+        assertEquals("INVALID", lines.get(1).get("result").asText());
+        assertEquals("닉네임은 255자 이내로 입력해주세요", lines.get(1).get("message").asText());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 일괄 등록 실패 - CSV 헤더에 필요한 컬럼 없음")
+    public void importUsers_failure_csvHeader() throws Exception {
+        // given
+        String body = """
+                username,nickname
+                Kim,서에 번쩍
+                """;
+
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(post("/api/admin/users/import")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .contentType("text/csv")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("회원 일괄 등록 실패 - 관리자가 아닌 사용자")
+    public void importUsers_failure_forbidden() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(post("/api/admin/users/import")
+                        .content("{\"username\":\"Kim\",\"password\":\"1q2w3e4r#\",\"nickname\":\"서에 번쩍\"}")
+                        .contentType(MediaType.APPLICATION_NDJSON)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 목록 조회 성공 - 커서로 다음 페이지 조회")
+    public void getUsers_success() throws Exception {
+        // given
+        createUser();
+        for (String username : List.of("Kim", "Lee")) {
+            userRepository.saveAndFlush(User.builder()
+                    .username(username)
+                    .password(passwordEncoder.encode("1q2w3e4r#"))
+                    .nickname("서에 번쩍")
+                    .build());
+        }
+
+        // when
+        ResultActions actions1 = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users")
+                        .param("size", "2")));
+        String nextCursor = objectMapper.readTree(actions1.andReturn().getResponse().getContentAsString())
+                .get("nextCursor").asText();
+        ResultActions actions2 = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users")
+                        .param("size", "2")
+                        .param("cursor", nextCursor)));
+
+        // then
+        actions1.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(2))
+                .andExpect(jsonPath("$.users[0].username").value("Hong"))
+                .andExpect(jsonPath("$.users[1].username").value("Kim"))
+                .andExpect(jsonPath("$.users[0].password").doesNotExist());
+        actions2.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(1))
+                .andExpect(jsonPath("$.users[0].username").value("Lee"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 목록 조회 실패 - 잘못된 커서")
+    public void getUsers_failure_badCursor() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(get("/api/admin/users")
+                        .param("cursor", "not-a-cursor")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("회원 목록 조회 실패 - 관리자가 아닌 사용자")
+    public void getUsers_failure_forbidden() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(get("/api/admin/users")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 내보내기 성공 - NDJSON")
+    public void exportUsers_success_ndjson() throws Exception {
+        // given
+        createUser();
+
+        // when
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users/export")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.ndjson\""));
+        List<JsonNode> lines = readLines(actions);
+        assertEquals(2, lines.size());
+        assertEquals("Hong", lines.get(0).get("username").asText());
+        assertEquals("동에 번쩍", lines.get(0).get("nickname").asText());
+        assertTrue(lines.get(0).path("password").isMissingNode());
+        assertTrue(lines.get(1).get("complete").asBoolean()); // 완료 표시
+        assertEquals(1, lines.get(1).get("count").asLong());
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 내보내기 성공 - CSV, gzip 압축")
+    public void exportUsers_success_csvGzip() throws Exception {
+        // given
+        createUser();
+        userRepository.saveAndFlush(User.builder()
+                .username("Kim")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("서에, \"번쩍\"")
+                .build());
+
+        // when
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users/export")
+                        .param("format", "csv")
+                        .param("gzip", "true")));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"));
+        byte[] body = actions.andReturn().getResponse().getContentAsByteArray();
+        List<String> lines;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+        assertEquals(4, lines.size());
+        assertEquals("id,username,nickname,userRole,createdAt", lines.get(0));
+        assertEquals(List.of("Hong", "동에 번쩍", "ROLE_USER"), CsvLineParser.parse(lines.get(1)).subList(1, 4));
+        assertEquals(List.of("Kim", "서에, \"번쩍\"", "ROLE_USER"), CsvLineParser.parse(lines.get(2)).subList(1, 4));
+        assertEquals("#complete,2", lines.get(3)); // 완료 표시
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 내보내기 성공 - CSV, 수식으로 시작하는 필드 앞에 ' 추가")
+    public void exportUsers_success_csvFormulaEscaped() throws Exception {
+        // given
+        userRepository.saveAndFlush(User.builder()
+                .username("Hong")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("=HYPERLINK(\"http://evil\")")
+                .build());
+        userRepository.saveAndFlush(User.builder()
+                .username("Kim")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("-번쩍")
+                .build());
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/admin/users/export")
+                        .param("format", "csv"));
+
+        // then
+        actions.andExpect(status().isOk());
+        List<String> lines = actions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals("'=HYPERLINK(\"http://evil\")", CsvLineParser.parse(lines.get(1)).get(2));
+        assertEquals("'-번쩍", CsvLineParser.parse(lines.get(2)).get(2));
+    }
+
+    @Test
+    @WithCustomMockUser(userRole = UserRole.ROLE_ADMIN)
+    @DisplayName("회원 내보내기 실패 - 지원하지 않는 형식")
+    public void exportUsers_failure_format() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(get("/api/admin/users/export")
+                        .param("format", "xml")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithCustomMockUser
+    @DisplayName("회원 내보내기 실패 - 관리자가 아닌 사용자")
+    public void exportUsers_failure_forbidden() throws Exception {
+        // when
+        ResultActions actions = assertMaxStatements(0, () -> mockMvc.perform(get("/api/admin/users/export")));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,68 @@
+package com.sparta.homework_login.filter;
+
+import com.sparta.homework_login.common.AccessLogWriter;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 필터 체인에서 예외가 전파된 요청을 500으로 기록하는지 확인합니다.
+ * <p>
+ * 성공 요청 샘플링 비율을 0으로 두어, 버퍼에 기록이 남았다면 실패 상태 코드로 기록된 것으로 판단합니다.
+ */
+public class AccessLogFilterTest {
+    private AccessLogWriter accessLogWriter;
+    private AccessLogFilter accessLogFilter;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        accessLogWriter = new AccessLogWriter(true, 16, 0.0);
+        accessLogWriter.shutdown(); // 버퍼에 남은 수를 확인하기 위해 기록 스레드 종료
+        accessLogFilter = new AccessLogFilter(accessLogWriter);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        accessLogWriter.shutdown();
+    }
+
+    @Test
+    @DisplayName("정상 처리된 성공 요청 - 샘플링되지 않으면 기록하지 않음")
+    void doFilter_success() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        accessLogFilter.doFilter(request, response, (req, res) -> {
+        });
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals(0, accessLogWriter.getBufferedCount());
+    }
+
+    @Test
+    @DisplayName("필터 체인에서 예외 전파 - 응답 상태 코드가 200이어도 500으로 기록")
+    void doFilter_failure_exception() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        assertThrows(ServletException.class, () -> accessLogFilter.doFilter(request, response, (req, res) -> {
+            throw new ServletException("handler failed");
+        }));
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals(1, accessLogWriter.getBufferedCount());
+    }
+}
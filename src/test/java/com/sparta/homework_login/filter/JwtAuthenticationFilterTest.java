@@ -0,0 +1,298 @@
+package com.sparta.homework_login.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.PasswordHashExecutor;
+import com.sparta.homework_login.dto.request.SignInRequestDto;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.AuthOutcome;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.repository.UserRepository;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 로그인(login.async.enabled)의 ASYNC 디스패치, 과부하(503 + Retry-After), 응답 시간 초과와
+ * 각 결과가 로그인 감사 로그(login_audit)에 기록되는지 확인합니다.
+ * <p>
+ * 인증은 PasswordHashExecutor 스레드에서 실행되어 테스트 트랜잭션의 데이터를 볼 수 없으므로,
+ * 별도의 메모리 DB(H2)에 사용자를 커밋해 두고 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "login.async.enabled=true",
+        "password.executor.pool-size=1",
+        "password.executor.queue-capacity=1",
+        "spring.datasource.url=jdbc:h2:mem:login-async;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "user.change-log.enabled=false",
+        "login.audit.flush-interval-millis=50"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Timeout(30)
+public class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void createUser() {
+        userRepository.save(User.builder()
+                .username("Hong")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .build());
+    }
+
+    private MvcResult login(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                        .content(objectMapper.writeValueAsString(new SignInRequestDto(username, password)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+    }
+
+    /**
+     * 해시 스레드가 결과를 담아 디스패치할 때까지 기다린 뒤, 같은 요청으로 ASYNC 디스패치를 실행합니다.
+     */
+    private ResultActions asyncDispatch(MvcResult mvcResult) throws Exception {
+        MockHttpServletRequest request = mvcResult.getRequest();
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        await(() -> asyncContext.getDispatchedPath() != null);
+        return mockMvc.perform(servletContext -> {
+            request.setDispatcherType(DispatcherType.ASYNC);
+            request.setAsyncStarted(false);
+            return request;
+        });
+    }
+
+    /**
+     * 해시 스레드 풀이 비면, 스레드 1개를 붙잡아 두는 작업을 tasks개 제출합니다. (스레드 1개 + 대기 큐 1개)
+     */
+    private CountDownLatch occupyHashThreads(int tasks) throws InterruptedException {
+        await(() -> passwordHashExecutor.getActiveCount() == 0 && passwordHashExecutor.getQueueDepth() == 0);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < tasks; i++) {
+            passwordHashExecutor.execute(() -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        return release;
+    }
+
+    private long countAudits(AuthOutcome outcome, ErrorCode errorCode) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from login_audit where outcome = ? and coalesce(error_code, '') = ?",
+                Long.class, outcome.name(), errorCode != null ? errorCode.name() : "");
+    }
+
+    /**
+     * 감사 로그는 별도 스레드에서 배치로 저장되므로, 해당 결과의 행이 before보다 많아질 때까지 기다립니다.
+     */
+    private void awaitAudit(long before, AuthOutcome outcome, ErrorCode errorCode) throws InterruptedException {
+        await(() -> countAudits(outcome, errorCode) > before);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("제한 시간 안에 조건을 만족하지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 로그인 성공 - 해시 스레드에서 인증 후 ASYNC 디스패치로 응답")
+    public void login_success_async() throws Exception {
+        // given
+        long audits = countAudits(AuthOutcome.LOGIN_SUCCEEDED, null);
+
+        // when
+        MvcResult mvcResult = login("Hong", "1q2w3e4r#");
+
+        // then
+        assertTrue(mvcResult.getRequest().isAsyncStarted());
+        asyncDispatch(mvcResult).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Authorization"));
+        awaitAudit(audits, AuthOutcome.LOGIN_SUCCEEDED, null);
+    }
+
+    @Test
+    @DisplayName("비동기 로그인 실패 - 비밀번호 불일치")
+    public void login_failure_async_notMatchPassword() throws Exception {
+        // given
+        long audits = countAudits(AuthOutcome.LOGIN_FAILED, ErrorCode.USER_PASSWORD_NOT_MATCH);
+
+        // when
+        MvcResult mvcResult = login("Hong", "1q2w3e4r");
+
+        // then
+        asyncDispatch(mvcResult).andDo(print())
+                .andExpect(status().isUnauthorized());
+        awaitAudit(audits, AuthOutcome.LOGIN_FAILED, ErrorCode.USER_PASSWORD_NOT_MATCH);
+    }
+
+    @Test
+    @DisplayName("비동기 로그인 실패 - 잘못된 JSON은 해시 스레드에 제출하지 않고 실패로 기록")
+    public void login_failure_async_invalidJson() throws Exception {
+        // given
+        long audits = countAudits(AuthOutcome.LOGIN_FAILED, ErrorCode.JSON_INVALID);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/auth/login")
+                        .content("{\"username\":")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        // then
+        assertEquals(400, mvcResult.getResponse().getStatus());
+        awaitAudit(audits, AuthOutcome.LOGIN_FAILED, ErrorCode.JSON_INVALID);
+    }
+
+    @Test
+    @DisplayName("동기 로그인 실패 - 잘못된 JSON도 실패로 기록")
+    public void login_failure_sync_invalidJson() throws Exception {
+        // given
+        long audits = countAudits(AuthOutcome.LOGIN_FAILED, ErrorCode.JSON_INVALID);
+
+        // when (비동기를 지원하지 않는 요청은 요청 처리 스레드에서 인증)
+        MvcResult mvcResult = mockMvc.perform(post("/api/auth/login")
+                        .content("{\"username\":")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(request -> {
+                            request.setAsyncSupported(false);
+                            return request;
+                        }))
+                .andReturn();
+
+        // then
+        assertEquals(400, mvcResult.getResponse().getStatus());
+        awaitAudit(audits, AuthOutcome.LOGIN_FAILED, ErrorCode.JSON_INVALID);
+    }
+
+    @Test
+    @DisplayName("동기 로그인 성공 - 토큰 발급 후 성공으로 기록")
+    public void login_success_sync() throws Exception {
+        // given
+        long audits = countAudits(AuthOutcome.LOGIN_SUCCEEDED, null);
+
+        // when
+        ResultActions actions = mockMvc.perform(post("/api/auth/login")
+                .content(objectMapper.writeValueAsString(new SignInRequestDto("Hong", "1q2w3e4r#")))
+                .contentType(MediaType.APPLICATION_JSON)
+                .with(request -> {
+                    request.setAsyncSupported(false);
+                    return request;
+                }));
+
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(header().exists("Authorization"));
+        awaitAudit(audits, AuthOutcome.LOGIN_SUCCEEDED, null);
+    }
+
+    @Test
+    @DisplayName("비동기 로그인 실패 - 해시 대기 큐가 가득 차면 503 + Retry-After")
+    public void login_failure_queueFull() throws Exception {
+        // given
+        CountDownLatch release = occupyHashThreads(2);
+        long audits = countAudits(AuthOutcome.LOGIN_FAILED, ErrorCode.SERVICE_BUSY);
+
+        try {
+            // when
+            MvcResult mvcResult = login("Hong", "1q2w3e4r#");
+
+            // then
+            assertEquals(503, mvcResult.getResponse().getStatus());
+            assertEquals("1", mvcResult.getResponse().getHeader("Retry-After"));
+            awaitAudit(audits, AuthOutcome.LOGIN_FAILED, ErrorCode.SERVICE_BUSY);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 로그인 실패 - 제한 시간 안에 인증이 끝나지 않으면 503 + Retry-After, 대기 중인 인증은 건너뜀")
+    public void login_failure_timeout() throws Exception {
+        // given (스레드를 붙잡아 두어 로그인 작업은 대기 큐에 남음)
+        CountDownLatch release = occupyHashThreads(1);
+        long audits = countAudits(AuthOutcome.LOGIN_FAILED, ErrorCode.SERVICE_BUSY);
+
+        try {
+            MvcResult mvcResult = login("Hong", "1q2w3e4r#");
+            MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+
+            // when (서블릿 컨테이너의 비동기 제한 시간 초과)
+            for (AsyncListener listener : asyncContext.getListeners()) {
+                listener.onTimeout(new AsyncEvent(asyncContext));
+            }
+
+            // then
+            assertEquals(503, mvcResult.getResponse().getStatus());
+            assertEquals("1", mvcResult.getResponse().getHeader("Retry-After"));
+            awaitAudit(audits, AuthOutcome.LOGIN_FAILED, ErrorCode.SERVICE_BUSY);
+
+            long started = passwordHashExecutor.getStartedCount();
+            release.countDown();
+            // 대기 중이던 로그인 작업이 시작된 뒤 끝날 때까지 대기
+            await(() -> passwordHashExecutor.getStartedCount() == started + 1 && passwordHashExecutor.getActiveCount() == 0);
+            assertNull(asyncContext.getDispatchedPath());
+            assertNull(mvcResult.getRequest().getAttribute(JwtAuthenticationFilter.class.getName() + ".RESULT"));
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sparta.homework_login.filter;
+
+import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.ErrorCode;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static com.sparta.homework_login.common.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * claims 인증 모드(jwt.claims-authentication.enabled)에서 JwtAuthorizationFilter의 인증과 토큰 거부를 확인합니다.
+ */
+@Rollback
+@Transactional
+@SpringBootTest(properties = "jwt.claims-authentication.enabled=true")
+@AutoConfigureMockMvc
+public class JwtAuthorizationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User createUser(UserRole userRole, int tokenVersion) {
+        return userRepository.saveAndFlush(User.builder()
+                .username("Hong-" + UUID.randomUUID().toString().substring(0, 8))
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .userRole(userRole)
+                .tokenVersion(tokenVersion)
+                .build());
+    }
+
+    private String createToken(User user, int tokenVersion) {
+        return jwtUtil.createToken(user.getId(), user.getUserRole(), user.getUsername(), user.getNickname(), tokenVersion);
+    }
+
+    @Test
+    @DisplayName("claims 인증 성공 - 토큰 버전 확인 후에는 사용자 조회 없이 인증")
+    public void authenticate_success_claims() throws Exception {
+        // given
+        User user = createUser(UserRole.ROLE_ADMIN, 0);
+        String bearerToken = createToken(user, 0);
+
+        // when (토큰 버전 최초 조회 1 + 회원 목록 조회 1, 이후에는 회원 목록 조회 1)
+        ResultActions actions1 = assertMaxStatements(2, () -> mockMvc.perform(get("/api/admin/users")
+                        .header("Authorization", bearerToken)));
+        ResultActions actions2 = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users")
+                        .header("Authorization", bearerToken)));
+
+        // then
+        actions1.andDo(print())
+                .andExpect(status().isOk());
+        actions2.andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("claims 인증 실패 - 회원 정보 수정 이전에 발급된 토큰")
+    public void authenticate_failure_outdatedTokenVersion() throws Exception {
+        // given (회원 정보 수정으로 토큰 버전이 1로 올라간 사용자)
+        User user = createUser(UserRole.ROLE_ADMIN, 1);
+        String bearerToken = createToken(user, 0);
+
+        // when
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users")
+                        .header("Authorization", bearerToken)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(ErrorCode.TOKEN_REVOKED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("claims 인증 실패 - 탈퇴한 사용자의 토큰")
+    public void authenticate_failure_deletedUser() throws Exception {
+        // given
+        User user = createUser(UserRole.ROLE_ADMIN, 0);
+        String bearerToken = createToken(user, 0);
+        userRepository.delete(user);
+        userRepository.flush();
+
+        // when
+        ResultActions actions = assertMaxStatements(1, () -> mockMvc.perform(get("/api/admin/users")
+                        .header("Authorization", bearerToken)));
+
+        // then
+        actions.andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(ErrorCode.TOKEN_REVOKED.getMessage()));
+    }
+}
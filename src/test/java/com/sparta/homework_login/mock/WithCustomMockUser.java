@@ -19,4 +19,6 @@ public @interface WithCustomMockUser {
     String nickname() default "동에 번쩍";
 
     UserRole userRole() default UserRole.ROLE_USER;
+
+    int tokenVersion() default 0;
 }
@@ -18,7 +18,8 @@ public class WithCustomMockUserSecurityContextFactory implements
                 annotation.username(),
                 annotation.nickname(),
                 annotation.password(),
-                annotation.userRole());
+                annotation.userRole(),
+                annotation.tokenVersion());
         Authentication auth = new UsernamePasswordAuthenticationToken(
                 userDetails,
                 userDetails.getPassword(),
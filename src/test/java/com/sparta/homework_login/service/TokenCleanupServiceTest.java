@@ -0,0 +1,86 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.entity.RefreshToken;
+import com.sparta.homework_login.entity.RevokedToken;
+import com.sparta.homework_login.repository.RefreshTokenRepository;
+import com.sparta.homework_login.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Rollback
+@Transactional
+@SpringBootTest
+public class TokenCleanupServiceTest {
+
+    @Autowired
+    TokenCleanupService tokenCleanupService;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    RevokedTokenRepository revokedTokenRepository;
+
+    private RefreshToken createRefreshToken(String tokenHash, LocalDateTime expiresAt) {
+        return refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(UUID.randomUUID().toString())
+                .userId(1L)
+                .username("Hong")
+                .tokenVersion(0)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    @Test
+    @DisplayName("만료 토큰 삭제 - 리프레시 토큰은 사용됨 여부와 관계없이 만료된 행만 삭제")
+    void cleanUp_refreshTokens() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken expiredUsed = createRefreshToken("expired-used", now.minusDays(1));
+        createRefreshToken("expired", now.minusSeconds(1));
+        RefreshToken validUsed = createRefreshToken("valid-used", now.plusDays(1));
+        refreshTokenRepository.markUsed(expiredUsed.getId());
+        refreshTokenRepository.markUsed(validUsed.getId()); // 재사용 감지를 위해 만료 전까지 보관
+
+        // when
+        tokenCleanupService.cleanUp(now);
+
+        // then
+        assertEquals(1, refreshTokenRepository.count());
+        assertTrue(refreshTokenRepository.findByTokenHash("valid-used").isPresent());
+        assertFalse(refreshTokenRepository.findByTokenHash("expired-used").isPresent());
+        assertFalse(refreshTokenRepository.findByTokenHash("expired").isPresent());
+    }
+
+    @Test
+    @DisplayName("만료 토큰 삭제 - 만료된 폐기 토큰만 삭제")
+    void cleanUp_revokedTokens() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.save(new RevokedToken("expired", now.minusMinutes(1)));
+        revokedTokenRepository.save(new RevokedToken("valid", now.plusMinutes(30)));
+
+        // when
+        tokenCleanupService.cleanUp(now);
+
+        // then
+        List<String> tokenHashes = revokedTokenRepository.findAll().stream()
+                .map(RevokedToken::getTokenHash)
+                .toList();
+        assertTrue(tokenHashes.contains("valid"));
+        assertFalse(tokenHashes.contains("expired"));
+    }
+}
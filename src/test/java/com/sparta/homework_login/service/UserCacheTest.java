@@ -0,0 +1,125 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.common.ReadYourWritesGuard;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.event.UserChangedEvent;
+import com.sparta.homework_login.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserCache의 변경 이벤트에 따른 무효화와 동시 조회 시 단일 조회(single-flight)를 확인합니다.
+ */
+public class UserCacheTest {
+    private static final String USERNAME = "Hong";
+
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache = new UserCache(userRepository, new ReadYourWritesGuard(5000, 1000), 1000, 300);
+    }
+
+    private UserDetailsImpl createUserDetails(String nickname, int tokenVersion) {
+        return new UserDetailsImpl(1L, USERNAME, nickname, "{noop}1q2w3e4r#", UserRole.ROLE_USER, tokenVersion);
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 이벤트 - 캐시에서 제거 후 다시 조회")
+    void onUserChanged_invalidates() {
+        // given
+        when(userRepository.findUserDetailsByUsername(USERNAME))
+                .thenReturn(Optional.of(createUserDetails("동에 번쩍", 0)))
+                .thenReturn(Optional.of(createUserDetails("서에 번쩍", 1)));
+        userCache.find(USERNAME);
+        userCache.find(USERNAME);
+        verify(userRepository, times(1)).findUserDetailsByUsername(USERNAME);
+        User user = User.builder().id(1L).username(USERNAME).nickname("서에 번쩍").tokenVersion(1).build();
+
+        // when
+        userCache.onUserChanged(UserChangedEvent.updated(user));
+        UserDetailsImpl userDetails = userCache.find(USERNAME).orElseThrow();
+
+        // then
+        verify(userRepository, times(2)).findUserDetailsByUsername(USERNAME);
+        assertEquals("서에 번쩍", userDetails.getNickname());
+        assertEquals(1, userDetails.getTokenVersion());
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 이벤트 - 캐시에서 제거")
+    void onUserChanged_deleted() {
+        // given
+        when(userRepository.findUserDetailsByUsername(USERNAME))
+                .thenReturn(Optional.of(createUserDetails("동에 번쩍", 0)))
+                .thenReturn(Optional.empty());
+        userCache.find(USERNAME);
+        User user = User.builder().id(1L).username(USERNAME).nickname("동에 번쩍").build();
+
+        // when
+        userCache.onUserChanged(UserChangedEvent.deleted(user));
+
+        // then
+        assertTrue(userCache.find(USERNAME).isEmpty());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("동시 조회 - 캐시에 없는 사용자를 동시에 조회해도 DB 조회는 한 번")
+    void find_singleFlight() throws Exception {
+        // given (첫 조회가 끝나지 않도록 DB 조회를 잠시 멈춤)
+        UserDetailsImpl loaded = createUserDetails("동에 번쩍", 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findUserDetailsByUsername(USERNAME)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(loaded);
+        });
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when (첫 조회가 진행되는 동안 나머지 요청도 같은 사용자를 조회)
+        List<Future<Optional<UserDetailsImpl>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> userCache.find(USERNAME)));
+            }
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<Optional<UserDetailsImpl>> result : results) {
+                assertSame(loaded, result.get(5, TimeUnit.SECONDS).orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userRepository, times(1)).findUserDetailsByUsername(USERNAME);
+    }
+}
@@ -0,0 +1,163 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.HomeworkLoginApplication;
+import com.sparta.homework_login.common.JwtUtil;
+import com.sparta.homework_login.common.TokenDenylist;
+import com.sparta.homework_login.common.TokenDigest;
+import com.sparta.homework_login.common.TokenVersionTable;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.dto.request.PasswordCheckRequestDto;
+import com.sparta.homework_login.dto.request.UpdateUserRequestDto;
+import com.sparta.homework_login.dto.security.UserDetailsImpl;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.UserRole;
+import com.sparta.homework_login.repository.RevokedTokenRepository;
+import com.sparta.homework_login.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 같은 메모리 DB(H2)를 공유하는 두 애플리케이션 컨텍스트로 인스턴스 간 캐시 무효화를 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class UserChangeLogMultiNodeTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    void startNodes() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String secretKey = Base64.getEncoder().encodeToString(secret);
+        nodeA = startNode(secretKey, "create");
+        nodeB = startNode(secretKey, "none");
+    }
+
+    @AfterAll
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String secretKey, String ddlAuto) {
+        return new SpringApplicationBuilder(HomeworkLoginApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:change-log;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--jwt.secret.key=" + secretKey,
+                "--user.change-log.poll-interval-millis=50",
+                "--logging.level.root=WARN");
+    }
+
+    private User createUser(String password) {
+        User user = User.builder()
+                .username("Hong-" + UUID.randomUUID().toString().substring(0, 8))
+                .password(nodeA.getBean(PasswordEncoder.class).encode(password))
+                .nickname("동에 번쩍")
+                .build();
+        return nodeA.getBean(UserRepository.class).save(user);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("다른 인스턴스에 변경이 반영되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 회원 정보 수정 반영")
+    void updateUser_invalidatesOtherNode() throws Exception {
+        // given (B가 사용자 정보와 토큰 버전을 캐시에 보관)
+        User user = createUser("1q2w3e4r#");
+        UserCache userCacheB = nodeB.getBean(UserCache.class);
+        TokenVersionTable tokenVersionTableB = nodeB.getBean(TokenVersionTable.class);
+        assertTrue(userCacheB.find(user.getUsername()).isPresent());
+        assertTrue(tokenVersionTableB.isCurrent(user.getId(), 0));
+
+        // when
+        nodeA.getBean(UserService.class).updateUser(user.getUsername(),
+                new UpdateUserRequestDto("1q2w3e4r#", "Admin123!", "서에 번쩍"));
+
+        // then
+        await(() -> !tokenVersionTableB.isCurrent(user.getId(), 0)
+                && "서에 번쩍".equals(userCacheB.find(user.getUsername()).orElseThrow().getNickname()));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 회원 탈퇴 반영")
+    void deleteUser_invalidatesOtherNode() throws Exception {
+        // given
+        User user = createUser("1q2w3e4r#");
+        UserCache userCacheB = nodeB.getBean(UserCache.class);
+        assertTrue(userCacheB.find(user.getUsername()).isPresent());
+        UserDetailsImpl userDetails = nodeA.getBean(UserCache.class).find(user.getUsername()).orElseThrow();
+
+        // when
+        nodeA.getBean(UserService.class).deleteUser(userDetails, new PasswordCheckRequestDto("1q2w3e4r#"));
+
+        // then
+        await(() -> userCacheB.find(user.getUsername()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 로그아웃(토큰 폐기) 반영")
+    void logout_revokesOnOtherNode() throws Exception {
+        // given
+        User user = createUser("1q2w3e4r#");
+        String bearerToken = nodeA.getBean(JwtUtil.class)
+                .createToken(user.getId(), UserRole.ROLE_USER, user.getUsername(), user.getNickname(), 0);
+        String digest = TokenDigest.of(bearerToken.substring("Bearer ".length()));
+        TokenDenylist tokenDenylistB = nodeB.getBean(TokenDenylist.class);
+
+        // when
+        nodeA.getBean(TokenRevocationService.class).logout(bearerToken, null);
+
+        // then
+        await(() -> tokenDenylistB.isRevoked(digest));
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 두 인스턴스에서 로그아웃 - 이미 폐기된 토큰이면 오류 없이 성공")
+    void logout_sameTokenTwice_idempotent() throws Exception {
+        // given (A가 먼저 폐기 토큰을 저장한 뒤 B가 같은 토큰을 저장하는 동시 로그아웃)
+        User user = createUser("1q2w3e4r#");
+        String bearerToken = nodeA.getBean(JwtUtil.class)
+                .createToken(user.getId(), UserRole.ROLE_USER, user.getUsername(), user.getNickname(), 0);
+        String digest = TokenDigest.of(bearerToken.substring("Bearer ".length()));
+        nodeA.getBean(TokenRevocationService.class).logout(bearerToken, null);
+
+        // when
+        nodeB.getBean(TokenRevocationService.class).logout(bearerToken, null);
+
+        // then
+        assertTrue(nodeB.getBean(TokenDenylist.class).isRevoked(digest));
+        assertTrue(nodeB.getBean(RevokedTokenRepository.class).existsByTokenHash(digest));
+    }
+}
@@ -0,0 +1,161 @@
+package com.sparta.homework_login.service;
+
+import com.sparta.homework_login.HomeworkLoginApplication;
+import com.sparta.homework_login.common.TokenVersionTable;
+import com.sparta.homework_login.common.UserCache;
+import com.sparta.homework_login.dto.request.SignUpRequestDto;
+import com.sparta.homework_login.dto.request.UpdateUserRequestDto;
+import com.sparta.homework_login.dto.response.SignUpResponseDto;
+import com.sparta.homework_login.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * primary / replica 메모리 DB(H2)를 공유하는 두 애플리케이션 컨텍스트로, 복제 지연 중 다른 인스턴스의 변경 반영을 확인합니다.
+ * <p>
+ * 복제는 테스트에서 직접 실행하며(replicate), 그 뒤 primary만 바뀐 상태를 복제 지연으로 봅니다.
+ * 변경 로그를 반영한 인스턴스가 캐시를 다시 채울 때 replica의 이전 정보를 읽으면 안 됩니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class UserChangeLogReplicaLagTest {
+    private static final String PRIMARY_URL = "jdbc:h2:mem:lag-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:lag-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    void startNodes() throws SQLException {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String secretKey = Base64.getEncoder().encodeToString(secret);
+        nodeA = startNode(secretKey, "create");
+        nodeB = startNode(secretKey, "none");
+        replicate();
+    }
+
+    @AfterAll
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String secretKey, String ddlAuto) {
+        return new SpringApplicationBuilder(HomeworkLoginApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + PRIMARY_URL,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.replica.url=" + REPLICA_URL,
+                "--spring.datasource.replica.driver-class-name=org.h2.Driver",
+                "--spring.datasource.replica.username=sa",
+                "--spring.datasource.replica.password=",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--jwt.secret.key=" + secretKey,
+                "--user.change-log.poll-interval-millis=50",
+                "--logging.level.root=WARN");
+    }
+
+    /**
+     * primary의 현재 상태를 replica에 그대로 복사합니다.
+     */
+    private void replicate() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet resultSet = statement.executeQuery("SCRIPT")) {
+            while (resultSet.next()) {
+                script.add(resultSet.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private String findNickname(String url, String username) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement statement = connection.prepareStatement("select nickname from user where username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private SignUpResponseDto signUp() throws SQLException {
+        SignUpResponseDto user = nodeA.getBean(UserService.class).signUp(SignUpRequestDto.builder()
+                .username("Hong-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("1q2w3e4r#")
+                .nickname("동에 번쩍")
+                .build());
+        replicate();
+        return user;
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("다른 인스턴스에 변경이 반영되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 회원 정보 수정 반영 - replica 복제 지연 중에도 이전 정보와 토큰 버전을 다시 캐시하지 않음")
+    void updateUser_invalidatesOtherNode_replicaLag() throws Exception {
+        // given (B가 사용자 정보와 토큰 버전을 캐시에 보관)
+        SignUpResponseDto signUp = signUp();
+        String username = signUp.getUserName();
+        Long userId = nodeA.getBean(UserRepository.class).findByUsername(username).orElseThrow().getId();
+        UserCache userCacheB = nodeB.getBean(UserCache.class);
+        TokenVersionTable tokenVersionTableB = nodeB.getBean(TokenVersionTable.class);
+        assertTrue(userCacheB.find(username).isPresent());
+        assertTrue(tokenVersionTableB.isCurrent(userId, 0));
+
+        // when (A에서 수정, replica에는 아직 복제되지 않음)
+        nodeA.getBean(UserService.class).updateUser(username,
+                new UpdateUserRequestDto("1q2w3e4r#", "Admin123!", "서에 번쩍"));
+
+        // then
+        await(() -> !tokenVersionTableB.isCurrent(userId, 0)
+                && "서에 번쩍".equals(userCacheB.find(username).orElseThrow().getNickname()));
+        assertEquals("동에 번쩍", findNickname(REPLICA_URL, username));
+        assertTrue(tokenVersionTableB.isCurrent(userId, 1));
+    }
+}
@@ -0,0 +1,144 @@
+package com.sparta.homework_login.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.homework_login.common.ReadYourWritesGuard;
+import com.sparta.homework_login.dto.response.UserImportSummaryDto;
+import com.sparta.homework_login.entity.User;
+import com.sparta.homework_login.enums.UserFileFormat;
+import com.sparta.homework_login.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sparta.homework_login.common.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 배치 INSERT가 실패했을 때 한 줄씩 다시 저장하는 처리와 대소문자를 구분하지 않는 username 중복 검사를 확인합니다.
+ * <p>
+ * 실패한 저장은 TransactionTemplate 트랜잭션을 롤백하므로 테스트 트랜잭션 없이 별도의 메모리 DB(H2)를 사용합니다.
+ * MySQL 기본 collation과 같이 문자열 비교와 유니크 키가 대소문자를 구분하지 않도록 IGNORECASE로 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;IGNORECASE=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "user.change-log.enabled=false"
+})
+public class UserImportServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void createUser() {
+        userRepository.deleteAll();
+        userRepository.save(User.builder()
+                .username("Hong")
+                .password(passwordEncoder.encode("1q2w3e4r#"))
+                .nickname("동에 번쩍")
+                .build());
+    }
+
+    private String line(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"1q2w3e4r#\",\"nickname\":\"서에 번쩍\"}\n";
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream out) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("회원 일괄 등록 - 배치 INSERT 실패 시 username 유니크 키 위반만 중복, 그 밖의 저장 오류는 잘못된 입력으로 처리")
+    void importUsers_rowByRow_duplicatedOrInvalid() throws IOException {
+        // given (중복 검사와 입력값 검증을 통과한 줄이 DB에서 거절되는 경우: 복제 지연, 검증 규칙과 다른 컬럼 정의 등)
+        UserRepository missingDuplicates = mock(UserRepository.class, delegatesTo(userRepository));
+        doReturn(List.of()).when(missingDuplicates).findUsernamesIn(any());
+        UserImportService fallbackImportService = new UserImportService(missingDuplicates, entityManager, transactionManager,
+                mock(Validator.class), objectMapper, readYourWritesGuard, passwordEncoder, 500, 1, 4096);
+        String body = line("Kim") + line("Hong") + line("K".repeat(User.USERNAME_MAX_LENGTH + 1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        UserImportSummaryDto summary;
+        try {
+            summary = fallbackImportService.importUsers(
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), UserFileFormat.NDJSON, out);
+        } finally {
+            fallbackImportService.shutdown();
+        }
+
+        // then
+        List<JsonNode> lines = readLines(out);
+        assertEquals("CREATED", lines.get(0).get("result").asText());
+        assertEquals("DUPLICATED", lines.get(1).get("result").asText());
+        assertEquals("INVALID", lines.get(2).get("result").asText());
+        assertEquals(1, summary.getCreated());
+        assertEquals(1, summary.getDuplicated());
+        assertEquals(1, summary.getInvalid());
+        assertTrue(userRepository.findByUsername("Kim").isPresent());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 등록 - username 중복은 대소문자를 구분하지 않고 배치 INSERT 전에 확인")
+    void importUsers_duplicated_ignoreCase() throws Exception {
+        // given
+        String body = line("hong") + line("Kim") + line("KIM");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when (중복 검사 IN 조회 1 + ID 블록 할당 1 + 배치 INSERT 1, 한 줄씩 다시 저장하지 않음)
+        UserImportSummaryDto summary = assertMaxStatements(3, () -> userImportService.importUsers(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), UserFileFormat.NDJSON, out));
+
+        // then
+        List<JsonNode> lines = readLines(out);
+        assertEquals("DUPLICATED", lines.get(0).get("result").asText());
+        assertEquals("CREATED", lines.get(1).get("result").asText());
+        assertEquals("DUPLICATED", lines.get(2).get("result").asText());
+        assertEquals(1, summary.getCreated());
+        assertEquals(2, summary.getDuplicated());
+    }
+}
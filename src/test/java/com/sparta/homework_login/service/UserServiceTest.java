@@ -1,5 +1,7 @@
 package com.sparta.homework_login.service;
 
+import com.sparta.homework_login.common.ReadYourWritesGuard;
+import com.sparta.homework_login.common.UserCache;
 import com.sparta.homework_login.common.UserValidationCheck;
 import com.sparta.homework_login.dto.request.PasswordCheckRequestDto;
 import com.sparta.homework_login.dto.request.SignUpRequestDto;
@@ -17,12 +19,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.sparta.homework_login.common.SqlStatementAssertions.assertMaxStatements;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -41,6 +46,15 @@ public class UserServiceTest {
     @Autowired
     UserValidationCheck userValidationCheck;
 
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    UserCache userCache;
+
+    @Autowired
+    ReadYourWritesGuard readYourWritesGuard;
+
     UserService userService;
 
     private SignUpRequestDto createSignUpRequestDto(String username, String password, String nickname) {
@@ -67,12 +81,13 @@ public class UserServiceTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository, passwordEncoder, userValidationCheck);
+        userCache.invalidateAll(); // 롤백된 이전 테스트의 사용자 정보 제거
+        userService = new UserService(userRepository, passwordEncoder, userValidationCheck, eventPublisher, readYourWritesGuard);
     }
 
     @Test
     @DisplayName("회원 가입 성공")
-    void signUp_success() {
+    void signUp_success() throws Exception {
         // given
         SignUpRequestDto requestDto = createSignUpRequestDto(
                 "Hong",
@@ -80,8 +95,8 @@ public class UserServiceTest {
                 "동에 번쩍"
         );
 
-        // when
-        SignUpResponseDto responseDto = userService.signUp(requestDto);
+        // when (ID 블록 할당 1 포함, User.ID_ALLOCATION_SIZE건마다 1회)
+        SignUpResponseDto responseDto = assertMaxStatements(3, () -> userService.signUp(requestDto));
 
         // then
         assertEquals(responseDto.getUserName(), requestDto.getUsername());
@@ -117,9 +132,39 @@ public class UserServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("회원 가입 실패 - 중복 확인에서 놓친 이름은 유니크 인덱스로 거부 (replica 복제 지연)")
+    void signUp_failure_duplicateUsername_missedByCheck() {
+        // given (중복 확인이 아직 복제되지 않은 replica를 읽어 기존 사용자를 찾지 못하는 상황)
+        UserValidationCheck laggingCheck = new UserValidationCheck(passwordEncoder, userRepository, userCache) {
+            @Override
+            public void duplicationUser(String username) {
+            }
+        };
+        UserService laggingUserService = new UserService(userRepository, passwordEncoder, laggingCheck, eventPublisher, readYourWritesGuard);
+        laggingUserService.signUp(createSignUpRequestDto("Hong", "1q2w3e4r#", "동에 번쩍"));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                laggingUserService.signUp(createSignUpRequestDto("Hong", "1q2w3e4r#", "서에 번쩍")));
+
+        // then
+        assertEquals(ErrorCode.USER_DUPLICATED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - username 중복이 아닌 저장 오류는 중복으로 바꾸지 않음")
+    void signUp_failure_tooLongUsername_notDuplicated() {
+        // given (컨트롤러의 입력값 검증을 거치지 않고 컬럼 길이를 넘는 이름을 저장)
+        SignUpRequestDto requestDto = createSignUpRequestDto("H".repeat(User.USERNAME_MAX_LENGTH + 1), "1q2w3e4r#", "동에 번쩍");
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> userService.signUp(requestDto));
+    }
+
     @Test
     @DisplayName("회원 수정 성공")
-    void updateUser_success() {
+    void updateUser_success() throws Exception {
         // given
         SignUpRequestDto createDto = createSignUpRequestDto(
                 "Hong",
@@ -136,7 +181,7 @@ public class UserServiceTest {
         // when
         userService.signUp(createDto);
         User user = findUser(createDto.getUsername());
-        UpdateUserResponseDto responseDto = userService.updateUser(user.getUsername(), updateDto);
+        UpdateUserResponseDto responseDto = assertMaxStatements(3, () -> userService.updateUser(user.getUsername(), updateDto)); // 변경 로그 저장 1 포함
 
         // then
         assertEquals(responseDto.getUserName(), createDto.getUsername());
@@ -176,7 +221,7 @@ public class UserServiceTest {
     @Test
     @WithCustomMockUser
     @DisplayName("회원 탈퇴 성공")
-    void deleteUser_success() {
+    void deleteUser_success() throws Exception {
         // given
         SignUpRequestDto createDto = createSignUpRequestDto(
                 "Hong",
@@ -195,7 +240,7 @@ public class UserServiceTest {
                 .getAuthentication()
                 .getPrincipal();
 
-        userService.deleteUser(userDetails, deleteDto);
+        assertMaxStatements(3, () -> userService.deleteUser(userDetails, deleteDto)); // 변경 로그 저장 1 포함
         Exception exception = assertThrows(BusinessException.class, () -> {
             findUser(createDto.getUsername());
         });